@@ -0,0 +1,83 @@
+package com.ozi.notification.infrastructure.service;
+
+import com.ozi.notification.domain.NoopPipelineMetrics;
+import com.ozi.notification.domain.Notification;
+import com.ozi.notification.domain.NotificationException;
+import com.ozi.notification.domain.NotificationService;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.infrastructure.config.CircuitBreakerProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-send routing overhead of NotificationServiceProviderImpl
+ * against the previous stream/canHandle scan over all registered services.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=NotificationRoutingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationRoutingBenchmark {
+
+    @Param({"PUSH", "WHATSAPP"})
+    private NotificationType type;
+
+    private List<NotificationService> services;
+    private NotificationServiceProviderImpl provider;
+    private Notification notification;
+
+    @Setup
+    public void setUp() {
+        services = List.of(
+                new StubService(NotificationType.PUSH),
+                new StubService(NotificationType.WHATSAPP)
+        );
+        provider = new NotificationServiceProviderImpl(services, new CircuitBreakerProperties(),
+                new NoopPipelineMetrics());
+        notification = Notification.create(type, "user-1", "title", "message");
+    }
+
+    @Benchmark
+    public Notification enumMapRouting() throws NotificationException {
+        return provider.sendNotification(notification);
+    }
+
+    @Benchmark
+    public Notification streamRouting() throws NotificationException {
+        NotificationService service = services.stream()
+                .filter(s -> s.canHandle(notification.getType()))
+                .findFirst()
+                .orElseThrow(() -> new NotificationException(
+                        "No notification service found for type: " + notification.getType(),
+                        notification.getId(),
+                        notification.getType()
+                ));
+        service.getClass().getSimpleName();
+        return service.sendNotification(notification);
+    }
+
+    /**
+     * Provider stand-in that returns the notification untouched so only routing is measured.
+     */
+    private static final class StubService implements NotificationService {
+
+        private final NotificationType handledType;
+
+        private StubService(NotificationType handledType) {
+            this.handledType = handledType;
+        }
+
+        @Override
+        public Notification sendNotification(Notification notification) {
+            return notification;
+        }
+
+        @Override
+        public boolean canHandle(NotificationType type) {
+            return type == handledType;
+        }
+    }
+}
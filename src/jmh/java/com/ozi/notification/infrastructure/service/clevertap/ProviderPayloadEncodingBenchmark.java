@@ -0,0 +1,132 @@
+package com.ozi.notification.infrastructure.service.clevertap;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozi.notification.domain.Notification;
+import com.ozi.notification.domain.NotificationPriority;
+import com.ozi.notification.domain.NotificationStatus;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.domain.StockNotificationEvent;
+import com.ozi.notification.infrastructure.service.payload.JsonPayloadWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-send payload encoding cost of the previous map-based payloads
+ * (nested HashMaps, serialized once for the debug log argument and once by the
+ * WebClient encoder) with the streaming CleverTap payload writers.
+ *
+ * Run with the GC profiler (configured in build.gradle) and compare gc.alloc.rate.norm:
+ * ./gradlew jmh -PjmhIncludes=ProviderPayloadEncodingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProviderPayloadEncodingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonFactory jsonFactory = objectMapper.getFactory();
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    private Notification notification;
+    private StockNotificationEvent event;
+
+    @Setup
+    public void setUp() {
+        notification = Notification.builder()
+                .id("5f0c8a52-8f4e-4d4b-9a55-1d7f3c0e2b11")
+                .type(NotificationType.PUSH)
+                .recipient("user-1234567")
+                .title("Your order is on the way")
+                .message("Order #100045 has been dispatched and will arrive today")
+                .deepLink("ozi://orders/100045")
+                .data(Map.of("orderId", "100045", "campaign", "order_dispatched"))
+                .priority(NotificationPriority.NORMAL)
+                .status(NotificationStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        event = StockNotificationEvent.create(
+                "msg-1", "group-1", "user-1234567", null, 98765L, "SKU-98765",
+                "product", "notification", "back_in_stock", Map.of());
+    }
+
+    @Benchmark
+    public byte[] externalTriggerLegacyMaps() throws JsonProcessingException {
+        Map<String, Object> kvs = new HashMap<>();
+        kvs.put("wzrk_title", notification.getTitle());
+        kvs.put("wzrk_body", notification.getMessage());
+        kvs.put("wzrk_dl", notification.getDeepLink());
+        notification.getData().forEach((key, value) -> {
+            if (value != null) {
+                kvs.put(key, value);
+            }
+        });
+
+        Map<String, Object> externalTrigger = new HashMap<>();
+        Map<String, Object> to = new HashMap<>();
+        to.put("Identity", new String[]{notification.getRecipient()});
+        externalTrigger.put("to", to);
+        externalTrigger.put("kvs", kvs);
+
+        Map<String, Object> requestPayload = new HashMap<>();
+        requestPayload.put("ExternalTrigger", new Object[]{externalTrigger});
+
+        // Debug log argument, evaluated even with debug logging off
+        objectMapper.writeValueAsString(requestPayload);
+        return objectMapper.writeValueAsBytes(requestPayload);
+    }
+
+    @Benchmark
+    public DataBuffer externalTriggerStreaming() throws IOException {
+        return write(CleverTapPayloadWriters.EXTERNAL_TRIGGER, notification);
+    }
+
+    @Benchmark
+    public byte[] stockEventLegacyMaps() throws JsonProcessingException {
+        Map<String, Object> evtData = new HashMap<>();
+        evtData.put("notification_type", "BACK_IN_STOCK");
+        evtData.put("stock_status", "available");
+        evtData.put("productId", String.valueOf(event.getItemId()));
+        evtData.put("sku", event.getSku());
+        evtData.put("screen", event.getScreen());
+        evtData.put("sourceType", event.getSourceType());
+        evtData.put("sourceName", event.getSourceName());
+
+        Map<String, Object> eventPayload = new HashMap<>();
+        eventPayload.put("identity", event.getEffectiveRecipientId());
+        eventPayload.put("type", "event");
+        eventPayload.put("evtName", "stock_status_changed");
+        eventPayload.put("evtData", evtData);
+        eventPayload.put("ts", Instant.now().getEpochSecond());
+
+        Map<String, Object> requestPayload = new HashMap<>();
+        requestPayload.put("d", new Object[]{eventPayload});
+
+        objectMapper.writeValueAsString(requestPayload);
+        return objectMapper.writeValueAsBytes(requestPayload);
+    }
+
+    @Benchmark
+    public DataBuffer stockEventStreaming() throws IOException {
+        return write(CleverTapPayloadWriters.STOCK_STATUS_CHANGED, event);
+    }
+
+    private <T> DataBuffer write(JsonPayloadWriter<T> writer, T value) throws IOException {
+        DataBuffer buffer = bufferFactory.allocateBuffer(512);
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer.asOutputStream())) {
+            writer.write(generator, value);
+        }
+        return buffer;
+    }
+}
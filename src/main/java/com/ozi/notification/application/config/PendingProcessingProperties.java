@@ -0,0 +1,24 @@
+package com.ozi.notification.application.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for processing the pending notification backlog.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.pending")
+@Data
+public class PendingProcessingProperties {
+
+    /**
+     * Notifications claimed and written back per batch
+     */
+    private int batchSize = 200;
+
+    /**
+     * Maximum number of provider calls in flight, shared by concurrent runs
+     */
+    private int parallelism = 16;
+}
@@ -0,0 +1,27 @@
+package com.ozi.notification.application.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * DTO for sending a batch of notifications in one request.
+ */
+@Value
+@Builder
+public class BatchSendNotificationRequestDto {
+
+    /**
+     * Largest batch accepted in one request
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    @NotEmpty(message = "At least one notification is required")
+    @Size(max = MAX_BATCH_SIZE, message = "At most " + MAX_BATCH_SIZE + " notifications per batch")
+    @Valid
+    List<SendNotificationRequestDto> notifications;
+}
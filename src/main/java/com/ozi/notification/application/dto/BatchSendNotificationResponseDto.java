@@ -0,0 +1,25 @@
+package com.ozi.notification.application.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * DTO for batch notification sending responses.
+ */
+@Value
+@Builder
+public class BatchSendNotificationResponseDto {
+
+    int totalRequested;
+
+    int totalSent;
+
+    /**
+     * Result for each notification, in request order
+     */
+    List<SendNotificationResponseDto> results;
+
+    String timestamp;
+}
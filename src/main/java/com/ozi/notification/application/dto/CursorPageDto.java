@@ -0,0 +1,46 @@
+package com.ozi.notification.application.dto;
+
+import com.ozi.notification.domain.CursorPage;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DTO for one page of a cursor-paginated listing.
+ *
+ * @param <T> The item type
+ */
+@Value
+@Builder
+public class CursorPageDto<T> {
+
+    /**
+     * Default page size of listing endpoints
+     */
+    public static final int DEFAULT_LIMIT = 50;
+
+    /**
+     * Largest page size accepted by listing endpoints
+     */
+    public static final int MAX_LIMIT = 500;
+
+    List<T> items;
+
+    /**
+     * Pass as the cursor parameter to fetch the next page; null on the last page
+     */
+    String nextCursor;
+
+    /**
+     * Converts a domain page, mapping each item.
+     */
+    public static <S, T> CursorPageDto<T> fromDomain(CursorPage<S> page, Function<S, T> mapper) {
+        return CursorPageDto.<T>builder()
+                .items(page.getItems().stream().map(mapper).collect(Collectors.toList()))
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+}
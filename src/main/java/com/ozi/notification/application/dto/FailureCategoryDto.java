@@ -0,0 +1,43 @@
+package com.ozi.notification.application.dto;
+
+import com.ozi.notification.domain.FailureSummary;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * DTO representing the failures of one error class in batch processing responses.
+ */
+@Value
+@Builder
+public class FailureCategoryDto {
+
+    String errorClass;
+
+    int count;
+
+    List<Sample> samples;
+
+    /**
+     * Converts a domain FailureSummary.Category to a FailureCategoryDto.
+     */
+    public static FailureCategoryDto fromDomain(FailureSummary.Category category) {
+        return FailureCategoryDto.builder()
+                .errorClass(category.getErrorClass())
+                .count(category.getCount())
+                .samples(category.getSamples().stream()
+                        .map(sample -> new Sample(sample.getId(), sample.getMessage()))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * One sample failure.
+     */
+    @Value
+    public static class Sample {
+        String id;
+        String message;
+    }
+}
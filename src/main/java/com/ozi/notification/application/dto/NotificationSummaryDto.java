@@ -0,0 +1,53 @@
+package com.ozi.notification.application.dto;
+
+import com.ozi.notification.domain.NotificationPriority;
+import com.ozi.notification.domain.NotificationStatus;
+import com.ozi.notification.domain.NotificationSummary;
+import com.ozi.notification.domain.NotificationType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO representing a notification in listing responses.
+ */
+@Value
+@Builder
+public class NotificationSummaryDto {
+
+    String id;
+
+    NotificationType type;
+
+    String recipient;
+
+    String title;
+
+    NotificationPriority priority;
+
+    NotificationStatus status;
+
+    LocalDateTime createdAt;
+
+    LocalDateTime sentAt;
+
+    String errorMessage;
+
+    /**
+     * Converts a domain NotificationSummary to a NotificationSummaryDto.
+     */
+    public static NotificationSummaryDto fromDomain(NotificationSummary summary) {
+        return NotificationSummaryDto.builder()
+                .id(summary.getId())
+                .type(summary.getType())
+                .recipient(summary.getRecipient())
+                .title(summary.getTitle())
+                .priority(summary.getPriority())
+                .status(summary.getStatus())
+                .createdAt(summary.getCreatedAt())
+                .sentAt(summary.getSentAt())
+                .errorMessage(summary.getErrorMessage())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ozi.notification.application.dto;
+
+import com.ozi.notification.domain.NotificationPriority;
+import com.ozi.notification.domain.NotificationType;
+import lombok.Builder;
+import lombok.Value;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO for scheduling notification requests.
+ */
+@Value
+@Builder
+public class ScheduleNotificationRequestDto {
+
+    @NotNull(message = "Notification type is required")
+    NotificationType type;
+
+    @NotBlank(message = "Recipient is required")
+    String recipient;
+
+    @NotBlank(message = "Title is required")
+    String title;
+
+    @NotBlank(message = "Message is required")
+    String message;
+
+    Map<String, String> data;
+
+    String deepLink;
+
+    @Builder.Default
+    NotificationPriority priority = NotificationPriority.NORMAL;
+
+    /**
+     * When to send the notification; times in the past are sent immediately.
+     * When omitted, the recipient's next preferred local delivery time is used (PUSH and WHATSAPP only)
+     */
+    LocalDateTime scheduledTime;
+}
@@ -0,0 +1,69 @@
+package com.ozi.notification.application.dto;
+
+import com.ozi.notification.domain.NotificationPriority;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.domain.ScheduledNotification;
+import com.ozi.notification.domain.ScheduledNotificationStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO representing a scheduled notification for API responses.
+ */
+@Value
+@Builder
+public class ScheduledNotificationDto {
+
+    String id;
+
+    NotificationType type;
+
+    String recipient;
+
+    String title;
+
+    String message;
+
+    Map<String, String> data;
+
+    String deepLink;
+
+    NotificationPriority priority;
+
+    LocalDateTime scheduledTime;
+
+    ScheduledNotificationStatus status;
+
+    LocalDateTime createdAt;
+
+    LocalDateTime sentAt;
+
+    String errorMessage;
+
+    int retryCount;
+
+    /**
+     * Converts a domain ScheduledNotification to a ScheduledNotificationDto.
+     */
+    public static ScheduledNotificationDto fromDomain(ScheduledNotification scheduledNotification) {
+        return ScheduledNotificationDto.builder()
+                .id(scheduledNotification.getId())
+                .type(scheduledNotification.getType())
+                .recipient(scheduledNotification.getRecipient())
+                .title(scheduledNotification.getTitle())
+                .message(scheduledNotification.getMessage())
+                .data(scheduledNotification.getData())
+                .deepLink(scheduledNotification.getDeepLink())
+                .priority(scheduledNotification.getPriority())
+                .scheduledTime(scheduledNotification.getScheduledTime())
+                .status(scheduledNotification.getStatus())
+                .createdAt(scheduledNotification.getCreatedAt())
+                .sentAt(scheduledNotification.getSentAt())
+                .errorMessage(scheduledNotification.getErrorMessage())
+                .retryCount(scheduledNotification.getRetryCount())
+                .build();
+    }
+}
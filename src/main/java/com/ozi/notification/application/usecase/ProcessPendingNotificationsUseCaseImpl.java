@@ -1,104 +1,164 @@
 package com.ozi.notification.application.usecase;
 
+import com.ozi.notification.application.config.PendingProcessingProperties;
 import com.ozi.notification.domain.*;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implementation of the ProcessPendingNotificationsUseCase.
  * This handles batch processing of pending notifications from the database.
+ * The backlog is drained in claimed batches: each batch is claimed atomically
+ * (PENDING to PROCESSING, skipping rows claimed elsewhere), sent with bounded
+ * parallelism and written back with one batched update, so concurrent runs on
+ * any number of instances never send a notification twice and memory use does
+ * not grow with the backlog. Notifications deferred because their provider is
+ * unavailable are left out of claims for a while, so they do not hold up the
+ * notifications of other providers queued behind them.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ProcessPendingNotificationsUseCaseImpl implements ProcessPendingNotificationsUseCase {
 
+    /**
+     * Error class of notifications the provider marked as failed without throwing
+     */
+    static final String PROVIDER_REJECTED = "ProviderRejected";
+
     private final NotificationRepository notificationRepository;
     private final NotificationServiceProvider notificationServiceProvider;
+    private final NotificationHistoryRecorder notificationHistoryRecorder;
+    private final int batchSize;
+    private final ExecutorService sender;
+
+    public ProcessPendingNotificationsUseCaseImpl(NotificationRepository notificationRepository,
+                                                  NotificationServiceProvider notificationServiceProvider,
+                                                  NotificationHistoryRecorder notificationHistoryRecorder,
+                                                  PendingProcessingProperties properties) {
+        this.notificationRepository = notificationRepository;
+        this.notificationServiceProvider = notificationServiceProvider;
+        this.notificationHistoryRecorder = notificationHistoryRecorder;
+        this.batchSize = properties.getBatchSize();
+
+        AtomicInteger senderThreads = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(properties.getParallelism(), r -> {
+            Thread thread = new Thread(r, "pending-notification-sender-" + senderThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
+    }
 
     @Override
     public ProcessPendingNotificationsResult execute() {
         log.info("Starting batch processing of pending notifications");
 
-        List<Notification> pendingNotifications = notificationRepository.findByStatus(NotificationStatus.PENDING);
-
-        if (pendingNotifications.isEmpty()) {
-            log.info("No pending notifications found");
-            return new ProcessPendingNotificationsResultImpl(0, 0, 0, List.of(), List.of());
-        }
-
-        log.info("Found {} pending notifications to process", pendingNotifications.size());
-
         int totalProcessed = 0;
         int totalSuccessful = 0;
         int totalFailed = 0;
-        List<String> failedNotificationIds = new ArrayList<>();
-        List<String> errorMessages = new ArrayList<>();
-
-        for (Notification notification : pendingNotifications) {
-            try {
-                log.debug("Processing notification ID: {}", notification.getId());
-
-                // Update status to processing
-                notificationRepository.updateStatus(notification.getId(), NotificationStatus.PROCESSING);
-
-                // Send the notification
-                Notification sentNotification = notificationServiceProvider.sendNotification(notification);
-
-                // Save the result
-                notificationRepository.save(sentNotification);
-
-                totalSuccessful++;
-                log.debug("Successfully processed notification ID: {}", notification.getId());
-
-            } catch (NotificationException e) {
-                log.error("Failed to send notification ID: {}: {}", notification.getId(), e.getMessage());
-
-                // Update status to failed
-                notificationRepository.updateStatusWithError(
-                    notification.getId(),
-                    NotificationStatus.FAILED,
-                    e.getMessage()
-                );
-
-                totalFailed++;
-                failedNotificationIds.add(notification.getId());
-                errorMessages.add(e.getMessage());
-
-            } catch (Exception e) {
-                log.error("Unexpected error processing notification ID: {}: {}", notification.getId(), e.getMessage(), e);
-
-                String errorMsg = "Unexpected error: " + e.getMessage();
-                notificationRepository.updateStatusWithError(
-                    notification.getId(),
-                    NotificationStatus.FAILED,
-                    errorMsg
-                );
-
-                totalFailed++;
-                failedNotificationIds.add(notification.getId());
-                errorMessages.add(errorMsg);
+        int totalDeferred = 0;
+        FailureSummary failures = new FailureSummary();
+
+        List<Notification> claimed;
+        while (!(claimed = notificationRepository.claimPending(batchSize)).isEmpty()) {
+            log.debug("Claimed {} pending notifications", claimed.size());
+
+            List<CompletableFuture<SendOutcome>> sends = claimed.stream()
+                    .map(notification -> CompletableFuture.supplyAsync(() -> send(notification), sender))
+                    .toList();
+            List<SendOutcome> outcomes = sends.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+            List<Notification> results = outcomes.stream()
+                    .map(SendOutcome::getNotification)
+                    .toList();
+
+            notificationRepository.saveResults(results);
+
+            for (SendOutcome outcome : outcomes) {
+                Notification result = outcome.getNotification();
+                totalProcessed++;
+                switch (result.getStatus()) {
+                    case PENDING -> totalDeferred++;
+                    case FAILED -> {
+                        totalFailed++;
+                        failures.add(outcome.getErrorClass(), result.getId(), result.getErrorMessage());
+                    }
+                    default -> {
+                        totalSuccessful++;
+                        if (result.getStatus() == NotificationStatus.SENT) {
+                            notificationHistoryRecorder.record(NotificationHistoryEntry.fromNotification(result));
+                        }
+                    }
+                }
             }
+        }
 
-            totalProcessed++;
+        if (totalProcessed == 0) {
+            log.info("No pending notifications found");
         }
 
-        log.info("Completed batch processing. Processed: {}, Successful: {}, Failed: {}",
-                totalProcessed, totalSuccessful, totalFailed);
+        log.info("Completed batch processing. Processed: {}, Successful: {}, Failed: {}, Deferred: {}",
+                totalProcessed, totalSuccessful, totalFailed, totalDeferred);
 
         return new ProcessPendingNotificationsResultImpl(
                 totalProcessed,
                 totalSuccessful,
                 totalFailed,
-                failedNotificationIds,
-                errorMessages
+                totalDeferred,
+                failures.getSampleIds(),
+                failures.getSampleMessages(),
+                failures.getCategories()
         );
     }
 
+    /**
+     * Sends a claimed notification and returns it with its outcome; never throws.
+     */
+    private SendOutcome send(Notification notification) {
+        try {
+            log.debug("Processing notification ID: {}", notification.getId());
+            return new SendOutcome(notificationServiceProvider.sendNotification(notification), PROVIDER_REJECTED);
+
+        } catch (ProviderUnavailableException e) {
+            log.warn("Provider unavailable, returning notification ID: {} to pending: {}",
+                    notification.getId(), e.getMessage());
+
+            // Leave it for a later run instead of failing it
+            return new SendOutcome(notification.markAsPending(e.getMessage()), null);
+
+        } catch (NotificationException e) {
+            log.error("Failed to send notification ID: {}: {}", notification.getId(), e.getMessage());
+            return new SendOutcome(notification.markAsFailed(e.getMessage()), FailureSummary.errorClass(e));
+
+        } catch (Exception e) {
+            log.error("Unexpected error processing notification ID: {}: {}", notification.getId(), e.getMessage(), e);
+            return new SendOutcome(notification.markAsFailed("Unexpected error: " + e.getMessage()),
+                    FailureSummary.errorClass(e));
+        }
+    }
+
+    /**
+     * A notification after sending, with the error class to count it under if it failed.
+     */
+    @Value
+    private static class SendOutcome {
+        Notification notification;
+        String errorClass;
+    }
+
     /**
      * Implementation of ProcessPendingNotificationsResult.
      */
@@ -107,17 +167,23 @@ public class ProcessPendingNotificationsUseCaseImpl implements ProcessPendingNot
         private final int totalProcessed;
         private final int totalSuccessful;
         private final int totalFailed;
+        private final int totalDeferred;
         private final List<String> failedNotificationIds;
         private final List<String> errorMessages;
+        private final List<FailureSummary.Category> failureCategories;
 
         public ProcessPendingNotificationsResultImpl(int totalProcessed, int totalSuccessful,
-                                                   int totalFailed, List<String> failedNotificationIds,
-                                                   List<String> errorMessages) {
+                                                   int totalFailed, int totalDeferred,
+                                                   List<String> failedNotificationIds,
+                                                   List<String> errorMessages,
+                                                   List<FailureSummary.Category> failureCategories) {
             this.totalProcessed = totalProcessed;
             this.totalSuccessful = totalSuccessful;
             this.totalFailed = totalFailed;
+            this.totalDeferred = totalDeferred;
             this.failedNotificationIds = failedNotificationIds;
             this.errorMessages = errorMessages;
+            this.failureCategories = failureCategories;
         }
 
         @Override
@@ -135,6 +201,11 @@ public class ProcessPendingNotificationsUseCaseImpl implements ProcessPendingNot
             return totalFailed;
         }
 
+        @Override
+        public int getTotalDeferred() {
+            return totalDeferred;
+        }
+
         @Override
         public List<String> getFailedNotificationIds() {
             return failedNotificationIds;
@@ -144,5 +215,10 @@ public class ProcessPendingNotificationsUseCaseImpl implements ProcessPendingNot
         public List<String> getErrorMessages() {
             return errorMessages;
         }
+
+        @Override
+        public List<FailureSummary.Category> getFailureCategories() {
+            return failureCategories;
+        }
     }
 }
\ No newline at end of file
@@ -2,58 +2,131 @@ package com.ozi.notification.application.usecase;
 
 import com.ozi.notification.domain.*;
 import lombok.Builder;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Implementation of ProcessStockNotificationsUseCase.
  * Processes pending stock notification events and sends them to CleverTap.
+ * Each user is notified at their preferred local push time: an event waits for the first
+ * slot at or after it was received and stays pending for a later run until then, and users
+ * who opted out of push notifications are skipped. A run also picks up events received on
+ * the previous date, since a slot is never more than a day after the event. Each event
+ * is claimed under a processing lease and its outcome committed on its own, so an
+ * interrupted run leaves at most the claimed events PROCESSING until their lease expires.
+ * The duplicate check, the send and the status updates are timed as stages of the stock
+ * pipeline.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ProcessStockNotificationsUseCaseImpl implements ProcessStockNotificationsUseCase {
 
+    /**
+     * Error class of events the service reported as not sent without throwing
+     */
+    static final String SEND_RETURNED_FALSE = "SendReturnedFalse";
+
+    /**
+     * Days before the processed date whose pending events are still picked up, so that events
+     * deferred past midnight to the user's next delivery slot are sent on the following date
+     */
+    static final int DEFERRAL_LOOKBACK_DAYS = 1;
+
     private final StockNotificationEventRepository eventRepository;
     private final StockNotificationService stockNotificationService;
+    private final UserPreferenceStore userPreferenceStore;
+    private final NotificationHistoryRecorder notificationHistoryRecorder;
+    private final PipelineMetrics pipelineMetrics;
+    private final Supplier<LocalDateTime> clock;
+
+    @Autowired
+    public ProcessStockNotificationsUseCaseImpl(StockNotificationEventRepository eventRepository,
+                                                StockNotificationService stockNotificationService,
+                                                UserPreferenceStore userPreferenceStore,
+                                                NotificationHistoryRecorder notificationHistoryRecorder,
+                                                PipelineMetrics pipelineMetrics) {
+        this(eventRepository, stockNotificationService, userPreferenceStore, notificationHistoryRecorder,
+                pipelineMetrics, LocalDateTime::now);
+    }
+
+    ProcessStockNotificationsUseCaseImpl(StockNotificationEventRepository eventRepository,
+                                         StockNotificationService stockNotificationService,
+                                         UserPreferenceStore userPreferenceStore,
+                                         NotificationHistoryRecorder notificationHistoryRecorder,
+                                         PipelineMetrics pipelineMetrics,
+                                         Supplier<LocalDateTime> clock) {
+        this.eventRepository = eventRepository;
+        this.stockNotificationService = stockNotificationService;
+        this.userPreferenceStore = userPreferenceStore;
+        this.notificationHistoryRecorder = notificationHistoryRecorder;
+        this.pipelineMetrics = pipelineMetrics;
+        this.clock = clock;
+    }
 
     @Override
-    @Transactional
     public ProcessStockNotificationsResult execute(LocalDate date) {
         log.info("Processing stock notification events for date: {}", date);
 
-        List<String> failedEventIds = new ArrayList<>();
-        List<String> errorMessages = new ArrayList<>();
+        FailureSummary failures = new FailureSummary();
         int totalSent = 0;
         int totalFailed = 0;
         int totalSkipped = 0;
+        int totalDeferred = 0;
 
-        // Find distinct pending events (one per user-SKU combination)
-        List<StockNotificationEvent> events = eventRepository.findDistinctPendingEventsForDate(date);
+        // Find distinct pending events (one per user-SKU combination and received date)
+        List<StockNotificationEvent> events = eventRepository.findDistinctPendingEventsBetween(
+                date.minusDays(DEFERRAL_LOOKBACK_DAYS), date);
         int totalEvents = events.size();
 
         log.info("Found {} distinct pending events to process for date: {}", totalEvents, date);
 
+        // One bulk lookup for the whole batch instead of one query per user
+        Map<String, UserNotificationPreferences> preferences = userPreferenceStore.getAll(
+                events.stream().map(StockNotificationEvent::getEffectiveRecipientId).toList());
+        LocalDateTime now = clock.get();
+
         for (StockNotificationEvent event : events) {
             try {
-                // Check if notification was already sent for this user-SKU today
-                boolean alreadySent = eventRepository.existsSentNotificationForUserSkuOnDate(
-                        event.getUserId(),
-                        event.getSku(),
-                        date
-                );
+                UserNotificationPreferences userPreferences = preferences.get(event.getEffectiveRecipientId());
+                if (userPreferences != null) {
+                    if (!userPreferences.isChannelEnabled(NotificationType.PUSH)) {
+                        log.debug("User {} opted out of push notifications. Skipping event {}.",
+                                event.getEffectiveRecipientId(), event.getId());
+                        updateStatus(
+                                event.getId(),
+                                StockNotificationEventStatus.SKIPPED,
+                                "User opted out of push notifications"
+                        );
+                        totalSkipped++;
+                        continue;
+                    }
+
+                    LocalDateTime slot = userPreferences.nextDeliverySlot(NotificationType.PUSH, event.getReceivedAt())
+                            .orElse(now);
+                    if (slot.isAfter(now)) {
+                        log.debug("Deferring event {} for user {} until local delivery slot {}",
+                                event.getId(), event.getEffectiveRecipientId(), slot);
+                        totalDeferred++;
+                        continue;
+                    }
+                }
+
+                // Check if notification was already sent for this user-SKU on the day it was received
+                LocalDate receivedDate = event.getReceivedAt().toLocalDate();
+                boolean alreadySent = isAlreadySent(event, receivedDate);
 
                 if (alreadySent) {
                     log.debug("Notification already sent for user={}, sku={} on {}. Skipping.",
-                            event.getUserId(), event.getSku(), date);
-                    eventRepository.updateStatusWithError(
+                            event.getUserId(), event.getSku(), receivedDate);
+                    updateStatus(
                             event.getId(),
                             StockNotificationEventStatus.SKIPPED,
                             "Duplicate: notification already sent for this user-SKU today"
@@ -62,22 +135,31 @@ public class ProcessStockNotificationsUseCaseImpl implements ProcessStockNotific
                     continue;
                 }
 
-                // Mark as processing
-                eventRepository.updateStatus(event.getId(), StockNotificationEventStatus.PROCESSING);
+                // Claim it; a concurrent run may already be sending it
+                if (!eventRepository.claim(event.getId())) {
+                    log.debug("Stock notification event {} was claimed by another run. Skipping.", event.getId());
+                    continue;
+                }
 
                 // Send notification via CleverTap
-                boolean sent = stockNotificationService.sendStockNotification(event);
+                boolean sent = send(event);
 
                 if (sent) {
                     // Mark as sent
-                    eventRepository.updateStatus(event.getId(), StockNotificationEventStatus.SENT);
+                    updateStatus(event.getId(), StockNotificationEventStatus.SENT, null);
+                    notificationHistoryRecorder.record(NotificationHistoryEntry.builder()
+                            .recipient(event.getEffectiveRecipientId())
+                            .sku(event.getSku())
+                            .type(NotificationType.PUSH)
+                            .sentAt(clock.get())
+                            .build());
                     totalSent++;
 
                     // Mark any duplicate events for this user-SKU as skipped
                     int skippedDuplicates = eventRepository.markDuplicatesAsSkipped(
                             event.getUserId(),
                             event.getSku(),
-                            date,
+                            receivedDate,
                             event.getId()
                     );
                     if (skippedDuplicates > 0) {
@@ -90,43 +172,44 @@ public class ProcessStockNotificationsUseCaseImpl implements ProcessStockNotific
                             event.getId(), event.getUserId(), event.getSku());
                 } else {
                     // Should not happen as sendStockNotification throws on failure
-                    eventRepository.updateStatusWithError(
+                    updateStatus(
                             event.getId(),
                             StockNotificationEventStatus.FAILED,
                             "Unknown error: send returned false"
                     );
                     totalFailed++;
-                    failedEventIds.add(event.getId());
+                    failures.add(SEND_RETURNED_FALSE, event.getId(),
+                            String.format("Event %s: Unknown error: send returned false", event.getId()));
                 }
 
             } catch (NotificationException e) {
                 log.error("Failed to process stock notification event {}: {}",
                         event.getId(), e.getMessage());
-                eventRepository.updateStatusWithError(
+                updateStatus(
                         event.getId(),
                         StockNotificationEventStatus.FAILED,
                         e.getMessage()
                 );
                 totalFailed++;
-                failedEventIds.add(event.getId());
-                errorMessages.add(String.format("Event %s: %s", event.getId(), e.getMessage()));
+                failures.add(FailureSummary.errorClass(e), event.getId(),
+                        String.format("Event %s: %s", event.getId(), e.getMessage()));
 
             } catch (Exception e) {
                 log.error("Unexpected error processing stock notification event {}: {}",
                         event.getId(), e.getMessage(), e);
-                eventRepository.updateStatusWithError(
+                updateStatus(
                         event.getId(),
                         StockNotificationEventStatus.FAILED,
                         "Unexpected error: " + e.getMessage()
                 );
                 totalFailed++;
-                failedEventIds.add(event.getId());
-                errorMessages.add(String.format("Event %s: %s", event.getId(), e.getMessage()));
+                failures.add(FailureSummary.errorClass(e), event.getId(),
+                        String.format("Event %s: %s", event.getId(), e.getMessage()));
             }
         }
 
-        log.info("Completed processing stock notifications for date {}. Total: {}, Sent: {}, Failed: {}, Skipped: {}",
-                date, totalEvents, totalSent, totalFailed, totalSkipped);
+        log.info("Completed processing stock notifications for date {}. Total: {}, Sent: {}, Failed: {}, Skipped: {}, Deferred: {}",
+                date, totalEvents, totalSent, totalFailed, totalSkipped, totalDeferred);
 
         return ProcessStockNotificationsResultImpl.builder()
                 .totalEvents(totalEvents)
@@ -134,11 +217,67 @@ public class ProcessStockNotificationsUseCaseImpl implements ProcessStockNotific
                 .totalSent(totalSent)
                 .totalFailed(totalFailed)
                 .totalSkipped(totalSkipped)
-                .failedEventIds(failedEventIds)
-                .errorMessages(errorMessages)
+                .totalDeferred(totalDeferred)
+                .failedEventIds(failures.getSampleIds())
+                .errorMessages(failures.getSampleMessages())
+                .failureCategories(failures.getCategories())
                 .build();
     }
 
+    /**
+     * Checks whether the user was already notified about the SKU on the date, timed as the dedup stage.
+     */
+    private boolean isAlreadySent(StockNotificationEvent event, LocalDate date) {
+        PipelineMetrics.StageTimer timer = pipelineMetrics.start(PipelineMetrics.STOCK, "dedup");
+        try {
+            boolean alreadySent = eventRepository.existsSentNotificationForUserSkuOnDate(
+                    event.getUserId(),
+                    event.getSku(),
+                    date
+            );
+            timer.stop(alreadySent ? "duplicate" : "unique");
+            return alreadySent;
+        } catch (RuntimeException e) {
+            timer.stop(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a claimed event, timed as the send stage.
+     */
+    private boolean send(StockNotificationEvent event) throws NotificationException {
+        PipelineMetrics.StageTimer timer = pipelineMetrics.start(PipelineMetrics.STOCK, "send")
+                .type(NotificationType.PUSH)
+                .provider(stockNotificationService.getClass().getSimpleName());
+        try {
+            boolean sent = stockNotificationService.sendStockNotification(event);
+            timer.stop(sent ? PipelineMetrics.SUCCESS : PipelineMetrics.FAILURE);
+            return sent;
+        } catch (NotificationException | RuntimeException e) {
+            timer.stop(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the outcome of an event, timed as the status-update stage.
+     */
+    private void updateStatus(String eventId, StockNotificationEventStatus status, String errorMessage) {
+        PipelineMetrics.StageTimer timer = pipelineMetrics.start(PipelineMetrics.STOCK, "status-update");
+        try {
+            if (errorMessage == null) {
+                eventRepository.updateStatus(eventId, status);
+            } else {
+                eventRepository.updateStatusWithError(eventId, status, errorMessage);
+            }
+            timer.stop(PipelineMetrics.SUCCESS);
+        } catch (RuntimeException e) {
+            timer.stop(e);
+            throw e;
+        }
+    }
+
     @Value
     @Builder
     private static class ProcessStockNotificationsResultImpl implements ProcessStockNotificationsResult {
@@ -147,7 +286,9 @@ public class ProcessStockNotificationsUseCaseImpl implements ProcessStockNotific
         int totalSent;
         int totalFailed;
         int totalSkipped;
+        int totalDeferred;
         List<String> failedEventIds;
         List<String> errorMessages;
+        List<FailureSummary.Category> failureCategories;
     }
 }
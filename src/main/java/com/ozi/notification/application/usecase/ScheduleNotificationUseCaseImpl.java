@@ -0,0 +1,68 @@
+package com.ozi.notification.application.usecase;
+
+import com.ozi.notification.domain.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Implementation of ScheduleNotificationUseCase.
+ * Persists schedules and hands them to the NotificationScheduler, which fires them at their time.
+ * Requests without a time are scheduled for the recipient's next preferred local delivery slot.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleNotificationUseCaseImpl implements ScheduleNotificationUseCase {
+
+    private final ScheduledNotificationRepository scheduledNotificationRepository;
+    private final NotificationScheduler notificationScheduler;
+    private final UserPreferenceStore userPreferenceStore;
+
+    @Override
+    public ScheduledNotification schedule(ScheduleNotificationRequest request) {
+        LocalDateTime scheduledTime = request.getScheduledTime() != null
+                ? request.getScheduledTime()
+                : nextLocalDeliverySlot(request);
+
+        log.info("Scheduling {} notification to recipient: {} at {}",
+                request.getType(), request.getRecipient(), scheduledTime);
+
+        ScheduledNotification scheduledNotification = ScheduledNotification.create(
+                request.getType(),
+                request.getRecipient(),
+                request.getTitle(),
+                request.getMessage(),
+                request.getData(),
+                request.getDeepLink(),
+                request.getPriority(),
+                scheduledTime
+        );
+
+        ScheduledNotification saved = scheduledNotificationRepository.save(scheduledNotification);
+        notificationScheduler.schedule(saved);
+
+        log.info("Scheduled notification ID: {} for {}", saved.getId(), saved.getScheduledTime());
+        return saved;
+    }
+
+    private LocalDateTime nextLocalDeliverySlot(ScheduleNotificationRequest request) {
+        return userPreferenceStore.get(request.getRecipient())
+                .nextDeliverySlot(request.getType(), LocalDateTime.now())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Scheduled time is required for " + request.getType() + " notifications"));
+    }
+
+    @Override
+    public Optional<ScheduledNotification> cancel(String id) {
+        log.info("Cancelling scheduled notification ID: {}", id);
+
+        if (scheduledNotificationRepository.cancel(id)) {
+            notificationScheduler.unschedule(id);
+        }
+        return scheduledNotificationRepository.findById(id);
+    }
+}
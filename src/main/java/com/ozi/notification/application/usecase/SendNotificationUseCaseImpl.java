@@ -9,6 +9,9 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Implementation of the SendNotificationUseCase.
@@ -21,36 +24,159 @@ public class SendNotificationUseCaseImpl implements SendNotificationUseCase {
 
     private final NotificationRepository notificationRepository;
     private final NotificationServiceProvider notificationServiceProvider;
+    private final IdempotencyCache idempotencyCache;
+    private final FrequencyCap frequencyCap;
+    private final NotificationHistoryRecorder notificationHistoryRecorder;
+    private final PipelineMetrics pipelineMetrics;
 
     @Override
     public SendNotificationResult execute(SendNotificationRequest request) {
         log.info("Executing send notification use case for type: {} to recipient: {}",
                 request.getType(), request.getRecipient());
 
+        String idempotencyKey = request.getIdempotencyKey();
+        if (idempotencyKey == null) {
+            return send(request, null);
+        }
+
+        Optional<SendNotificationResult> previous = findPreviousResult(idempotencyKey);
+        if (previous.isPresent()) {
+            log.info("Replaying result of notification {} for idempotency key: {}",
+                    previous.get().getNotificationId(), idempotencyKey);
+            return previous.get();
+        }
+
+        SendNotificationResult result = send(request, idempotencyKey);
+        // Only results of persisted notifications are replayable
+        if (result.getNotificationId() != null) {
+            idempotencyCache.put(idempotencyKey, result);
+        }
+        return result;
+    }
+
+    @Override
+    public List<SendNotificationResult> executeAll(List<? extends SendNotificationRequest> requests) {
+        log.info("Executing batch send notification use case for {} notifications", requests.size());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(requests.size());
+        for (SendNotificationRequest request : requests) {
+            Notification notification = newNotification(request, null, now);
+            if (!frequencyCap.tryAcquire(notification.getRecipient(), notification.getType(), notification.getPriority())) {
+                notification = notification.markAsSuppressed("Frequency cap reached for recipient");
+            }
+            notifications.add(notification);
+        }
+
+        PipelineMetrics.StageTimer persistTimer = pipelineMetrics.start(PipelineMetrics.SEND, "persist");
+        try {
+            notificationRepository.saveAll(notifications);
+            persistTimer.stop(PipelineMetrics.SUCCESS);
+            log.debug("Saved batch of {} notifications", notifications.size());
+        } catch (Exception e) {
+            persistTimer.stop(e);
+            log.error("Failed to save batch of {} notifications: {}", notifications.size(), e.getMessage(), e);
+
+            List<SendNotificationResult> failed = new ArrayList<>(notifications.size());
+            for (int i = 0; i < notifications.size(); i++) {
+                failed.add(new SendNotificationResultImpl(
+                        null,
+                        NotificationStatus.FAILED,
+                        "Internal server error: " + e.getMessage(),
+                        false
+                ));
+            }
+            return failed;
+        }
+
+        List<SendNotificationResult> results = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            if (notification.getStatus() == NotificationStatus.SUPPRESSED) {
+                results.add(new SendNotificationResultImpl(
+                        notification.getId(),
+                        NotificationStatus.SUPPRESSED,
+                        notification.getErrorMessage(),
+                        false
+                ));
+            } else {
+                results.add(deliver(notification));
+            }
+        }
+        return results;
+    }
+
+    private SendNotificationResult send(SendNotificationRequest request, String idempotencyKey) {
         try {
             // Create notification domain object
-            Notification notification = Notification.builder()
-                    .id(java.util.UUID.randomUUID().toString())
-                    .type(request.getType())
-                    .recipient(request.getRecipient())
-                    .title(request.getTitle())
-                    .message(request.getMessage())
-                    .data(request.getData())
-                    .deepLink(request.getDeepLink())
-                    .priority(request.getPriority())
-                    .status(NotificationStatus.PENDING)
-                    .createdAt(LocalDateTime.now())
-                    .build();
+            Notification notification = newNotification(request, idempotencyKey, LocalDateTime.now());
+
+            if (!frequencyCap.tryAcquire(notification.getRecipient(), notification.getType(), notification.getPriority())) {
+                Notification suppressedNotification = persist(
+                        notification.markAsSuppressed("Frequency cap reached for recipient"));
+                log.info("Suppressed notification ID: {} of type: {} - frequency cap reached for recipient: {}",
+                        suppressedNotification.getId(), suppressedNotification.getType(), suppressedNotification.getRecipient());
+
+                return new SendNotificationResultImpl(
+                        suppressedNotification.getId(),
+                        NotificationStatus.SUPPRESSED,
+                        suppressedNotification.getErrorMessage(),
+                        false
+                );
+            }
 
             // Save to repository first
-            Notification savedNotification = notificationRepository.save(notification);
+            Notification savedNotification = persist(notification);
             log.debug("Saved notification with ID: {}", savedNotification.getId());
 
+            return deliver(savedNotification);
+
+        } catch (DuplicateIdempotencyKeyException e) {
+            // A concurrent request with the same key created the notification first
+            log.info("Notification already created for idempotency key: {}", e.getIdempotencyKey());
+
+            return findPreviousResult(e.getIdempotencyKey())
+                    .orElseGet(() -> new SendNotificationResultImpl(
+                            null,
+                            NotificationStatus.PENDING,
+                            e.getMessage(),
+                            false
+                    ));
+
+        } catch (Exception e) {
+            log.error("Unexpected error while sending notification: {}", e.getMessage(), e);
+
+            return new SendNotificationResultImpl(
+                    null,
+                    NotificationStatus.FAILED,
+                    "Internal server error: " + e.getMessage(),
+                    false
+            );
+        }
+    }
+
+    /**
+     * Sends a persisted notification and saves the outcome.
+     */
+    private SendNotificationResult deliver(Notification savedNotification) {
+        try {
             // Send the notification
             Notification sentNotification = notificationServiceProvider.sendNotification(savedNotification);
 
             // Update the repository with the result
-            Notification updatedNotification = notificationRepository.save(sentNotification);
+            PipelineMetrics.StageTimer saveTimer = pipelineMetrics.start(PipelineMetrics.SEND, "save")
+                    .type(sentNotification.getType());
+            Notification updatedNotification;
+            try {
+                updatedNotification = notificationRepository.save(sentNotification);
+                saveTimer.stop(PipelineMetrics.SUCCESS);
+            } catch (RuntimeException e) {
+                saveTimer.stop(e);
+                throw e;
+            }
+
+            if (updatedNotification.getStatus() == NotificationStatus.SENT) {
+                notificationHistoryRecorder.record(NotificationHistoryEntry.fromNotification(updatedNotification));
+            }
 
             log.info("Successfully sent notification ID: {} of type: {}", updatedNotification.getId(), updatedNotification.getType());
 
@@ -61,6 +187,17 @@ public class SendNotificationUseCaseImpl implements SendNotificationUseCase {
                     true
             );
 
+        } catch (ProviderUnavailableException e) {
+            log.warn("Provider unavailable, notification {} left pending for retry: {}",
+                    e.getNotificationId(), e.getMessage());
+
+            return new SendNotificationResultImpl(
+                    e.getNotificationId(),
+                    NotificationStatus.PENDING,
+                    e.getMessage(),
+                    false
+            );
+
         } catch (NotificationException e) {
             log.error("Failed to send notification: {}", e.getMessage(), e);
 
@@ -83,6 +220,56 @@ public class SendNotificationUseCaseImpl implements SendNotificationUseCase {
         }
     }
 
+    /**
+     * Saves a new notification, timed as the persist stage.
+     */
+    private Notification persist(Notification notification) {
+        PipelineMetrics.StageTimer timer = pipelineMetrics.start(PipelineMetrics.SEND, "persist")
+                .type(notification.getType());
+        try {
+            Notification saved = notificationRepository.save(notification);
+            timer.stop(PipelineMetrics.SUCCESS);
+            return saved;
+        } catch (RuntimeException e) {
+            timer.stop(e);
+            throw e;
+        }
+    }
+
+    private static Notification newNotification(SendNotificationRequest request, String idempotencyKey, LocalDateTime createdAt) {
+        return Notification.builder()
+                .id(UuidV7.generate())
+                .type(request.getType())
+                .recipient(request.getRecipient())
+                .title(request.getTitle())
+                .message(request.getMessage())
+                .data(request.getData())
+                .deepLink(request.getDeepLink())
+                .priority(request.getPriority())
+                .status(NotificationStatus.PENDING)
+                .createdAt(createdAt)
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+
+    /**
+     * Looks up the result for an idempotency key, first in memory and then from the
+     * notification persisted by the original request (possibly on another instance).
+     */
+    private Optional<SendNotificationResult> findPreviousResult(String idempotencyKey) {
+        Optional<SendNotificationResult> cached = idempotencyCache.get(idempotencyKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return notificationRepository.findByIdempotencyKey(idempotencyKey)
+                .map(notification -> new SendNotificationResultImpl(
+                        notification.getId(),
+                        notification.getStatus(),
+                        notification.getErrorMessage(),
+                        notification.getStatus() == NotificationStatus.SENT
+                ));
+    }
+
     /**
      * Implementation of SendNotificationResult.
      */
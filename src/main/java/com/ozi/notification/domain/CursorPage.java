@@ -0,0 +1,38 @@
+package com.ozi.notification.domain;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a cursor-paginated listing.
+ *
+ * @param <T> The row type
+ */
+@Value
+public class CursorPage<T> {
+
+    List<T> items;
+
+    /**
+     * Cursor for the next page, or null if this is the last page
+     */
+    String nextCursor;
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code limit + 1}; the extra row
+     * only signals that another page exists.
+     *
+     * @param rows   The fetched rows, in listing order
+     * @param limit  The page size
+     * @param cursor Cursor pointing at a row
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, PageCursor> cursor) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(List.copyOf(items), cursor.apply(items.get(limit - 1)).encode());
+    }
+}
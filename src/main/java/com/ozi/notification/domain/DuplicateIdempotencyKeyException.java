@@ -0,0 +1,19 @@
+package com.ozi.notification.domain;
+
+/**
+ * Thrown when a notification is saved with an idempotency key that another
+ * notification already holds, typically a retry racing the original request.
+ */
+public class DuplicateIdempotencyKeyException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public DuplicateIdempotencyKeyException(String idempotencyKey, Throwable cause) {
+        super("Notification already exists for idempotency key: " + idempotencyKey, cause);
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
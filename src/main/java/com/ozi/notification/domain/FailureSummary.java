@@ -0,0 +1,138 @@
+package com.ozi.notification.domain;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded record of the failures of a batch run.
+ *
+ * Failures are counted per error class, and only the first few IDs and messages of each
+ * class are kept as samples; classes beyond the limit are counted together under
+ * {@value #OTHER}. Memory use is therefore the same for ten failures or a million. The
+ * complete list of failed rows is available from the paginated status listings.
+ *
+ * Not thread-safe.
+ */
+public final class FailureSummary {
+
+    /**
+     * Maximum number of distinct error classes counted separately
+     */
+    public static final int MAX_CATEGORIES = 20;
+
+    /**
+     * Maximum number of sample failures kept per error class
+     */
+    public static final int MAX_SAMPLES_PER_CATEGORY = 5;
+
+    /**
+     * Error class under which failures beyond {@link #MAX_CATEGORIES} are counted
+     */
+    public static final String OTHER = "Other";
+
+    private final Map<String, MutableCategory> categories = new LinkedHashMap<>();
+    private int total;
+
+    /**
+     * Records a failure.
+     *
+     * @param errorClass Category of the failure, usually from {@link #errorClass(Throwable)}
+     * @param id         ID of the failed row
+     * @param message    Error message
+     */
+    public void add(String errorClass, String id, String message) {
+        total++;
+        MutableCategory category = categories.get(errorClass);
+        if (category == null) {
+            String key = categories.size() < MAX_CATEGORIES ? errorClass : OTHER;
+            category = categories.computeIfAbsent(key, MutableCategory::new);
+        }
+        category.count++;
+        if (category.samples.size() < MAX_SAMPLES_PER_CATEGORY) {
+            category.samples.add(new Sample(id, message));
+        }
+    }
+
+    /**
+     * Total number of failures recorded.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Failure counts and samples per error class, most frequent first.
+     */
+    public List<Category> getCategories() {
+        return categories.values().stream()
+                .map(category -> new Category(category.errorClass, category.count, List.copyOf(category.samples)))
+                .sorted(Comparator.comparingInt(Category::getCount).reversed())
+                .toList();
+    }
+
+    /**
+     * IDs of the sample failures of all error classes.
+     */
+    public List<String> getSampleIds() {
+        return categories.values().stream()
+                .flatMap(category -> category.samples.stream())
+                .map(Sample::getId)
+                .toList();
+    }
+
+    /**
+     * Messages of the sample failures of all error classes.
+     */
+    public List<String> getSampleMessages() {
+        return categories.values().stream()
+                .flatMap(category -> category.samples.stream())
+                .map(Sample::getMessage)
+                .toList();
+    }
+
+    /**
+     * Error class of a failure: the simple class name of its innermost cause, so that
+     * provider exceptions wrapping different errors are told apart.
+     */
+    public static String errorClass(Throwable failure) {
+        Throwable root = failure;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getClass().getSimpleName();
+    }
+
+    /**
+     * Failures of one error class.
+     */
+    @Value
+    public static class Category {
+        String errorClass;
+        int count;
+        List<Sample> samples;
+    }
+
+    /**
+     * One sample failure.
+     */
+    @Value
+    public static class Sample {
+        String id;
+        String message;
+    }
+
+    private static final class MutableCategory {
+        private final String errorClass;
+        private final List<Sample> samples = new ArrayList<>();
+        private int count;
+
+        private MutableCategory(String errorClass) {
+            this.errorClass = errorClass;
+        }
+    }
+}
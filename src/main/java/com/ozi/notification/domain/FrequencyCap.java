@@ -0,0 +1,18 @@
+package com.ozi.notification.domain;
+
+/**
+ * Limits how many notifications a single recipient receives per channel within a time window.
+ * Notifications over the cap are stored as SUPPRESSED and never reach a provider.
+ */
+public interface FrequencyCap {
+
+    /**
+     * Records a notification for the recipient if it is within the cap for its type and priority.
+     *
+     * @param recipient The recipient identifier
+     * @param type The notification type
+     * @param priority The notification priority
+     * @return true if the notification may be sent, false if it must be suppressed
+     */
+    boolean tryAcquire(String recipient, NotificationType type, NotificationPriority priority);
+}
@@ -0,0 +1,26 @@
+package com.ozi.notification.domain;
+
+import java.util.Optional;
+
+/**
+ * Short lived store of send results keyed by client supplied idempotency key.
+ * Lets retried requests be answered without creating or sending a new notification.
+ */
+public interface IdempotencyCache {
+
+    /**
+     * Returns the result recorded for the key, if it is still cached.
+     *
+     * @param idempotencyKey The Idempotency-Key of the request
+     * @return Optional containing the original result
+     */
+    Optional<SendNotificationUseCase.SendNotificationResult> get(String idempotencyKey);
+
+    /**
+     * Records the result of the request that first used the key.
+     *
+     * @param idempotencyKey The Idempotency-Key of the request
+     * @param result The result returned to the caller
+     */
+    void put(String idempotencyKey, SendNotificationUseCase.SendNotificationResult result);
+}
@@ -0,0 +1,40 @@
+package com.ozi.notification.domain;
+
+/**
+ * PipelineMetrics that records nothing, for code run without a metrics backend
+ * such as unit tests and benchmarks.
+ */
+public final class NoopPipelineMetrics implements PipelineMetrics, PipelineMetrics.StageTimer {
+
+    static final NoopPipelineMetrics INSTANCE = new NoopPipelineMetrics();
+
+    public NoopPipelineMetrics() {
+    }
+
+    @Override
+    public StageTimer start(String pipeline, String stage) {
+        return this;
+    }
+
+    @Override
+    public void count(String pipeline, String stage, String outcome, int amount) {
+    }
+
+    @Override
+    public StageTimer type(NotificationType type) {
+        return this;
+    }
+
+    @Override
+    public StageTimer provider(String provider) {
+        return this;
+    }
+
+    @Override
+    public void stop(String outcome) {
+    }
+
+    @Override
+    public void stop(Throwable failure) {
+    }
+}
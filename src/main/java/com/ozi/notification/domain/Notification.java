@@ -79,12 +79,17 @@ public class Notification {
      */
     Map<String, Object> metadata;
 
+    /**
+     * Client supplied Idempotency-Key the notification was created for, if any
+     */
+    String idempotencyKey;
+
     /**
      * Creates a new notification with PENDING status
      */
     public static Notification create(NotificationType type, String recipient, String title, String message) {
         return Notification.builder()
-                .id(java.util.UUID.randomUUID().toString())
+                .id(UuidV7.generate())
                 .type(type)
                 .recipient(recipient)
                 .title(title)
@@ -113,6 +118,7 @@ public class Notification {
                 .sentAt(LocalDateTime.now())
                 .errorMessage(null)
                 .metadata(this.metadata)
+                .idempotencyKey(this.idempotencyKey)
                 .build();
     }
 
@@ -134,6 +140,73 @@ public class Notification {
                 .sentAt(this.sentAt)
                 .errorMessage(errorMessage)
                 .metadata(this.metadata)
+                .idempotencyKey(this.idempotencyKey)
+                .build();
+    }
+
+    /**
+     * Marks the notification as suppressed by a delivery policy such as frequency capping
+     */
+    public Notification markAsSuppressed(String reason) {
+        return Notification.builder()
+                .id(this.id)
+                .type(this.type)
+                .recipient(this.recipient)
+                .title(this.title)
+                .message(this.message)
+                .data(this.data)
+                .deepLink(this.deepLink)
+                .priority(this.priority)
+                .status(NotificationStatus.SUPPRESSED)
+                .createdAt(this.createdAt)
+                .sentAt(this.sentAt)
+                .errorMessage(reason)
+                .metadata(this.metadata)
+                .idempotencyKey(this.idempotencyKey)
+                .build();
+    }
+
+    /**
+     * Marks the notification as claimed for sending
+     */
+    public Notification markAsProcessing() {
+        return Notification.builder()
+                .id(this.id)
+                .type(this.type)
+                .recipient(this.recipient)
+                .title(this.title)
+                .message(this.message)
+                .data(this.data)
+                .deepLink(this.deepLink)
+                .priority(this.priority)
+                .status(NotificationStatus.PROCESSING)
+                .createdAt(this.createdAt)
+                .sentAt(this.sentAt)
+                .errorMessage(this.errorMessage)
+                .metadata(this.metadata)
+                .idempotencyKey(this.idempotencyKey)
+                .build();
+    }
+
+    /**
+     * Returns the notification to pending for a later attempt, recording why
+     */
+    public Notification markAsPending(String reason) {
+        return Notification.builder()
+                .id(this.id)
+                .type(this.type)
+                .recipient(this.recipient)
+                .title(this.title)
+                .message(this.message)
+                .data(this.data)
+                .deepLink(this.deepLink)
+                .priority(this.priority)
+                .status(NotificationStatus.PENDING)
+                .createdAt(this.createdAt)
+                .sentAt(this.sentAt)
+                .errorMessage(reason)
+                .metadata(this.metadata)
+                .idempotencyKey(this.idempotencyKey)
                 .build();
     }
 
@@ -141,6 +214,7 @@ public class Notification {
      * Checks if the notification is in a terminal state
      */
     public boolean isTerminal() {
-        return status == NotificationStatus.SENT || status == NotificationStatus.FAILED;
+        return status == NotificationStatus.SENT || status == NotificationStatus.FAILED
+                || status == NotificationStatus.SUPPRESSED;
     }
 }
\ No newline at end of file
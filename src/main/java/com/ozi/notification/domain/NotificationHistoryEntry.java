@@ -0,0 +1,81 @@
+package com.ozi.notification.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A notification that was delivered to a recipient, as recorded in the notification history.
+ */
+@Value
+@Builder(toBuilder = true)
+public class NotificationHistoryEntry {
+
+    /**
+     * Recipient identifier (user ID, phone number, etc.)
+     */
+    String recipient;
+
+    /**
+     * SKU the notification was about, if any
+     */
+    String sku;
+
+    /**
+     * Type of notification sent
+     */
+    NotificationType type;
+
+    /**
+     * ID of the notification in the notifications table, if any
+     */
+    String notificationId;
+
+    /**
+     * ID of the scheduled notification that was sent, if any
+     */
+    String scheduledNotificationId;
+
+    /**
+     * Title that was sent
+     */
+    String title;
+
+    /**
+     * Message that was sent
+     */
+    String message;
+
+    /**
+     * Data payload that was sent
+     */
+    Map<String, String> data;
+
+    /**
+     * Deep link that was sent
+     */
+    String deepLink;
+
+    /**
+     * When the notification was sent
+     */
+    LocalDateTime sentAt;
+
+    /**
+     * Creates the history entry for a sent notification.
+     */
+    public static NotificationHistoryEntry fromNotification(Notification notification) {
+        return NotificationHistoryEntry.builder()
+                .recipient(notification.getRecipient())
+                .type(notification.getType())
+                .notificationId(notification.getId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .data(notification.getData())
+                .deepLink(notification.getDeepLink())
+                .sentAt(notification.getSentAt() != null ? notification.getSentAt() : LocalDateTime.now())
+                .build();
+    }
+}
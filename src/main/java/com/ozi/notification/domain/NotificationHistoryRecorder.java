@@ -0,0 +1,16 @@
+package com.ozi.notification.domain;
+
+/**
+ * Records delivered notifications in the notification history.
+ * Recording must not block or fail the send it is called from; entries may be
+ * written asynchronously and can be lost if the history store is unavailable.
+ */
+public interface NotificationHistoryRecorder {
+
+    /**
+     * Records a delivered notification.
+     *
+     * @param entry The history entry
+     */
+    void record(NotificationHistoryEntry entry);
+}
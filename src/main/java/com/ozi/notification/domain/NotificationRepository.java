@@ -14,9 +14,20 @@ public interface NotificationRepository {
      *
      * @param notification The notification to save
      * @return The saved notification
+     * @throws DuplicateIdempotencyKeyException if another notification already holds its idempotency key
      */
     Notification save(Notification notification);
 
+    /**
+     * Inserts new notifications in bulk.
+     * Intended for high-volume paths; unlike {@link #save(Notification)} it never updates
+     * existing rows and does not translate idempotency key conflicts.
+     *
+     * @param notifications The notifications to insert
+     * @return The inserted notifications
+     */
+    List<Notification> saveAll(List<Notification> notifications);
+
     /**
      * Finds a notification by its ID.
      *
@@ -25,6 +36,23 @@ public interface NotificationRepository {
      */
     Optional<Notification> findById(String id);
 
+    /**
+     * Finds a notification by its ID as currently stored, bypassing any cache or read replica.
+     * For callers about to act on its status, e.g. right after claiming it.
+     *
+     * @param id The notification ID
+     * @return Optional containing the notification if found
+     */
+    Optional<Notification> findCurrentById(String id);
+
+    /**
+     * Finds the notification created for a client supplied idempotency key.
+     *
+     * @param idempotencyKey The Idempotency-Key of the original request
+     * @return Optional containing the notification if found
+     */
+    Optional<Notification> findByIdempotencyKey(String idempotencyKey);
+
     /**
      * Finds all notifications with the given status.
      *
@@ -41,6 +69,26 @@ public interface NotificationRepository {
      */
     List<Notification> findByRecipient(String recipient);
 
+    /**
+     * Lists notifications with the given status, newest first.
+     *
+     * @param status The notification status
+     * @param after  Cursor of the last row on the previous page, or null for the first page
+     * @param limit  Maximum number of rows to return
+     * @return One page of slim notification rows
+     */
+    CursorPage<NotificationSummary> findSummariesByStatus(NotificationStatus status, PageCursor after, int limit);
+
+    /**
+     * Lists notifications for a recipient, newest first.
+     *
+     * @param recipient The recipient identifier
+     * @param after     Cursor of the last row on the previous page, or null for the first page
+     * @param limit     Maximum number of rows to return
+     * @return One page of slim notification rows
+     */
+    CursorPage<NotificationSummary> findSummariesByRecipient(String recipient, PageCursor after, int limit);
+
     /**
      * Finds pending notifications that are ready to be processed.
      *
@@ -48,6 +96,43 @@ public interface NotificationRepository {
      */
     List<Notification> findPendingNotifications();
 
+    /**
+     * Claims up to limit of the oldest pending notifications for sending (PENDING to PROCESSING)
+     * under a processing lease.
+     * Rows claimed by a concurrent caller are skipped instead of waited for, and new
+     * notifications are left to the request that is still sending them.
+     *
+     * @param limit Maximum number of notifications to claim
+     * @return The claimed notifications, oldest first
+     */
+    List<Notification> claimPending(int limit);
+
+    /**
+     * Writes the outcome of claimed notifications in one batch: status, sent time and error message.
+     * Notifications that are no longer PROCESSING are left unchanged.
+     *
+     * @param notifications The claimed notifications with their new status
+     */
+    void saveResults(List<Notification> notifications);
+
+    /**
+     * Releases notifications whose processing lease has expired: they return to PENDING, or are
+     * marked FAILED once maxAttempts claims of them have expired.
+     *
+     * @param maxAttempts Number of expired claims after which a notification is failed
+     * @param limit       Maximum number of notifications to release
+     * @return Number of notifications returned to PENDING or failed
+     */
+    int releaseExpiredClaims(int maxAttempts, int limit);
+
+    /**
+     * Claims a pending notification for sending (PENDING to PROCESSING) under a processing lease.
+     *
+     * @param id The notification ID
+     * @return true if this caller claimed it, false if it is no longer pending
+     */
+    boolean claim(String id);
+
     /**
      * Updates the status of a notification.
      *
@@ -0,0 +1,22 @@
+package com.ozi.notification.domain;
+
+/**
+ * Fires scheduled notifications at their scheduled time.
+ */
+public interface NotificationScheduler {
+
+    /**
+     * Registers a newly saved scheduled notification so it fires on time even if it is
+     * due before the scheduler next loads upcoming schedules.
+     *
+     * @param scheduledNotification The saved scheduled notification
+     */
+    void schedule(ScheduledNotification scheduledNotification);
+
+    /**
+     * Stops a scheduled notification from firing on this instance.
+     *
+     * @param id The scheduled notification ID
+     */
+    void unschedule(String id);
+}
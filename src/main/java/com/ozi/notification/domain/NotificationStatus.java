@@ -8,5 +8,6 @@ public enum NotificationStatus {
     PROCESSING,
     SENT,
     FAILED,
-    CANCELLED
+    CANCELLED,
+    SUPPRESSED
 }
\ No newline at end of file
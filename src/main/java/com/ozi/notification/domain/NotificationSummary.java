@@ -0,0 +1,40 @@
+package com.ozi.notification.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Slim view of a notification for listings. Leaves out the message body and the
+ * JSON data and metadata columns.
+ */
+@Value
+@Builder
+public class NotificationSummary {
+
+    String id;
+
+    NotificationType type;
+
+    String recipient;
+
+    String title;
+
+    NotificationPriority priority;
+
+    NotificationStatus status;
+
+    LocalDateTime createdAt;
+
+    LocalDateTime sentAt;
+
+    String errorMessage;
+
+    /**
+     * Cursor pointing at this notification.
+     */
+    public PageCursor toCursor() {
+        return new PageCursor(createdAt, id);
+    }
+}
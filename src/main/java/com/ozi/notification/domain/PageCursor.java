@@ -0,0 +1,62 @@
+package com.ozi.notification.domain;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by creation time and ID, newest first.
+ * Clients only see the encoded form, an opaque URL-safe token.
+ */
+@Value
+public class PageCursor {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Creation time of the last row on the previous page
+     */
+    LocalDateTime createdAt;
+
+    /**
+     * ID of the last row on the previous page; breaks ties between equal creation times
+     */
+    String id;
+
+    /**
+     * Encodes the cursor as an opaque token.
+     */
+    public String encode() {
+        String value = createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token The token, or null for the first page
+     * @return The cursor, or null if the token is null
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static PageCursor decode(String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new PageCursor(
+                    LocalDateTime.parse(value.substring(0, separator), DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    value.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
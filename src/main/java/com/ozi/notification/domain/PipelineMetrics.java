@@ -0,0 +1,88 @@
+package com.ozi.notification.domain;
+
+/**
+ * Records how long each stage of a notification pipeline takes and how it ended.
+ *
+ * A stage is timed from {@link #start(String, String)} until one of the stop methods of
+ * the returned timer; every stage ends with exactly one stop call. Recording must not
+ * fail the stage it measures.
+ */
+public interface PipelineMetrics {
+
+    /**
+     * Pipeline storing stock notification events received from SQS
+     */
+    String SQS = "sqs";
+
+    /**
+     * Pipeline sending stock notification events
+     */
+    String STOCK = "stock";
+
+    /**
+     * Pipeline sending notifications, from the send endpoints or from the pending backlog
+     */
+    String SEND = "send";
+
+    /**
+     * Outcome of a stage that completed normally
+     */
+    String SUCCESS = "success";
+
+    /**
+     * Outcome of a stage that failed; the error class is recorded with it
+     */
+    String FAILURE = "failure";
+
+    /**
+     * Starts timing a stage.
+     *
+     * @param pipeline The pipeline, e.g. {@link #SEND}
+     * @param stage    The stage within the pipeline, e.g. "persist"
+     * @return The running timer
+     */
+    StageTimer start(String pipeline, String stage);
+
+    /**
+     * Counts items passing through a stage without timing it, e.g. messages per SQS receive.
+     *
+     * @param pipeline The pipeline
+     * @param stage    The stage within the pipeline
+     * @param outcome  What happened to the items
+     * @param amount   Number of items
+     */
+    void count(String pipeline, String stage, String outcome, int amount);
+
+    /**
+     * A running stage timer.
+     */
+    interface StageTimer {
+
+        /**
+         * Tags the stage with the notification type it handled.
+         */
+        StageTimer type(NotificationType type);
+
+        /**
+         * Tags the stage with the provider it called.
+         */
+        StageTimer provider(String provider);
+
+        /**
+         * Stops the timer and records the stage with the given outcome.
+         */
+        void stop(String outcome);
+
+        /**
+         * Stops the timer and records the stage as failed with the error class of the failure.
+         */
+        void stop(Throwable failure);
+    }
+
+    /**
+     * Metrics that record nothing, for code run without a metrics backend.
+     */
+    static PipelineMetrics noop() {
+        return NoopPipelineMetrics.INSTANCE;
+    }
+}
@@ -17,12 +17,15 @@ public interface ProcessPendingNotificationsUseCase {
 
     /**
      * Result object for pending notification processing operations.
+     * Failed IDs and error messages are bounded samples; see {@link FailureSummary}.
      */
     interface ProcessPendingNotificationsResult {
         int getTotalProcessed();
         int getTotalSuccessful();
         int getTotalFailed();
+        int getTotalDeferred();
         List<String> getFailedNotificationIds();
         List<String> getErrorMessages();
+        List<FailureSummary.Category> getFailureCategories();
     }
 }
\ No newline at end of file
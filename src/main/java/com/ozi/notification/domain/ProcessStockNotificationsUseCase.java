@@ -11,6 +11,7 @@ public interface ProcessStockNotificationsUseCase {
     /**
      * Processes pending stock notification events for a specific date.
      * Applies deduplication (one notification per user per SKU per day).
+     * Events of users whose local delivery time has not yet arrived are left pending.
      *
      * @param date The date to process events for
      * @return The processing result
@@ -28,6 +29,7 @@ public interface ProcessStockNotificationsUseCase {
 
     /**
      * Result of processing stock notifications.
+     * Failed IDs and error messages are bounded samples; see {@link FailureSummary}.
      */
     interface ProcessStockNotificationsResult {
         int getTotalEvents();
@@ -35,7 +37,9 @@ public interface ProcessStockNotificationsUseCase {
         int getTotalSent();
         int getTotalFailed();
         int getTotalSkipped();
+        int getTotalDeferred();
         List<String> getFailedEventIds();
         List<String> getErrorMessages();
+        List<FailureSummary.Category> getFailureCategories();
     }
 }
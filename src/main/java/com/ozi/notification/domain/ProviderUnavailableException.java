@@ -0,0 +1,13 @@
+package com.ozi.notification.domain;
+
+/**
+ * Domain exception raised when a notification provider is temporarily unavailable
+ * (e.g. its circuit breaker is open) and the send was rejected without being attempted.
+ * Notifications rejected this way stay PENDING so they can be retried later.
+ */
+public class ProviderUnavailableException extends NotificationException {
+
+    public ProviderUnavailableException(String message, String notificationId, NotificationType type) {
+        super(message, notificationId, type);
+    }
+}
@@ -0,0 +1,36 @@
+package com.ozi.notification.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Use case for scheduling notifications for future delivery.
+ */
+public interface ScheduleNotificationUseCase {
+
+    /**
+     * Schedules a notification.
+     *
+     * @param request The request containing notification details and delivery time
+     * @return The saved scheduled notification
+     */
+    ScheduledNotification schedule(ScheduleNotificationRequest request);
+
+    /**
+     * Cancels a scheduled notification that has not been sent yet.
+     *
+     * @param id The scheduled notification ID
+     * @return The scheduled notification after cancellation, empty if not found
+     */
+    Optional<ScheduledNotification> cancel(String id);
+
+    /**
+     * Request object for scheduling notifications.
+     */
+    interface ScheduleNotificationRequest extends SendNotificationUseCase.SendNotificationRequest {
+        /**
+         * When to send, or null for the recipient's next preferred local delivery time.
+         */
+        LocalDateTime getScheduledTime();
+    }
+}
@@ -0,0 +1,137 @@
+package com.ozi.notification.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain entity representing a notification scheduled for delivery at a specific time.
+ */
+@Value
+@Builder(toBuilder = true)
+public class ScheduledNotification {
+
+    /**
+     * Unique identifier for the scheduled notification
+     */
+    String id;
+
+    /**
+     * Recipient identifier (user ID, phone number, etc.)
+     */
+    String recipient;
+
+    /**
+     * Type of notification to send
+     */
+    NotificationType type;
+
+    /**
+     * Priority the notification is sent with
+     */
+    NotificationPriority priority;
+
+    /**
+     * When the notification is due
+     */
+    LocalDateTime scheduledTime;
+
+    /**
+     * Notification title
+     */
+    String title;
+
+    /**
+     * Notification message content
+     */
+    String message;
+
+    /**
+     * Additional data payload
+     */
+    Map<String, String> data;
+
+    /**
+     * Deep link URL for the notification
+     */
+    String deepLink;
+
+    /**
+     * Product SKU for back-in-stock schedules, if any
+     */
+    String sku;
+
+    /**
+     * Current status
+     */
+    ScheduledNotificationStatus status;
+
+    /**
+     * Timestamp when the schedule was created
+     */
+    LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the last delivery attempt was claimed
+     */
+    LocalDateTime processedAt;
+
+    /**
+     * Timestamp when the notification was sent
+     */
+    LocalDateTime sentAt;
+
+    /**
+     * Error message of the last failed attempt
+     */
+    String errorMessage;
+
+    /**
+     * Number of failed delivery attempts
+     */
+    int retryCount;
+
+    /**
+     * Creates a new PENDING scheduled notification
+     */
+    public static ScheduledNotification create(NotificationType type, String recipient, String title, String message,
+                                               Map<String, String> data, String deepLink,
+                                               NotificationPriority priority, LocalDateTime scheduledTime) {
+        return ScheduledNotification.builder()
+                .id(UUID.randomUUID().toString())
+                .type(type)
+                .recipient(recipient)
+                .title(title)
+                .message(message)
+                .data(data)
+                .deepLink(deepLink)
+                .priority(priority != null ? priority : NotificationPriority.NORMAL)
+                .scheduledTime(scheduledTime)
+                .status(ScheduledNotificationStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .retryCount(0)
+                .build();
+    }
+
+    /**
+     * Builds the notification handed to the provider when the schedule fires.
+     * It keeps the schedule's ID so provider logs can be correlated with it.
+     */
+    public Notification toNotification() {
+        return Notification.builder()
+                .id(this.id)
+                .type(this.type)
+                .recipient(this.recipient)
+                .title(this.title)
+                .message(this.message)
+                .data(this.data)
+                .deepLink(this.deepLink)
+                .priority(this.priority)
+                .status(NotificationStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.ozi.notification.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for scheduled notification persistence operations.
+ * Status transitions are conditional updates so that several instances can
+ * race for the same row and exactly one of them wins.
+ */
+public interface ScheduledNotificationRepository {
+
+    /**
+     * Saves a scheduled notification.
+     *
+     * @param scheduledNotification The scheduled notification to save
+     * @return The saved scheduled notification
+     */
+    ScheduledNotification save(ScheduledNotification scheduledNotification);
+
+    /**
+     * Finds a scheduled notification by its ID.
+     *
+     * @param id The scheduled notification ID
+     * @return Optional containing the scheduled notification if found
+     */
+    Optional<ScheduledNotification> findById(String id);
+
+    /**
+     * Finds pending scheduled notifications due before the given time, earliest first.
+     *
+     * @param until Exclusive upper bound of the scheduled time
+     * @param limit Maximum number of rows returned
+     * @return List of pending scheduled notifications
+     */
+    List<ScheduledNotification> findPendingDueBefore(LocalDateTime until, int limit);
+
+    /**
+     * Claims a pending scheduled notification for sending (PENDING to PROCESSING) under a processing lease.
+     *
+     * @param id The scheduled notification ID
+     * @return true if this caller claimed it, false if it is no longer pending
+     */
+    boolean claim(String id);
+
+    /**
+     * Releases scheduled notifications whose processing lease has expired: they return to
+     * PENDING, or are marked FAILED once maxAttempts claims of them have expired.
+     *
+     * @param maxAttempts Number of expired claims after which a scheduled notification is failed
+     * @param limit       Maximum number of scheduled notifications to release
+     * @return Number of scheduled notifications released or failed
+     */
+    int releaseExpiredClaims(int maxAttempts, int limit);
+
+    /**
+     * Marks a claimed scheduled notification as sent.
+     *
+     * @param id The scheduled notification ID
+     * @return true if the update was successful
+     */
+    boolean markAsSent(String id);
+
+    /**
+     * Marks a claimed scheduled notification as failed.
+     *
+     * @param id The scheduled notification ID
+     * @param errorMessage The error message
+     * @return true if the update was successful
+     */
+    boolean markAsFailed(String id, String errorMessage);
+
+    /**
+     * Cancels a claimed scheduled notification that must not be sent, recording why.
+     *
+     * @param id The scheduled notification ID
+     * @param reason Why the notification was not sent
+     * @return true if the update was successful
+     */
+    boolean markAsSkipped(String id, String reason);
+
+    /**
+     * Returns a claimed scheduled notification to PENDING for another attempt.
+     *
+     * @param id The scheduled notification ID
+     * @param nextAttemptTime When the next attempt is due
+     * @param errorMessage The error of the failed attempt
+     * @param countAttempt Whether the failed attempt counts towards the retry limit
+     * @return true if the update was successful
+     */
+    boolean reschedule(String id, LocalDateTime nextAttemptTime, String errorMessage, boolean countAttempt);
+
+    /**
+     * Cancels a pending scheduled notification.
+     *
+     * @param id The scheduled notification ID
+     * @return true if it was cancelled, false if it is no longer pending
+     */
+    boolean cancel(String id);
+}
@@ -0,0 +1,31 @@
+package com.ozi.notification.domain;
+
+/**
+ * Status enum for notifications scheduled for future delivery.
+ */
+public enum ScheduledNotificationStatus {
+    /**
+     * Waiting for its scheduled time
+     */
+    PENDING,
+
+    /**
+     * Claimed by an instance and being sent
+     */
+    PROCESSING,
+
+    /**
+     * Successfully sent to the provider
+     */
+    SENT,
+
+    /**
+     * Sending failed after all attempts
+     */
+    FAILED,
+
+    /**
+     * Cancelled before it was sent
+     */
+    CANCELLED
+}
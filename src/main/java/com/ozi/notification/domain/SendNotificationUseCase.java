@@ -14,6 +14,15 @@ public interface SendNotificationUseCase {
      */
     SendNotificationResult execute(SendNotificationRequest request);
 
+    /**
+     * Sends a batch of notifications. The whole batch is persisted with one bulk insert
+     * before any of it is sent. Idempotency keys are not supported for batches.
+     *
+     * @param requests The requests containing notification details
+     * @return The result for each request, in request order
+     */
+    java.util.List<SendNotificationResult> executeAll(java.util.List<? extends SendNotificationRequest> requests);
+
     /**
      * Request object for sending notifications.
      */
@@ -25,6 +34,13 @@ public interface SendNotificationUseCase {
         java.util.Map<String, String> getData();
         String getDeepLink();
         NotificationPriority getPriority();
+
+        /**
+         * Client supplied key identifying retries of the same request, or null.
+         */
+        default String getIdempotencyKey() {
+            return null;
+        }
     }
 
     /**
@@ -5,7 +5,6 @@ import lombok.Value;
 
 import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Domain entity representing a stock notification event received from SQS.
@@ -116,7 +115,7 @@ public class StockNotificationEvent {
             Map<String, Object> rawPayload
     ) {
         return StockNotificationEvent.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UuidV7.generate())
                 .sqsMessageId(sqsMessageId)
                 .sqsMessageGroupId(sqsMessageGroupId)
                 .userId(userId)
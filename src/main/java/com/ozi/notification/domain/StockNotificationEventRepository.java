@@ -41,6 +41,17 @@ public interface StockNotificationEventRepository {
      */
     List<StockNotificationEvent> findByStatus(StockNotificationEventStatus status);
 
+    /**
+     * Lists events with the given status, newest first.
+     *
+     * @param status The event status
+     * @param after  Cursor of the last row on the previous page, or null for the first page
+     * @param limit  Maximum number of rows to return
+     * @return One page of slim event rows
+     */
+    CursorPage<StockNotificationEventSummary> findSummariesByStatus(
+            StockNotificationEventStatus status, PageCursor after, int limit);
+
     /**
      * Finds pending events that are ready to be processed.
      *
@@ -76,6 +87,34 @@ public interface StockNotificationEventRepository {
      */
     List<StockNotificationEvent> findDistinctPendingEventsForDate(LocalDate date);
 
+    /**
+     * Finds pending events received between two dates, inclusive, for processing.
+     * Returns only the first event for each user-SKU combination on each received date.
+     *
+     * @param from First received date to include
+     * @param to   Last received date to include
+     * @return List of unique events (one per user-SKU combination and received date)
+     */
+    List<StockNotificationEvent> findDistinctPendingEventsBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Claims a pending event for sending (PENDING to PROCESSING) under a processing lease.
+     *
+     * @param id The event ID
+     * @return true if this caller claimed it, false if it is no longer pending
+     */
+    boolean claim(String id);
+
+    /**
+     * Releases events whose processing lease has expired: they return to PENDING, or are
+     * marked FAILED once maxAttempts claims of them have expired.
+     *
+     * @param maxAttempts Number of expired claims after which an event is failed
+     * @param limit       Maximum number of events to release
+     * @return Number of events returned to PENDING or failed
+     */
+    int releaseExpiredClaims(int maxAttempts, int limit);
+
     /**
      * Updates the status of an event.
      *
@@ -0,0 +1,41 @@
+package com.ozi.notification.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Slim view of a stock notification event for listings. Leaves out the raw SQS payload.
+ */
+@Value
+@Builder
+public class StockNotificationEventSummary {
+
+    String id;
+
+    String userId;
+
+    Long itemId;
+
+    String sku;
+
+    StockNotificationEventStatus status;
+
+    LocalDateTime receivedAt;
+
+    LocalDateTime sentAt;
+
+    String errorMessage;
+
+    int retryCount;
+
+    LocalDateTime createdAt;
+
+    /**
+     * Cursor pointing at this event.
+     */
+    public PageCursor toCursor() {
+        return new PageCursor(createdAt, id);
+    }
+}
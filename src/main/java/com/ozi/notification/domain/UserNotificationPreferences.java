@@ -0,0 +1,119 @@
+package com.ozi.notification.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * Domain entity holding a user's notification channel opt-ins and local delivery times.
+ */
+@Value
+@Builder(toBuilder = true)
+public class UserNotificationPreferences {
+
+    public static final ZoneId DEFAULT_TIMEZONE = ZoneId.of("Asia/Kolkata");
+    public static final LocalTime DEFAULT_PUSH_TIME = LocalTime.of(10, 0);
+    public static final LocalTime DEFAULT_WHATSAPP_TIME = LocalTime.of(16, 0);
+
+    /**
+     * User identifier
+     */
+    String userId;
+
+    /**
+     * Whether the user receives push notifications
+     */
+    boolean pushEnabled;
+
+    /**
+     * Whether the user receives WhatsApp messages
+     */
+    boolean whatsappEnabled;
+
+    /**
+     * Time zone the delivery times are expressed in
+     */
+    ZoneId timezone;
+
+    /**
+     * Local time of day for push notifications
+     */
+    LocalTime pushScheduleTime;
+
+    /**
+     * Local time of day for WhatsApp messages
+     */
+    LocalTime whatsappScheduleTime;
+
+    /**
+     * Preferred language
+     */
+    String language;
+
+    /**
+     * Preferences applied to users without a stored row (the table defaults)
+     */
+    public static UserNotificationPreferences defaults(String userId) {
+        return UserNotificationPreferences.builder()
+                .userId(userId)
+                .pushEnabled(true)
+                .whatsappEnabled(true)
+                .timezone(DEFAULT_TIMEZONE)
+                .pushScheduleTime(DEFAULT_PUSH_TIME)
+                .whatsappScheduleTime(DEFAULT_WHATSAPP_TIME)
+                .language("en")
+                .build();
+    }
+
+    /**
+     * Checks whether the user accepts notifications of the given type.
+     * Channels without a preference column are always enabled.
+     */
+    public boolean isChannelEnabled(NotificationType type) {
+        return switch (type) {
+            case PUSH -> pushEnabled;
+            case WHATSAPP -> whatsappEnabled;
+            default -> true;
+        };
+    }
+
+    /**
+     * Local time of day the user wants notifications of the given type, empty if not configurable.
+     */
+    public Optional<LocalTime> getDeliveryTime(NotificationType type) {
+        return Optional.ofNullable(switch (type) {
+            case PUSH -> pushScheduleTime;
+            case WHATSAPP -> whatsappScheduleTime;
+            default -> null;
+        });
+    }
+
+    /**
+     * First delivery slot at or after the given time, as server local time.
+     */
+    public Optional<LocalDateTime> nextDeliverySlot(NotificationType type, LocalDateTime serverNow) {
+        return getDeliveryTime(type).map(time -> {
+            ZonedDateTime localNow = toUserZone(serverNow);
+            LocalDateTime slot = toServerTime(localNow.toLocalDate(), time);
+            return slot.isBefore(serverNow) ? toServerTime(localNow.toLocalDate().plusDays(1), time) : slot;
+        });
+    }
+
+    private ZonedDateTime toUserZone(LocalDateTime serverTime) {
+        return serverTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(zone());
+    }
+
+    private LocalDateTime toServerTime(LocalDate localDate, LocalTime time) {
+        return localDate.atTime(time).atZone(zone()).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    private ZoneId zone() {
+        return timezone != null ? timezone : DEFAULT_TIMEZONE;
+    }
+}
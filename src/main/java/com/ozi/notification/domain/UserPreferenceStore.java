@@ -0,0 +1,35 @@
+package com.ozi.notification.domain;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Read-mostly access to user notification preferences.
+ * Users without stored preferences get {@link UserNotificationPreferences#defaults(String)}.
+ */
+public interface UserPreferenceStore {
+
+    /**
+     * Returns the preferences of a user.
+     *
+     * @param userId The user ID
+     * @return The user's preferences, never null
+     */
+    UserNotificationPreferences get(String userId);
+
+    /**
+     * Returns the preferences of many users, loading all missing ones together.
+     *
+     * @param userIds The user IDs
+     * @return Preferences by user ID, with an entry for every requested ID
+     */
+    Map<String, UserNotificationPreferences> getAll(Collection<String> userIds);
+
+    /**
+     * Stores a user's preferences and makes them visible to subsequent reads.
+     *
+     * @param preferences The preferences to store
+     * @return The stored preferences
+     */
+    UserNotificationPreferences save(UserNotificationPreferences preferences);
+}
@@ -0,0 +1,115 @@
+package com.ozi.notification.infrastructure.config;
+
+import com.ozi.notification.domain.NotificationType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the per-provider circuit breakers.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.circuit-breaker")
+@Data
+public class CircuitBreakerProperties {
+
+    /**
+     * Whether provider calls are guarded by circuit breakers
+     */
+    private boolean enabled = true;
+
+    /**
+     * Settings applied to every provider without an explicit override
+     */
+    private Settings defaults = new Settings();
+
+    /**
+     * Per notification type overrides (e.g. notification.circuit-breaker.providers.push.*);
+     * settings an override leaves out are taken from the defaults
+     */
+    private Map<NotificationType, SettingsOverride> providers = new EnumMap<>(NotificationType.class);
+
+    /**
+     * Returns the settings for the given notification type: its override merged onto the defaults.
+     */
+    public Settings forType(NotificationType type) {
+        SettingsOverride override = providers.get(type);
+        return override != null ? override.applyTo(defaults) : defaults;
+    }
+
+    @Data
+    public static class Settings {
+        /**
+         * Number of most recent calls considered when computing failure and slow-call rates
+         */
+        private int slidingWindowSize = 50;
+
+        /**
+         * Minimum number of recorded calls before the rates are evaluated
+         */
+        private int minimumNumberOfCalls = 20;
+
+        /**
+         * Failure rate percentage at or above which the circuit opens
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * Slow-call rate percentage at or above which the circuit opens
+         */
+        private int slowCallRateThreshold = 80;
+
+        /**
+         * Calls taking longer than this are recorded as slow
+         */
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+
+        /**
+         * How long the circuit stays open before trial calls are allowed
+         */
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+        /**
+         * Number of trial calls permitted while half-open
+         */
+        private int permittedCallsInHalfOpenState = 3;
+    }
+
+    /**
+     * Settings of one notification type; unset (null) settings keep the default.
+     */
+    @Data
+    public static class SettingsOverride {
+        private Integer slidingWindowSize;
+        private Integer minimumNumberOfCalls;
+        private Integer failureRateThreshold;
+        private Integer slowCallRateThreshold;
+        private Duration slowCallDuration;
+        private Duration waitDurationInOpenState;
+        private Integer permittedCallsInHalfOpenState;
+
+        /**
+         * Returns a copy of the defaults with the settings of this override applied.
+         */
+        Settings applyTo(Settings defaults) {
+            Settings settings = new Settings();
+            settings.setSlidingWindowSize(slidingWindowSize != null ? slidingWindowSize : defaults.getSlidingWindowSize());
+            settings.setMinimumNumberOfCalls(minimumNumberOfCalls != null
+                    ? minimumNumberOfCalls : defaults.getMinimumNumberOfCalls());
+            settings.setFailureRateThreshold(failureRateThreshold != null
+                    ? failureRateThreshold : defaults.getFailureRateThreshold());
+            settings.setSlowCallRateThreshold(slowCallRateThreshold != null
+                    ? slowCallRateThreshold : defaults.getSlowCallRateThreshold());
+            settings.setSlowCallDuration(slowCallDuration != null ? slowCallDuration : defaults.getSlowCallDuration());
+            settings.setWaitDurationInOpenState(waitDurationInOpenState != null
+                    ? waitDurationInOpenState : defaults.getWaitDurationInOpenState());
+            settings.setPermittedCallsInHalfOpenState(permittedCallsInHalfOpenState != null
+                    ? permittedCallsInHalfOpenState : defaults.getPermittedCallsInHalfOpenState());
+            return settings;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for CleverTap integration.
  */
@@ -31,4 +33,27 @@ public class CleverTapProperties {
      * CleverTap Base URL (constructed from region)
      */
     private String baseUrl;
-}
\ No newline at end of file
+
+    /**
+     * Micro-batching of concurrent push sends into one ExternalTrigger request
+     */
+    private Batching batching = new Batching();
+
+    @Data
+    public static class Batching {
+        /**
+         * Whether concurrent push sends are combined into batched requests
+         */
+        private boolean enabled = true;
+
+        /**
+         * How long the first send of a batch waits for others to join
+         */
+        private Duration linger = Duration.ofMillis(5);
+
+        /**
+         * Maximum number of ExternalTrigger entries per request; a full batch is sent immediately
+         */
+        private int maxBatchSize = 50;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Opens provider connections (TCP connect and TLS handshake) once the application is ready,
+ * so the first real sends after a deploy reuse warm pooled connections.
+ * Warm-up runs in the background and its failures are only logged.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConnectionPoolWarmer {
+
+    private final WebClient cleverTapWebClient;
+    private final WebClient whatsAppWebClient;
+    private final WebClient smsWebClient;
+    private final HttpClientProperties httpClientProperties;
+    private final CleverTapProperties cleverTapProperties;
+    private final WhatsAppProperties whatsAppProperties;
+    private final SmsProperties smsProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        warmUp(InfrastructureConfig.CLEVERTAP, cleverTapWebClient, cleverTapProperties.getBaseUrl());
+        warmUp(InfrastructureConfig.WHATSAPP, whatsAppWebClient, whatsAppProperties.getApiUrl());
+        warmUp(InfrastructureConfig.SMS, smsWebClient, smsProperties.getApiUrl());
+    }
+
+    private void warmUp(String provider, WebClient webClient, String url) {
+        HttpClientProperties.Pool pool = httpClientProperties.forProvider(provider);
+        int connections = pool.getWarmupConnections();
+        if (connections <= 0 || url == null || url.isBlank()) {
+            return;
+        }
+
+        log.info("Pre-warming {} connections for provider {} at {}", connections, provider, url);
+
+        // Concurrent requests force the pool to open one connection each; the response itself is discarded
+        Flux.range(0, connections)
+                .flatMap(i -> webClient.head()
+                        .uri(url)
+                        .exchangeToMono(response -> response.releaseBody())
+                        .onErrorResume(e -> {
+                            log.debug("Warm-up request to {} failed: {}", provider, e.getMessage());
+                            return Mono.empty();
+                        }), connections)
+                .timeout(pool.getResponseTimeout())
+                .subscribe(
+                        ignored -> { },
+                        e -> log.warn("Connection warm-up for provider {} did not complete: {}", provider, e.getMessage()),
+                        () -> log.info("Connection warm-up for provider {} completed", provider)
+                );
+    }
+}
@@ -0,0 +1,31 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the background drain of pending notifications.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.drain")
+@Data
+public class DrainProperties {
+
+    /**
+     * Whether this instance drains pending notifications in the background; the process-pending endpoint works either way
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay before the next run after a run that sent or failed notifications
+     */
+    private Duration minInterval = Duration.ofMillis(500);
+
+    /**
+     * Longest delay between runs; the delay doubles after every run that found nothing to do, up to this
+     */
+    private Duration maxInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,91 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for email delivery over SMTP.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.email")
+@Data
+public class EmailProperties {
+
+    /**
+     * SMTP server host
+     */
+    private String host;
+
+    /**
+     * SMTP server port
+     */
+    private int port = 587;
+
+    /**
+     * SMTP username; authentication is used when set
+     */
+    private String username;
+
+    /**
+     * SMTP password
+     */
+    private String password;
+
+    /**
+     * Sender address of all emails
+     */
+    private String from;
+
+    /**
+     * Upgrade connections with STARTTLS
+     */
+    private boolean startTls = true;
+
+    /**
+     * Connect with implicit TLS (SMTPS) instead of STARTTLS
+     */
+    private boolean ssl = false;
+
+    /**
+     * Number of persistent SMTP connections, which is also the number of emails sent concurrently
+     */
+    private int connections = 4;
+
+    /**
+     * Maximum number of queued emails sent back to back over one connection before it is returned
+     */
+    private int batchSize = 20;
+
+    /**
+     * Maximum number of emails sent over one connection before it is reopened
+     */
+    private int maxMessagesPerConnection = 500;
+
+    /**
+     * Maximum number of emails waiting for a connection; sends beyond this are rejected
+     */
+    private int queueCapacity = 1_000;
+
+    /**
+     * Connections left idle this long are closed instead of being kept open
+     */
+    private Duration idleTimeout = Duration.ofSeconds(30);
+
+    /**
+     * SMTP connect timeout
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * SMTP read and write timeout
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Maximum time a send waits for its email to be accepted by the server, including queueing
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,54 @@
+package com.ozi.notification.infrastructure.config;
+
+import com.ozi.notification.domain.NotificationPriority;
+import com.ozi.notification.domain.NotificationType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for per-recipient frequency capping.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.frequency-cap")
+@Data
+public class FrequencyCapProperties {
+
+    /**
+     * Whether over-cap notifications are suppressed
+     */
+    private boolean enabled = true;
+
+    /**
+     * Length of the sliding window the caps apply to
+     */
+    private Duration window = Duration.ofHours(1);
+
+    /**
+     * Number of independently locked counter stripes
+     */
+    private int stripes = 64;
+
+    /**
+     * Maximum number of recipient counters kept in memory; least recently used are evicted first
+     */
+    private int maxTrackedRecipients = 100_000;
+
+    /**
+     * Maximum notifications per recipient and window, by type and priority
+     * (e.g. notification.frequency-cap.limits.push.normal=6). Missing entries are uncapped.
+     */
+    private Map<NotificationType, Map<NotificationPriority, Integer>> limits = new EnumMap<>(NotificationType.class);
+
+    /**
+     * Returns the cap for the given type and priority, or null if uncapped.
+     */
+    public Integer limitFor(NotificationType type, NotificationPriority priority) {
+        Map<NotificationPriority, Integer> typeLimits = limits.get(type);
+        return typeLimits != null ? typeLimits.get(priority) : null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the per-provider HTTP connection pools.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.http")
+@Data
+public class HttpClientProperties {
+
+    /**
+     * Pool settings applied to every provider without an explicit override
+     */
+    private Pool defaults = new Pool();
+
+    /**
+     * Per provider overrides keyed by provider name (clevertap, whatsapp, sms); settings an
+     * override leaves out are taken from the defaults
+     */
+    private Map<String, PoolOverride> providers = new HashMap<>();
+
+    /**
+     * Returns the pool settings for the given provider: its override merged onto the defaults.
+     */
+    public Pool forProvider(String provider) {
+        PoolOverride override = providers.get(provider);
+        return override != null ? override.applyTo(defaults) : defaults;
+    }
+
+    @Data
+    public static class Pool {
+        /**
+         * Maximum number of open connections to the provider
+         */
+        private int maxConnections = 50;
+
+        /**
+         * Maximum number of requests waiting for a connection before new ones are rejected
+         */
+        private int pendingAcquireMaxCount = 500;
+
+        /**
+         * Maximum time a request waits for a pooled connection
+         */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Idle connections are closed after this time
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        /**
+         * Connections are retired after this lifetime
+         */
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        /**
+         * Interval of the background eviction of idle and expired connections
+         */
+        private Duration evictionInterval = Duration.ofSeconds(30);
+
+        /**
+         * TCP connection timeout
+         */
+        private Duration connectTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Response, read and write timeout
+         */
+        private Duration responseTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Whether to negotiate HTTP/2 (via ALPN) with HTTP/1.1 fallback; only for https endpoints
+         */
+        private boolean http2 = false;
+
+        /**
+         * Number of connections opened (including the TLS handshake) at startup; 0 disables pre-warming
+         */
+        private int warmupConnections = 0;
+    }
+
+    /**
+     * Pool settings of one provider; unset (null) settings keep the default.
+     */
+    @Data
+    public static class PoolOverride {
+        private Integer maxConnections;
+        private Integer pendingAcquireMaxCount;
+        private Duration pendingAcquireTimeout;
+        private Duration maxIdleTime;
+        private Duration maxLifeTime;
+        private Duration evictionInterval;
+        private Duration connectTimeout;
+        private Duration responseTimeout;
+        private Boolean http2;
+        private Integer warmupConnections;
+
+        /**
+         * Returns a copy of the defaults with the settings of this override applied.
+         */
+        Pool applyTo(Pool defaults) {
+            Pool pool = new Pool();
+            pool.setMaxConnections(maxConnections != null ? maxConnections : defaults.getMaxConnections());
+            pool.setPendingAcquireMaxCount(pendingAcquireMaxCount != null
+                    ? pendingAcquireMaxCount : defaults.getPendingAcquireMaxCount());
+            pool.setPendingAcquireTimeout(pendingAcquireTimeout != null
+                    ? pendingAcquireTimeout : defaults.getPendingAcquireTimeout());
+            pool.setMaxIdleTime(maxIdleTime != null ? maxIdleTime : defaults.getMaxIdleTime());
+            pool.setMaxLifeTime(maxLifeTime != null ? maxLifeTime : defaults.getMaxLifeTime());
+            pool.setEvictionInterval(evictionInterval != null ? evictionInterval : defaults.getEvictionInterval());
+            pool.setConnectTimeout(connectTimeout != null ? connectTimeout : defaults.getConnectTimeout());
+            pool.setResponseTimeout(responseTimeout != null ? responseTimeout : defaults.getResponseTimeout());
+            pool.setHttp2(http2 != null ? http2 : defaults.isHttp2());
+            pool.setWarmupConnections(warmupConnections != null ? warmupConnections : defaults.getWarmupConnections());
+            return pool;
+        }
+    }
+}
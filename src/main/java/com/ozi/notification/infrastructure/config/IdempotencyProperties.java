@@ -0,0 +1,26 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for Idempotency-Key handling on the send endpoint.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.idempotency")
+@Data
+public class IdempotencyProperties {
+
+    /**
+     * Maximum number of results kept in memory; the oldest entries are evicted first
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * How long a result is kept in memory. Older keys are still answered from the database
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
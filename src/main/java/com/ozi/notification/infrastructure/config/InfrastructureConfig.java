@@ -4,37 +4,82 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Infrastructure configuration for external service integrations.
+ *
+ * Every provider gets its own named connection pool and WebClient, so a slow or
+ * saturated provider cannot hold connections or queue slots needed by another.
  */
 @Configuration
+@RequiredArgsConstructor
+@Slf4j
 public class InfrastructureConfig {
 
+    public static final String CLEVERTAP = "clevertap";
+    public static final String WHATSAPP = "whatsapp";
+    public static final String SMS = "sms";
+
+    private final HttpClientProperties httpClientProperties;
+
+    /**
+     * Connection pool for CleverTap API calls (push and stock events).
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider cleverTapConnectionProvider() {
+        return connectionProvider(CLEVERTAP);
+    }
+
+    /**
+     * Connection pool for WhatsApp Business API calls.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider whatsAppConnectionProvider() {
+        return connectionProvider(WHATSAPP);
+    }
+
+    /**
+     * Connection pool for SMS gateway calls.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider smsConnectionProvider() {
+        return connectionProvider(SMS);
+    }
+
     /**
-     * Configures WebClient for external API calls.
+     * Configures WebClient for CleverTap API calls.
      */
     @Bean
-    public WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000) // 10 seconds connection timeout
-                .responseTimeout(Duration.ofSeconds(30)) // 30 seconds response timeout
-                .doOnConnected(conn -> conn
-                        .addHandlerLast(new ReadTimeoutHandler(30, TimeUnit.SECONDS))
-                        .addHandlerLast(new WriteTimeoutHandler(30, TimeUnit.SECONDS)));
+    public WebClient cleverTapWebClient(ConnectionProvider cleverTapConnectionProvider) {
+        return webClient(CLEVERTAP, cleverTapConnectionProvider);
+    }
 
-        return WebClient.builder()
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024)) // 2MB max
-                .build();
+    /**
+     * Configures WebClient for WhatsApp API calls.
+     */
+    @Bean
+    public WebClient whatsAppWebClient(ConnectionProvider whatsAppConnectionProvider) {
+        return webClient(WHATSAPP, whatsAppConnectionProvider);
+    }
+
+    /**
+     * Configures WebClient for SMS gateway calls.
+     */
+    @Bean
+    public WebClient smsWebClient(ConnectionProvider smsConnectionProvider) {
+        return webClient(SMS, smsConnectionProvider);
     }
 
     /**
@@ -44,4 +89,45 @@ public class InfrastructureConfig {
     public ObjectMapper objectMapper() {
         return new ObjectMapper();
     }
-}
\ No newline at end of file
+
+    private ConnectionProvider connectionProvider(String provider) {
+        HttpClientProperties.Pool pool = httpClientProperties.forProvider(provider);
+        log.info("Creating connection pool {}: maxConnections={}, pendingAcquireMaxCount={}, http2={}",
+                provider, pool.getMaxConnections(), pool.getPendingAcquireMaxCount(), pool.isHttp2());
+
+        return ConnectionProvider.builder(provider)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictionInterval())
+                .metrics(true) // reactor.netty.connection.provider.* gauges tagged with the pool name
+                .build();
+    }
+
+    private WebClient webClient(String provider, ConnectionProvider connectionProvider) {
+        HttpClientProperties.Pool pool = httpClientProperties.forProvider(provider);
+        long timeoutMillis = pool.getResponseTimeout().toMillis();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+                .responseTimeout(pool.getResponseTimeout())
+                .metrics(true, Function.identity())
+                .doOnConnected(conn -> conn
+                        .addHandlerLast(new ReadTimeoutHandler(timeoutMillis, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(timeoutMillis, TimeUnit.MILLISECONDS)));
+
+        if (pool.isHttp2()) {
+            httpClient = httpClient.secure().protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        // Initialise event loops, native transport and the DNS resolver up front
+        httpClient.warmup().block();
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024)) // 2MB max
+                .build();
+    }
+}
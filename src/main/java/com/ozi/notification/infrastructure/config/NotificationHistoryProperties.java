@@ -0,0 +1,41 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the write-behind notification history.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.history")
+@Data
+public class NotificationHistoryProperties {
+
+    /**
+     * Whether delivered notifications are recorded in notification_history
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of entries waiting to be written; entries recorded while the buffer is full are dropped
+     */
+    private int bufferCapacity = 10_000;
+
+    /**
+     * Maximum number of rows per batch insert
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum time an entry waits in the buffer before it is written
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long shutdown waits for buffered entries to be written
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
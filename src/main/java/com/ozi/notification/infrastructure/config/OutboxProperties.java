@@ -0,0 +1,62 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the notification dispatch outbox.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.outbox")
+@Data
+public class OutboxProperties {
+
+    /**
+     * Whether pending notifications are written to notification_outbox and dispatched from it
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of dispatch worker threads on this instance; 0 only writes the outbox
+     */
+    private int workers = 2;
+
+    /**
+     * Maximum number of outbox rows claimed per worker at a time
+     */
+    private int batchSize = 50;
+
+    /**
+     * How long a worker waits before claiming again after finding no due rows
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long a new notification is left to the request sending it before outbox workers or the
+     * pending drain may pick it up; must be longer than the slowest provider call
+     */
+    private Duration dispatchDelay = Duration.ofMinutes(2);
+
+    /**
+     * How long claimed rows are hidden from other workers; rows of a worker that dies are claimed again after it
+     */
+    private Duration lease = Duration.ofMinutes(5);
+
+    /**
+     * Maximum number of delivery attempts before a notification is marked FAILED
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Delay before a failed attempt is retried, multiplied by the attempt number
+     */
+    private Duration retryBackoff = Duration.ofMinutes(1);
+
+    /**
+     * How long shutdown waits for workers to finish the notifications they claimed
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
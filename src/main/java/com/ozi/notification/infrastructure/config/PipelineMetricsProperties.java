@@ -0,0 +1,34 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration properties for the pipeline stage timers.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.metrics")
+@Data
+public class PipelineMetricsProperties {
+
+    /**
+     * Percentiles computed per instance for every stage timer
+     */
+    private List<Double> percentiles = List.of(0.5, 0.95, 0.99);
+
+    /**
+     * Whether stage timers also publish a percentile histogram, for percentiles aggregated across instances
+     */
+    private boolean percentileHistogram = false;
+
+    /**
+     * Latency targets published as histogram buckets, so the share of stages within each target can be alerted on
+     */
+    private List<Duration> slo = List.of(
+            Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5));
+}
@@ -0,0 +1,32 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the user notification preference cache.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.preferences.cache")
+@Data
+public class PreferenceCacheProperties {
+
+    /**
+     * Maximum number of users kept in memory; least recently used are evicted first
+     */
+    private int maxEntries = 100_000;
+
+    /**
+     * How long cached preferences are used before they are reloaded, bounding the staleness
+     * of changes made directly in the database
+     */
+    private Duration ttl = Duration.ofMinutes(15);
+
+    /**
+     * Maximum number of user IDs per bulk load query
+     */
+    private int bulkLoadChunkSize = 1_000;
+}
@@ -0,0 +1,49 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for processing leases on notifications, stock notification events
+ * and scheduled notifications.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.processing")
+@Data
+public class ProcessingLeaseProperties {
+
+    /**
+     * How long a claimed row may stay PROCESSING before it is considered abandoned;
+     * must be longer than the slowest provider call
+     */
+    private Duration lease = Duration.ofMinutes(5);
+
+    /**
+     * Whether this instance returns rows with expired leases to PENDING
+     */
+    private boolean reapEnabled = true;
+
+    /**
+     * How often expired leases are looked for
+     */
+    private Duration reapInterval = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of rows per table released per run
+     */
+    private int reapBatchSize = 1000;
+
+    /**
+     * Number of expired claims after which a row is marked FAILED instead of returned to PENDING
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * How long a claimed notification returned to PENDING because its provider is unavailable
+     * is left out of claims, so the notifications behind it are claimed in the meantime
+     */
+    private Duration deferDelay = Duration.ofSeconds(30);
+}
@@ -0,0 +1,33 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-process caches in front of notification and
+ * stock notification event lookups by ID.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.read-cache")
+@Data
+public class ReadCacheProperties {
+
+    /**
+     * Whether lookups by ID are cached
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of rows kept in memory per cache
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * How long a cached row is served after it was written. Bounds the staleness of
+     * changes made by other instances, which only invalidate their own caches
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,77 @@
+package com.ozi.notification.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes read-only transactions to a read replica with its own connection pool.
+ *
+ * The application data source is a lazy proxy: a transaction only takes a physical
+ * connection on its first statement, from the replica pool if it was started with
+ * {@code @Transactional(readOnly = true)} and from the primary pool otherwise. Query
+ * endpoints therefore no longer compete with the send and ingest paths for primary
+ * connections. Reads that must see their own or very recent writes opt into the
+ * primary with {@link com.ozi.notification.infrastructure.repository.PrimaryRead}.
+ *
+ * Without notification.datasource.replica.enabled=true Spring Boot's single data
+ * source is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "notification.datasource.replica", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaDataSourceConfig {
+
+    /**
+     * Primary pool, configured by spring.datasource.* as without a replica.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Replica pool, sized by notification.datasource.replica.hikari.*.
+     */
+    @Bean
+    @ConfigurationProperties("notification.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties replica, DataSourceProperties primary) {
+        if (replica.getUrl() == null || replica.getUrl().isBlank()) {
+            throw new IllegalStateException("notification.datasource.replica.url is required when the replica is enabled");
+        }
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(replica.getUrl())
+                .username(replica.getUsername() != null ? replica.getUsername() : primary.determineUsername())
+                .password(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        log.info("Routing read-only transactions to the read replica");
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
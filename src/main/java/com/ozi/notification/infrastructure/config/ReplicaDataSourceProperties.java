@@ -0,0 +1,35 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the read replica used by read-only transactions.
+ * Pool settings are bound separately from notification.datasource.replica.hikari.*.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.datasource.replica")
+@Data
+public class ReplicaDataSourceProperties {
+
+    /**
+     * Whether read-only transactions are routed to the replica
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDBC URL of the replica
+     */
+    private String url;
+
+    /**
+     * Replica user; defaults to the primary's
+     */
+    private String username;
+
+    /**
+     * Replica password; defaults to the primary's
+     */
+    private String password;
+}
@@ -0,0 +1,61 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the scheduled notification dispatcher.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.scheduling")
+@Data
+public class SchedulingProperties {
+
+    /**
+     * Whether this instance fires scheduled notifications. Scheduling through the API works either way
+     */
+    private boolean enabled = true;
+
+    /**
+     * Resolution of the timing wheel; notifications fire at most one tick late
+     */
+    private Duration tick = Duration.ofMillis(100);
+
+    /**
+     * Number of slots per timing wheel level
+     */
+    private int wheelSize = 512;
+
+    /**
+     * How far ahead pending schedules are loaded into memory
+     */
+    private Duration loadWindow = Duration.ofMinutes(5);
+
+    /**
+     * How often the next window of pending schedules is loaded; must be shorter than the load window
+     */
+    private Duration loadInterval = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of schedules loaded per run
+     */
+    private int loadBatchSize = 10_000;
+
+    /**
+     * Number of threads sending fired notifications
+     */
+    private int dispatchThreads = 4;
+
+    /**
+     * Maximum number of delivery attempts before a schedule is marked FAILED
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Delay before a failed attempt is retried, multiplied by the attempt number
+     */
+    private Duration retryBackoff = Duration.ofMinutes(1);
+}
@@ -0,0 +1,54 @@
+package com.ozi.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the SMS gateway integration.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.sms")
+@Data
+public class SmsProperties {
+
+    /**
+     * SMS gateway base URL
+     */
+    private String apiUrl;
+
+    /**
+     * SMS gateway API key
+     */
+    private String apiKey;
+
+    /**
+     * Sender ID or number the messages are sent from
+     */
+    private String senderId;
+
+    /**
+     * Bulk submission of concurrent sends
+     */
+    private Batching batching = new Batching();
+
+    @Data
+    public static class Batching {
+        /**
+         * Whether concurrent sends are combined into bulk requests
+         */
+        private boolean enabled = true;
+
+        /**
+         * How long the first send of a batch waits for others to join
+         */
+        private Duration linger = Duration.ofMillis(10);
+
+        /**
+         * Maximum number of messages per bulk request; larger submissions are split into chunks
+         */
+        private int maxBatchSize = 100;
+    }
+}
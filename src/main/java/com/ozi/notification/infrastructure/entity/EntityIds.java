@@ -0,0 +1,60 @@
+package com.ozi.notification.infrastructure.entity;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Conversions between the string IDs used by the domain and API and the UUIDs
+ * stored as BINARY(16) primary keys.
+ */
+public final class EntityIds {
+
+    private EntityIds() {
+    }
+
+    /**
+     * Parses a domain ID, returning null for null or malformed IDs (which match no row).
+     */
+    public static UUID parse(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Formats a stored ID for the domain.
+     */
+    public static String format(UUID id) {
+        return id != null ? id.toString() : null;
+    }
+
+    /**
+     * Returns the BINARY(16) form of a domain ID for JDBC statements, or null.
+     */
+    public static byte[] toBytes(String id) {
+        UUID uuid = parse(id);
+        if (uuid == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Formats a BINARY(16) column read with JDBC for the domain, or null.
+     */
+    public static String fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
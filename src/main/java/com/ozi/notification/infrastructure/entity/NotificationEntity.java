@@ -10,10 +10,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.Type;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * JPA entity for notifications.
@@ -26,9 +29,13 @@ import java.util.Map;
 @AllArgsConstructor
 public class NotificationEntity {
 
+    /**
+     * Time-ordered UUIDv7 stored as BINARY(16)
+     */
     @Id
-    @Column(name = "id", length = 36)
-    private String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "type", nullable = false)
@@ -60,6 +67,25 @@ public class NotificationEntity {
     @Builder.Default
     private NotificationStatus status = NotificationStatus.PENDING;
 
+    /**
+     * When the current claim expires; only set while PROCESSING
+     */
+    @Column(name = "processing_until")
+    private LocalDateTime processingUntil;
+
+    /**
+     * Number of times an expired claim was returned to PENDING; not part of the domain model
+     */
+    @Column(name = "retry_count", nullable = false)
+    @Builder.Default
+    private Integer retryCount = 0;
+
+    /**
+     * Claims skip the notification until then; set when it was deferred because its provider was unavailable
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -73,12 +99,15 @@ public class NotificationEntity {
     @Column(name = "metadata", columnDefinition = "json")
     private Map<String, Object> metadata;
 
+    @Column(name = "idempotency_key", unique = true)
+    private String idempotencyKey;
+
     /**
      * Converts domain Notification to NotificationEntity.
      */
     public static NotificationEntity fromDomain(Notification notification) {
         return NotificationEntity.builder()
-                .id(notification.getId())
+                .id(EntityIds.parse(notification.getId()))
                 .type(notification.getType())
                 .recipient(notification.getRecipient())
                 .title(notification.getTitle())
@@ -91,6 +120,7 @@ public class NotificationEntity {
                 .sentAt(notification.getSentAt())
                 .errorMessage(notification.getErrorMessage())
                 .metadata(notification.getMetadata())
+                .idempotencyKey(notification.getIdempotencyKey())
                 .build();
     }
 
@@ -99,7 +129,7 @@ public class NotificationEntity {
      */
     public Notification toDomain() {
         return Notification.builder()
-                .id(this.id)
+                .id(EntityIds.format(this.id))
                 .type(this.type)
                 .recipient(this.recipient)
                 .title(this.title)
@@ -112,6 +142,7 @@ public class NotificationEntity {
                 .sentAt(this.sentAt)
                 .errorMessage(this.errorMessage)
                 .metadata(this.metadata)
+                .idempotencyKey(this.idempotencyKey)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.ozi.notification.infrastructure.entity;
+
+import com.ozi.notification.domain.NotificationPriority;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.domain.ScheduledNotification;
+import com.ozi.notification.domain.ScheduledNotificationStatus;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * JPA entity for scheduled notifications.
+ */
+@Entity
+@Table(name = "scheduled_notifications")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledNotificationEntity {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false, length = 255)
+    private String recipient;
+
+    @Column(name = "sku", length = 50)
+    private String sku;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false)
+    private NotificationType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false)
+    @Builder.Default
+    private NotificationPriority priority = NotificationPriority.NORMAL;
+
+    @Column(name = "scheduled_time", nullable = false)
+    private LocalDateTime scheduledTime;
+
+    @Column(name = "title", columnDefinition = "TEXT")
+    private String title;
+
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+
+    @Type(JsonType.class)
+    @Column(name = "data", columnDefinition = "json")
+    private Map<String, String> data;
+
+    @Column(name = "deep_link", columnDefinition = "TEXT")
+    private String deepLink;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private ScheduledNotificationStatus status = ScheduledNotificationStatus.PENDING;
+
+    @Column(name = "processing_until")
+    private LocalDateTime processingUntil;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "retry_count", nullable = false)
+    @Builder.Default
+    private Integer retryCount = 0;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Converts domain ScheduledNotification to entity.
+     */
+    public static ScheduledNotificationEntity fromDomain(ScheduledNotification scheduledNotification) {
+        return ScheduledNotificationEntity.builder()
+                .id(scheduledNotification.getId())
+                .recipient(scheduledNotification.getRecipient())
+                .sku(scheduledNotification.getSku())
+                .type(scheduledNotification.getType())
+                .priority(scheduledNotification.getPriority())
+                .scheduledTime(scheduledNotification.getScheduledTime())
+                .title(scheduledNotification.getTitle())
+                .message(scheduledNotification.getMessage())
+                .data(scheduledNotification.getData())
+                .deepLink(scheduledNotification.getDeepLink())
+                .status(scheduledNotification.getStatus())
+                .createdAt(scheduledNotification.getCreatedAt())
+                .processedAt(scheduledNotification.getProcessedAt())
+                .sentAt(scheduledNotification.getSentAt())
+                .errorMessage(scheduledNotification.getErrorMessage())
+                .retryCount(scheduledNotification.getRetryCount())
+                .build();
+    }
+
+    /**
+     * Converts entity to domain ScheduledNotification.
+     */
+    public ScheduledNotification toDomain() {
+        return ScheduledNotification.builder()
+                .id(this.id)
+                .recipient(this.recipient)
+                .sku(this.sku)
+                .type(this.type)
+                .priority(this.priority)
+                .scheduledTime(this.scheduledTime)
+                .title(this.title)
+                .message(this.message)
+                .data(this.data)
+                .deepLink(this.deepLink)
+                .status(this.status)
+                .createdAt(this.createdAt)
+                .processedAt(this.processedAt)
+                .sentAt(this.sentAt)
+                .errorMessage(this.errorMessage)
+                .retryCount(this.retryCount != null ? this.retryCount : 0)
+                .build();
+    }
+}
@@ -8,10 +8,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.Type;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * JPA entity for stock notification events.
@@ -24,9 +27,13 @@ import java.util.Map;
 @AllArgsConstructor
 public class StockNotificationEventEntity {
 
+    /**
+     * Time-ordered UUIDv7 stored as BINARY(16)
+     */
     @Id
-    @Column(name = "id", length = 36)
-    private String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
 
     @Column(name = "sqs_message_id", nullable = false, length = 100)
     private String sqsMessageId;
@@ -60,6 +67,12 @@ public class StockNotificationEventEntity {
     @Builder.Default
     private StockNotificationEventStatus status = StockNotificationEventStatus.PENDING;
 
+    /**
+     * When the current claim expires; only set while PROCESSING
+     */
+    @Column(name = "processing_until")
+    private LocalDateTime processingUntil;
+
     @Column(name = "received_at", nullable = false)
     private LocalDateTime receivedAt;
 
@@ -110,7 +123,7 @@ public class StockNotificationEventEntity {
      */
     public static StockNotificationEventEntity fromDomain(StockNotificationEvent event) {
         return StockNotificationEventEntity.builder()
-                .id(event.getId())
+                .id(EntityIds.parse(event.getId()))
                 .sqsMessageId(event.getSqsMessageId())
                 .sqsMessageGroupId(event.getSqsMessageGroupId())
                 .userId(event.getUserId())
@@ -135,7 +148,7 @@ public class StockNotificationEventEntity {
      */
     public StockNotificationEvent toDomain() {
         return StockNotificationEvent.builder()
-                .id(this.id)
+                .id(EntityIds.format(this.id))
                 .sqsMessageId(this.sqsMessageId)
                 .sqsMessageGroupId(this.sqsMessageGroupId)
                 .userId(this.userId)
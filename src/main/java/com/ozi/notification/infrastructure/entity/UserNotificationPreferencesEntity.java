@@ -0,0 +1,113 @@
+package com.ozi.notification.infrastructure.entity;
+
+import com.ozi.notification.domain.UserNotificationPreferences;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * JPA entity for user notification preferences.
+ */
+@Entity
+@Table(name = "user_notification_preferences")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Slf4j
+public class UserNotificationPreferencesEntity {
+
+    @Id
+    @Column(name = "user_id", length = 50)
+    private String userId;
+
+    @Column(name = "push_notifications_enabled")
+    private Boolean pushEnabled;
+
+    @Column(name = "whatsapp_enabled")
+    private Boolean whatsappEnabled;
+
+    @Column(name = "preferred_timezone", length = 50)
+    private String preferredTimezone;
+
+    @Column(name = "push_schedule_time")
+    private LocalTime pushScheduleTime;
+
+    @Column(name = "whatsapp_schedule_time")
+    private LocalTime whatsappScheduleTime;
+
+    @Column(name = "language", length = 10)
+    private String language;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Converts domain UserNotificationPreferences to entity.
+     */
+    public static UserNotificationPreferencesEntity fromDomain(UserNotificationPreferences preferences) {
+        return UserNotificationPreferencesEntity.builder()
+                .userId(preferences.getUserId())
+                .pushEnabled(preferences.isPushEnabled())
+                .whatsappEnabled(preferences.isWhatsappEnabled())
+                .preferredTimezone(preferences.getTimezone() != null ? preferences.getTimezone().getId() : null)
+                .pushScheduleTime(preferences.getPushScheduleTime())
+                .whatsappScheduleTime(preferences.getWhatsappScheduleTime())
+                .language(preferences.getLanguage())
+                .build();
+    }
+
+    /**
+     * Converts entity to domain UserNotificationPreferences; NULL columns fall back to the table defaults.
+     */
+    public UserNotificationPreferences toDomain() {
+        UserNotificationPreferences defaults = UserNotificationPreferences.defaults(this.userId);
+        return UserNotificationPreferences.builder()
+                .userId(this.userId)
+                .pushEnabled(this.pushEnabled != null ? this.pushEnabled : defaults.isPushEnabled())
+                .whatsappEnabled(this.whatsappEnabled != null ? this.whatsappEnabled : defaults.isWhatsappEnabled())
+                .timezone(parseZone(this.preferredTimezone, defaults.getTimezone()))
+                .pushScheduleTime(this.pushScheduleTime != null ? this.pushScheduleTime : defaults.getPushScheduleTime())
+                .whatsappScheduleTime(this.whatsappScheduleTime != null
+                        ? this.whatsappScheduleTime : defaults.getWhatsappScheduleTime())
+                .language(this.language != null ? this.language : defaults.getLanguage())
+                .build();
+    }
+
+    private ZoneId parseZone(String zone, ZoneId fallback) {
+        if (zone == null || zone.isBlank()) {
+            return fallback;
+        }
+        try {
+            return ZoneId.of(zone);
+        } catch (DateTimeException e) {
+            log.warn("Invalid preferred_timezone '{}' for user {}, using {}", zone, userId, fallback);
+            return fallback;
+        }
+    }
+}
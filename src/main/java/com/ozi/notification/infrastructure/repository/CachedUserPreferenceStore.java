@@ -0,0 +1,152 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.ozi.notification.domain.UserNotificationPreferences;
+import com.ozi.notification.domain.UserPreferenceStore;
+import com.ozi.notification.infrastructure.config.PreferenceCacheProperties;
+import com.ozi.notification.infrastructure.entity.UserNotificationPreferencesEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * UserPreferenceStore backed by user_notification_preferences with a size-bounded,
+ * expiring LRU cache in front of it.
+ *
+ * Misses of a bulk read are loaded with one IN query per chunk, so resolving the
+ * preferences of a whole batch costs at most one query per chunk rather than one per
+ * user. Users without a row are cached as defaults too. Writes go through this store
+ * and replace the cached entry; changes made directly in the table are picked up when
+ * the entry expires.
+ */
+@Repository
+@Slf4j
+public class CachedUserPreferenceStore implements UserPreferenceStore {
+
+    private final UserNotificationPreferencesJpaRepository jpaRepository;
+    private final long ttlNanos;
+    private final int chunkSize;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, CachedPreferences> cache;
+
+    @Autowired
+    public CachedUserPreferenceStore(UserNotificationPreferencesJpaRepository jpaRepository,
+                                     PreferenceCacheProperties properties) {
+        this(jpaRepository, properties, System::nanoTime);
+    }
+
+    CachedUserPreferenceStore(UserNotificationPreferencesJpaRepository jpaRepository,
+                              PreferenceCacheProperties properties, LongSupplier clock) {
+        this.jpaRepository = jpaRepository;
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.chunkSize = Math.max(1, properties.getBulkLoadChunkSize());
+        this.clock = clock;
+        int maxEntries = properties.getMaxEntries();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPreferences> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public UserNotificationPreferences get(String userId) {
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, UserNotificationPreferences> getAll(Collection<String> userIds) {
+        Map<String, UserNotificationPreferences> result = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+        long now = clock.getAsLong();
+
+        synchronized (cache) {
+            for (String userId : userIds) {
+                if (userId == null || result.containsKey(userId)) {
+                    continue;
+                }
+                CachedPreferences cached = cache.get(userId);
+                if (cached != null && now - cached.expiresAt < 0) {
+                    result.put(userId, cached.preferences);
+                } else {
+                    misses.add(userId);
+                }
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<String, UserNotificationPreferences> loaded = load(misses);
+            long expiresAt = clock.getAsLong() + ttlNanos;
+            synchronized (cache) {
+                loaded.forEach((userId, preferences) -> cache.put(userId, new CachedPreferences(preferences, expiresAt)));
+            }
+            result.putAll(loaded);
+            log.debug("Loaded notification preferences for {} users ({} served from cache)",
+                    misses.size(), result.size() - misses.size());
+        }
+
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public UserNotificationPreferences save(UserNotificationPreferences preferences) {
+        log.debug("Saving notification preferences for user {}", preferences.getUserId());
+
+        UserNotificationPreferences saved = jpaRepository.save(UserNotificationPreferencesEntity.fromDomain(preferences))
+                .toDomain();
+        synchronized (cache) {
+            cache.put(saved.getUserId(), new CachedPreferences(saved, clock.getAsLong() + ttlNanos));
+        }
+        return saved;
+    }
+
+    private Map<String, UserNotificationPreferences> load(Set<String> userIds) {
+        Map<String, UserNotificationPreferences> loaded = new HashMap<>(userIds.size() * 2);
+        List<String> chunk = new ArrayList<>(Math.min(chunkSize, userIds.size()));
+        for (String userId : userIds) {
+            chunk.add(userId);
+            if (chunk.size() == chunkSize) {
+                loadChunk(chunk, loaded);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            loadChunk(chunk, loaded);
+        }
+
+        // Users without a row get the table defaults and are cached as such
+        for (String userId : userIds) {
+            loaded.computeIfAbsent(userId, UserNotificationPreferences::defaults);
+        }
+        return loaded;
+    }
+
+    private void loadChunk(List<String> userIds, Map<String, UserNotificationPreferences> loaded) {
+        for (UserNotificationPreferencesEntity entity : jpaRepository.findAllById(userIds)) {
+            loaded.put(entity.getUserId(), entity.toDomain());
+        }
+    }
+
+    private static final class CachedPreferences {
+        private final UserNotificationPreferences preferences;
+        private final long expiresAt;
+
+        private CachedPreferences(UserNotificationPreferences preferences, long expiresAt) {
+            this.preferences = preferences;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
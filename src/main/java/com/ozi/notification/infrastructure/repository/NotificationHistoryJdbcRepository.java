@@ -0,0 +1,69 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozi.notification.domain.NotificationHistoryEntry;
+import com.ozi.notification.infrastructure.entity.EntityIds;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends rows to notification_history with JDBC batch inserts.
+ * With rewriteBatchedStatements enabled on the MySQL driver each batch is sent as
+ * multi-row INSERT statements instead of one round trip per row.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationHistoryJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification_history (user_id, sku, notification_type, notification_id, " +
+            "scheduled_notification_id, title, message, data, deep_link, sent_at, delivery_status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'SENT')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Inserts the entries in a single batch.
+     *
+     * @param entries The entries to insert
+     */
+    public void insertAll(List<NotificationHistoryEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.getRecipient());
+            ps.setString(2, entry.getSku());
+            ps.setString(3, entry.getType().name());
+            ps.setBytes(4, EntityIds.toBytes(entry.getNotificationId()));
+            ps.setString(5, entry.getScheduledNotificationId());
+            ps.setString(6, entry.getTitle());
+            ps.setString(7, entry.getMessage());
+            ps.setString(8, toJson(entry.getData()));
+            ps.setString(9, entry.getDeepLink());
+            ps.setTimestamp(10, Timestamp.valueOf(entry.getSentAt()));
+        });
+        log.debug("Inserted {} notification history rows", entries.size());
+    }
+
+    private String toJson(Map<String, String> data) {
+        if (data == null || data.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize notification history data: {}", e.getMessage());
+            return null;
+        }
+    }
+}
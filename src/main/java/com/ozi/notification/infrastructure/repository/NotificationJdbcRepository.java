@@ -0,0 +1,111 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozi.notification.domain.Notification;
+import com.ozi.notification.domain.NotificationStatus;
+import com.ozi.notification.infrastructure.entity.EntityIds;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts new notifications with JDBC batch inserts, bypassing entity mapping and
+ * Hibernate's JSON types. JSON columns are serialized once per row before binding.
+ * With rewriteBatchedStatements enabled on the MySQL driver each batch is sent as
+ * multi-row INSERT statements instead of one round trip per row. Outcomes of claimed
+ * notifications are written back with batched UPDATE statements the same way.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationJdbcRepository {
+
+    /**
+     * Rows per JDBC batch; larger lists are sent as several batches
+     */
+    static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (id, type, recipient, title, message, data, deep_link, priority, " +
+            "status, created_at, sent_at, error_message, metadata, idempotency_key) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_RESULT_SQL =
+            "UPDATE notifications SET status = ?, sent_at = ?, error_message = ?, processing_until = NULL, " +
+            "next_attempt_at = ? WHERE id = ? AND status = 'PROCESSING'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Inserts the notifications in batches of {@value #BATCH_SIZE} rows.
+     *
+     * @param notifications The notifications to insert; none of them may exist yet
+     */
+    public void insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, BATCH_SIZE, (ps, notification) -> {
+            ps.setBytes(1, EntityIds.toBytes(notification.getId()));
+            ps.setString(2, notification.getType().name());
+            ps.setString(3, notification.getRecipient());
+            ps.setString(4, notification.getTitle());
+            ps.setString(5, notification.getMessage());
+            ps.setString(6, toJson(notification.getData()));
+            ps.setString(7, notification.getDeepLink());
+            ps.setString(8, notification.getPriority().name());
+            ps.setString(9, notification.getStatus().name());
+            ps.setTimestamp(10, toTimestamp(notification.getCreatedAt()));
+            ps.setTimestamp(11, toTimestamp(notification.getSentAt()));
+            ps.setString(12, notification.getErrorMessage());
+            ps.setString(13, toJson(notification.getMetadata()));
+            ps.setString(14, notification.getIdempotencyKey());
+        });
+        log.debug("Inserted {} notifications", notifications.size());
+    }
+
+    /**
+     * Writes status, sent time and error message of claimed notifications in batches of
+     * {@value #BATCH_SIZE} rows and clears their lease. Rows that are no longer PROCESSING are not changed.
+     * Rows returned to PENDING are left out of claims until the given time.
+     *
+     * @param notifications The claimed notifications with their new status
+     * @param deferUntil    Next attempt time of the notifications returned to PENDING
+     */
+    public void updateResults(List<Notification> notifications, LocalDateTime deferUntil) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_RESULT_SQL, notifications, BATCH_SIZE, (ps, notification) -> {
+            ps.setString(1, notification.getStatus().name());
+            ps.setTimestamp(2, toTimestamp(notification.getSentAt()));
+            ps.setString(3, notification.getErrorMessage());
+            ps.setTimestamp(4, notification.getStatus() == NotificationStatus.PENDING ? toTimestamp(deferUntil) : null);
+            ps.setBytes(5, EntityIds.toBytes(notification.getId()));
+        });
+        log.debug("Updated {} notification results", notifications.size());
+    }
+
+    private String toJson(Map<String, ?> value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize notification JSON column: " + e.getMessage(), e);
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+}
@@ -1,7 +1,10 @@
 package com.ozi.notification.infrastructure.repository;
 
+import com.ozi.notification.domain.NotificationPriority;
 import com.ozi.notification.domain.NotificationStatus;
+import com.ozi.notification.domain.NotificationType;
 import com.ozi.notification.infrastructure.entity.NotificationEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,54 +13,177 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JPA repository for notification entities.
  */
 @Repository
-public interface NotificationJpaRepository extends JpaRepository<NotificationEntity, String> {
+public interface NotificationJpaRepository extends JpaRepository<NotificationEntity, UUID> {
+
+    String SUMMARY_SELECT = "SELECT n.id AS id, n.type AS type, n.recipient AS recipient, n.title AS title, " +
+            "n.priority AS priority, n.status AS status, n.createdAt AS createdAt, n.sentAt AS sentAt, " +
+            "n.errorMessage AS errorMessage FROM NotificationEntity n ";
+
+    String BEFORE_CURSOR = "(n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))";
+
+    /**
+     * Pending drain claim; native so that NotificationIndexPlanTest can EXPLAIN the exact statement
+     */
+    String LOCK_PENDING_SQL = "SELECT * FROM notifications WHERE status = 'PENDING' AND created_at <= :createdBefore " +
+            "AND (next_attempt_at IS NULL OR next_attempt_at <= :now) " +
+            "ORDER BY created_at ASC, id ASC LIMIT :limit FOR UPDATE SKIP LOCKED";
 
     /**
      * Find notifications by status.
      */
     List<NotificationEntity> findByStatus(NotificationStatus status);
 
+    /**
+     * Find the notification created for an idempotency key.
+     */
+    Optional<NotificationEntity> findByIdempotencyKey(String idempotencyKey);
+
     /**
      * Find notifications by recipient.
      */
     List<NotificationEntity> findByRecipient(String recipient);
 
+    /**
+     * First page of notifications with a status, newest first.
+     */
+    @Query(SUMMARY_SELECT + "WHERE n.status = :status ORDER BY n.createdAt DESC, n.id DESC")
+    List<SummaryRow> findSummariesByStatus(@Param("status") NotificationStatus status, Pageable pageable);
+
+    /**
+     * Next page of notifications with a status, after the row at (createdAt, id).
+     */
+    @Query(SUMMARY_SELECT + "WHERE n.status = :status AND " + BEFORE_CURSOR + " ORDER BY n.createdAt DESC, n.id DESC")
+    List<SummaryRow> findSummariesByStatusAfter(@Param("status") NotificationStatus status,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                Pageable pageable);
+
+    /**
+     * First page of notifications for a recipient, newest first.
+     */
+    @Query(SUMMARY_SELECT + "WHERE n.recipient = :recipient ORDER BY n.createdAt DESC, n.id DESC")
+    List<SummaryRow> findSummariesByRecipient(@Param("recipient") String recipient, Pageable pageable);
+
+    /**
+     * Next page of notifications for a recipient, after the row at (createdAt, id).
+     */
+    @Query(SUMMARY_SELECT + "WHERE n.recipient = :recipient AND " + BEFORE_CURSOR + " ORDER BY n.createdAt DESC, n.id DESC")
+    List<SummaryRow> findSummariesByRecipientAfter(@Param("recipient") String recipient,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") UUID id,
+                                                   Pageable pageable);
+
     /**
      * Find pending notifications that are ready to be processed.
      */
     @Query("SELECT n FROM NotificationEntity n WHERE n.status = 'PENDING' ORDER BY n.createdAt ASC")
     List<NotificationEntity> findPendingNotifications();
 
+    /**
+     * Lock the oldest pending notifications created before a time and not deferred past now,
+     * skipping rows locked by other transactions.
+     */
+    @Query(value = LOCK_PENDING_SQL, nativeQuery = true)
+    List<NotificationEntity> lockPendingCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore,
+                                                      @Param("now") LocalDateTime now,
+                                                      @Param("limit") int limit);
+
+    /**
+     * Claim locked pending notifications for sending.
+     */
+    @Modifying
+    @Query("UPDATE NotificationEntity n SET n.status = 'PROCESSING', n.processingUntil = :leaseUntil " +
+           "WHERE n.id IN :ids AND n.status = 'PENDING'")
+    int claimAll(@Param("ids") List<UUID> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Claim a pending notification for sending.
+     */
+    @Modifying
+    @Query("UPDATE NotificationEntity n SET n.status = 'PROCESSING', n.processingUntil = :leaseUntil " +
+           "WHERE n.id = :id AND n.status = 'PENDING'")
+    int claim(@Param("id") UUID id, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Find claimed notifications whose lease has expired.
+     */
+    @Query("SELECT n.id AS id, n.retryCount AS retryCount FROM NotificationEntity n " +
+           "WHERE n.status = 'PROCESSING' AND n.processingUntil < :now")
+    List<ExpiredClaim> findExpiredClaims(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Return claimed notifications with expired leases to PENDING.
+     */
+    @Modifying
+    @Query("UPDATE NotificationEntity n SET n.status = 'PENDING', n.processingUntil = null, n.retryCount = n.retryCount + 1 " +
+           "WHERE n.id IN :ids AND n.status = 'PROCESSING' AND n.processingUntil < :now")
+    int releaseExpired(@Param("ids") List<UUID> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Fail claimed notifications with expired leases.
+     */
+    @Modifying
+    @Query("UPDATE NotificationEntity n SET n.status = 'FAILED', n.processingUntil = null, n.retryCount = n.retryCount + 1, " +
+           "n.errorMessage = :errorMessage WHERE n.id IN :ids AND n.status = 'PROCESSING' AND n.processingUntil < :now")
+    int failExpired(@Param("ids") List<UUID> ids, @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+
     /**
      * Update notification status.
      */
     @Modifying
-    @Query("UPDATE NotificationEntity n SET n.status = :status WHERE n.id = :id")
-    int updateStatus(@Param("id") String id, @Param("status") NotificationStatus status);
+    @Query("UPDATE NotificationEntity n SET n.status = :status, n.processingUntil = null WHERE n.id = :id")
+    int updateStatus(@Param("id") UUID id, @Param("status") NotificationStatus status);
 
     /**
      * Update notification status with error message.
      */
     @Modifying
-    @Query("UPDATE NotificationEntity n SET n.status = :status, n.errorMessage = :errorMessage WHERE n.id = :id")
-    int updateStatusWithError(@Param("id") String id, @Param("status") NotificationStatus status, @Param("errorMessage") String errorMessage);
+    @Query("UPDATE NotificationEntity n SET n.status = :status, n.errorMessage = :errorMessage, n.processingUntil = null " +
+           "WHERE n.id = :id")
+    int updateStatusWithError(@Param("id") UUID id, @Param("status") NotificationStatus status, @Param("errorMessage") String errorMessage);
 
     /**
      * Update notification as sent.
      */
     @Modifying
-    @Query("UPDATE NotificationEntity n SET n.status = 'SENT', n.sentAt = :sentAt WHERE n.id = :id")
-    int markAsSent(@Param("id") String id, @Param("sentAt") LocalDateTime sentAt);
+    @Query("UPDATE NotificationEntity n SET n.status = 'SENT', n.sentAt = :sentAt, n.processingUntil = null WHERE n.id = :id")
+    int markAsSent(@Param("id") UUID id, @Param("sentAt") LocalDateTime sentAt);
 
     /**
      * Update notification as failed.
      */
     @Modifying
-    @Query("UPDATE NotificationEntity n SET n.status = 'FAILED', n.errorMessage = :errorMessage WHERE n.id = :id")
-    int markAsFailed(@Param("id") String id, @Param("errorMessage") String errorMessage);
-}
\ No newline at end of file
+    @Query("UPDATE NotificationEntity n SET n.status = 'FAILED', n.errorMessage = :errorMessage, n.processingUntil = null " +
+           "WHERE n.id = :id")
+    int markAsFailed(@Param("id") UUID id, @Param("errorMessage") String errorMessage);
+
+    /**
+     * ID and retry count of a claim with an expired lease.
+     */
+    interface ExpiredClaim {
+        UUID getId();
+        Integer getRetryCount();
+    }
+
+    /**
+     * Listing projection; selects only the columns shown in listings.
+     */
+    interface SummaryRow {
+        UUID getId();
+        NotificationType getType();
+        String getRecipient();
+        String getTitle();
+        NotificationPriority getPriority();
+        NotificationStatus getStatus();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getSentAt();
+        String getErrorMessage();
+    }
+}
@@ -0,0 +1,137 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.ozi.notification.infrastructure.entity.EntityIds;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads and writes notification_outbox, the queue of notifications waiting to be dispatched.
+ *
+ * Writes join the caller's transaction, so a row is enqueued or acknowledged atomically with
+ * the notification change that causes it. Claims run in their own transaction: due rows are
+ * locked with SKIP LOCKED, so concurrent workers never wait on or receive the same rows, and
+ * their available_at is pushed forward by the lease before the locks are released.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxJdbcRepository {
+
+    private static final String ENQUEUE_SQL =
+            "INSERT INTO notification_outbox (notification_id, available_at, attempts) VALUES (?, ?, 0) " +
+            "ON DUPLICATE KEY UPDATE notification_id = notification_id";
+
+    private static final String CLAIM_SQL =
+            "SELECT notification_id, attempts FROM notification_outbox WHERE available_at <= ? " +
+            "ORDER BY available_at, notification_id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String LEASE_SQL =
+            "UPDATE notification_outbox SET available_at = ?, attempts = attempts + 1 WHERE notification_id = ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE notification_outbox SET available_at = ?, attempts = attempts - ? WHERE notification_id = ?";
+
+    private static final String ACK_SQL = "DELETE FROM notification_outbox WHERE notification_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds notifications to the outbox; notifications already in it keep their row.
+     *
+     * @param notificationIds The notifications to dispatch
+     * @param availableAt     When workers may first claim them
+     */
+    public void enqueueAll(List<String> notificationIds, LocalDateTime availableAt) {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+        Timestamp available = Timestamp.valueOf(availableAt);
+        jdbcTemplate.batchUpdate(ENQUEUE_SQL, notificationIds, NotificationJdbcRepository.BATCH_SIZE, (ps, id) -> {
+            ps.setBytes(1, EntityIds.toBytes(id));
+            ps.setTimestamp(2, available);
+        });
+        log.debug("Enqueued {} notifications for dispatch", notificationIds.size());
+    }
+
+    /**
+     * Claims due rows for dispatch. Each claimed row counts an attempt and stays hidden from
+     * other claims until the lease ends, when it is claimed again unless it was acknowledged
+     * or released.
+     *
+     * @param limit      Maximum number of rows to claim
+     * @param leaseUntil When the claimed rows become available again
+     * @return The claimed rows, oldest first
+     */
+    @Transactional
+    public List<ClaimedEntry> claim(int limit, LocalDateTime leaseUntil) {
+        List<ClaimedEntry> claimed = jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new ClaimedEntry(EntityIds.fromBytes(rs.getBytes(1)), rs.getInt(2) + 1),
+                Timestamp.valueOf(LocalDateTime.now()), limit);
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+
+        Timestamp lease = Timestamp.valueOf(leaseUntil);
+        jdbcTemplate.batchUpdate(LEASE_SQL, claimed, claimed.size(), (ps, entry) -> {
+            ps.setTimestamp(1, lease);
+            ps.setBytes(2, EntityIds.toBytes(entry.getNotificationId()));
+        });
+        log.debug("Claimed {} outbox rows until {}", claimed.size(), leaseUntil);
+        return claimed;
+    }
+
+    /**
+     * Returns a claimed row to the queue before its lease ends.
+     *
+     * @param notificationId The notification ID
+     * @param availableAt    When the row may be claimed again
+     * @param countAttempt   Whether the claim counts as a delivery attempt
+     */
+    public void release(String notificationId, LocalDateTime availableAt, boolean countAttempt) {
+        jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(availableAt), countAttempt ? 0 : 1,
+                EntityIds.toBytes(notificationId));
+    }
+
+    /**
+     * Removes a notification from the outbox once it needs no further dispatch.
+     *
+     * @param notificationId The notification ID
+     */
+    public void ack(String notificationId) {
+        jdbcTemplate.update(ACK_SQL, (Object) EntityIds.toBytes(notificationId));
+    }
+
+    /**
+     * Removes notifications from the outbox once they need no further dispatch.
+     *
+     * @param notificationIds The notification IDs
+     */
+    public void ackAll(List<String> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ACK_SQL, notificationIds, NotificationJdbcRepository.BATCH_SIZE,
+                (ps, id) -> ps.setBytes(1, EntityIds.toBytes(id)));
+    }
+
+    /**
+     * A claimed outbox row.
+     */
+    @Value
+    public static class ClaimedEntry {
+        String notificationId;
+
+        /**
+         * Number of claims including this one
+         */
+        int attempts;
+    }
+}
@@ -1,51 +1,148 @@
 package com.ozi.notification.infrastructure.repository;
 
+import com.ozi.notification.domain.CursorPage;
+import com.ozi.notification.domain.DuplicateIdempotencyKeyException;
 import com.ozi.notification.domain.Notification;
 import com.ozi.notification.domain.NotificationRepository;
 import com.ozi.notification.domain.NotificationStatus;
+import com.ozi.notification.domain.NotificationSummary;
+import com.ozi.notification.domain.PageCursor;
+import com.ozi.notification.infrastructure.config.OutboxProperties;
+import com.ozi.notification.infrastructure.config.ProcessingLeaseProperties;
+import com.ozi.notification.infrastructure.entity.EntityIds;
+import com.ozi.notification.infrastructure.config.ReadCacheProperties;
+import com.ozi.notification.infrastructure.config.ReplicaDataSourceProperties;
 import com.ozi.notification.infrastructure.entity.NotificationEntity;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of NotificationRepository using JPA.
+ * Bulk inserts bypass JPA and go through {@link NotificationJdbcRepository}.
+ * Lookups by ID are served from a read-through cache that is updated by this
+ * repository's own writes and invalidated by its status updates.
+ * Saving a PENDING notification enqueues it in the dispatch outbox and moving it to a
+ * final status removes it, in the same transaction as the notification write. Claims
+ * (PENDING to PROCESSING) carry a lease that is cleared when the outcome is written;
+ * claimed rows returned to PENDING are left out of claims for the defer delay.
  */
 @Repository
-@RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class NotificationRepositoryImpl implements NotificationRepository {
 
     private final NotificationJpaRepository jpaRepository;
+    private final NotificationJdbcRepository jdbcRepository;
+    private final NotificationOutboxJdbcRepository outboxRepository;
+    private final OutboxProperties outboxProperties;
+    private final ProcessingLeaseProperties leaseProperties;
+    private final ReadThroughCache<Notification> cache;
+
+    public NotificationRepositoryImpl(NotificationJpaRepository jpaRepository,
+                                      NotificationJdbcRepository jdbcRepository,
+                                      NotificationOutboxJdbcRepository outboxRepository,
+                                      OutboxProperties outboxProperties,
+                                      ProcessingLeaseProperties leaseProperties,
+                                      ReadCacheProperties readCacheProperties,
+                                      ReplicaDataSourceProperties replicaProperties,
+                                      MeterRegistry meterRegistry,
+                                      PlatformTransactionManager transactionManager) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.outboxRepository = outboxRepository;
+        this.outboxProperties = outboxProperties;
+        this.leaseProperties = leaseProperties;
+        this.cache = new ReadThroughCache<>("notifications", readCacheProperties, replicaProperties, meterRegistry,
+                transactionManager);
+    }
 
     @Override
     public Notification save(Notification notification) {
         log.debug("Saving notification with ID: {}", notification.getId());
 
         NotificationEntity entity = NotificationEntity.fromDomain(notification);
-        NotificationEntity savedEntity = jpaRepository.save(entity);
+        // retry_count is not in the domain model; keep the stored count when saving over an existing row.
+        // The merge in save() reads the row anyway, so this lookup adds no query.
+        jpaRepository.findById(entity.getId()).ifPresent(existing -> entity.setRetryCount(existing.getRetryCount()));
+        NotificationEntity savedEntity;
+        if (notification.getIdempotencyKey() != null) {
+            // Flush so a concurrent duplicate key surfaces here rather than at commit
+            try {
+                savedEntity = jpaRepository.saveAndFlush(entity);
+            } catch (DataIntegrityViolationException e) {
+                throw new DuplicateIdempotencyKeyException(notification.getIdempotencyKey(), e);
+            }
+        } else {
+            savedEntity = jpaRepository.save(entity);
+        }
 
         log.debug("Successfully saved notification with ID: {}", savedEntity.getId());
-        return savedEntity.toDomain();
+        Notification saved = savedEntity.toDomain();
+        syncOutbox(saved.getId(), saved.getStatus());
+        cache.put(saved.getId(), saved);
+        return saved;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public List<Notification> saveAll(List<Notification> notifications) {
+        log.debug("Inserting {} notifications", notifications.size());
+
+        jdbcRepository.insertAll(notifications);
+        if (outboxProperties.isEnabled()) {
+            outboxRepository.enqueueAll(notifications.stream()
+                    .filter(notification -> notification.getStatus() == NotificationStatus.PENDING)
+                    .map(Notification::getId)
+                    .toList(), dispatchAvailableAt());
+        }
+        notifications.forEach(notification -> cache.put(notification.getId(), notification));
+        return notifications;
+    }
+
+    @Override
+    // No transaction of its own: cache hits must not borrow a connection; misses load read-only
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Notification> findById(String id) {
         log.debug("Finding notification by ID: {}", id);
 
-        return jpaRepository.findById(id)
+        return cache.get(id, key -> Optional.ofNullable(EntityIds.parse(key))
+                .flatMap(jpaRepository::findById)
+                .map(NotificationEntity::toDomain));
+    }
+
+    @Override
+    @PrimaryRead
+    public Optional<Notification> findCurrentById(String id) {
+        log.debug("Finding current notification by ID: {}", id);
+
+        return Optional.ofNullable(EntityIds.parse(id))
+                .flatMap(jpaRepository::findById)
                 .map(NotificationEntity::toDomain);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @PrimaryRead
+    public Optional<Notification> findByIdempotencyKey(String idempotencyKey) {
+        log.debug("Finding notification by idempotency key: {}", idempotencyKey);
+
+        return jpaRepository.findByIdempotencyKey(idempotencyKey)
+                .map(NotificationEntity::toDomain);
+    }
+
+    @Override
+    @PrimaryRead
     public List<Notification> findByStatus(NotificationStatus status) {
         log.debug("Finding notifications by status: {}", status);
 
@@ -68,6 +165,31 @@ public class NotificationRepositoryImpl implements NotificationRepository {
 
     @Override
     @Transactional(readOnly = true)
+    public CursorPage<NotificationSummary> findSummariesByStatus(NotificationStatus status, PageCursor after, int limit) {
+        log.debug("Listing notifications by status: {} after: {} limit: {}", status, after, limit);
+
+        // One extra row tells whether there is a next page
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<NotificationJpaRepository.SummaryRow> rows = after == null
+                ? jpaRepository.findSummariesByStatus(status, page)
+                : jpaRepository.findSummariesByStatusAfter(status, after.getCreatedAt(), cursorId(after), page);
+        return toPage(rows, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationSummary> findSummariesByRecipient(String recipient, PageCursor after, int limit) {
+        log.debug("Listing notifications by recipient: {} after: {} limit: {}", recipient, after, limit);
+
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<NotificationJpaRepository.SummaryRow> rows = after == null
+                ? jpaRepository.findSummariesByRecipient(recipient, page)
+                : jpaRepository.findSummariesByRecipientAfter(recipient, after.getCreatedAt(), cursorId(after), page);
+        return toPage(rows, limit);
+    }
+
+    @Override
+    @PrimaryRead
     public List<Notification> findPendingNotifications() {
         log.debug("Finding pending notifications");
 
@@ -77,12 +199,82 @@ public class NotificationRepositoryImpl implements NotificationRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Notification> claimPending(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdBefore = now.minus(outboxProperties.getDispatchDelay());
+        log.debug("Claiming up to {} pending notifications created before {}", limit, createdBefore);
+
+        List<NotificationEntity> locked = jpaRepository.lockPendingCreatedBefore(createdBefore, now, limit);
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+        // The rows are locked by this transaction, so every one of them is claimed
+        jpaRepository.claimAll(locked.stream().map(NotificationEntity::getId).toList(), leaseUntil());
+
+        List<Notification> claimed = locked.stream()
+                .map(entity -> entity.toDomain().markAsProcessing())
+                .toList();
+        claimed.forEach(notification -> cache.invalidate(notification.getId()));
+        return claimed;
+    }
+
+    @Override
+    public void saveResults(List<Notification> notifications) {
+        log.debug("Saving results of {} notifications", notifications.size());
+
+        LocalDateTime deferUntil = LocalDateTime.now().plus(leaseProperties.getDeferDelay());
+        jdbcRepository.updateResults(notifications, deferUntil);
+        notifications.forEach(notification -> cache.invalidate(notification.getId()));
+        if (outboxProperties.isEnabled()) {
+            outboxRepository.enqueueAll(idsWithStatus(notifications, true), deferUntil);
+            outboxRepository.ackAll(idsWithStatus(notifications, false));
+        }
+    }
+
+    @Override
+    public int releaseExpiredClaims(int maxAttempts, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationJpaRepository.ExpiredClaim> expired = jpaRepository.findExpiredClaims(now, PageRequest.of(0, limit));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        // true: this was the last allowed attempt
+        Map<Boolean, List<UUID>> exhausted = expired.stream().collect(Collectors.partitioningBy(
+                claim -> claim.getRetryCount() + 1 >= maxAttempts,
+                Collectors.mapping(NotificationJpaRepository.ExpiredClaim::getId, Collectors.toList())));
+        int released = exhausted.get(false).isEmpty() ? 0 : jpaRepository.releaseExpired(exhausted.get(false), now);
+        int failed = exhausted.get(true).isEmpty() ? 0 : jpaRepository.failExpired(exhausted.get(true),
+                "Processing lease expired " + maxAttempts + " times", now);
+
+        expired.forEach(claim -> cache.invalidate(EntityIds.format(claim.getId())));
+        if (outboxProperties.isEnabled()) {
+            outboxRepository.enqueueAll(exhausted.get(false).stream().map(EntityIds::format).toList(), now);
+            outboxRepository.ackAll(exhausted.get(true).stream().map(EntityIds::format).toList());
+        }
+        return released + failed;
+    }
+
+    @Override
+    public boolean claim(String id) {
+        log.debug("Claiming notification {}", id);
+
+        int updatedRows = jpaRepository.claim(EntityIds.parse(id), leaseUntil());
+        cache.invalidate(id);
+        return updatedRows > 0;
+    }
+
     @Override
     public boolean updateStatus(String id, NotificationStatus status) {
         log.debug("Updating notification {} status to {}", id, status);
 
-        int updatedRows = jpaRepository.updateStatus(id, status);
+        int updatedRows = jpaRepository.updateStatus(EntityIds.parse(id), status);
+        cache.invalidate(id);
         boolean success = updatedRows > 0;
+        if (success) {
+            syncOutbox(id, status);
+        }
 
         if (success) {
             log.debug("Successfully updated notification {} status", id);
@@ -97,8 +289,12 @@ public class NotificationRepositoryImpl implements NotificationRepository {
     public boolean updateStatusWithError(String id, NotificationStatus status, String errorMessage) {
         log.debug("Updating notification {} status to {} with error: {}", id, status, errorMessage);
 
-        int updatedRows = jpaRepository.updateStatusWithError(id, status, errorMessage);
+        int updatedRows = jpaRepository.updateStatusWithError(EntityIds.parse(id), status, errorMessage);
+        cache.invalidate(id);
         boolean success = updatedRows > 0;
+        if (success) {
+            syncOutbox(id, status);
+        }
 
         if (success) {
             log.debug("Successfully updated notification {} status with error", id);
@@ -108,4 +304,68 @@ public class NotificationRepositoryImpl implements NotificationRepository {
 
         return success;
     }
-}
\ No newline at end of file
+
+    /**
+     * Keeps the outbox row of a notification in step with its new status.
+     */
+    private void syncOutbox(String id, NotificationStatus status) {
+        if (!outboxProperties.isEnabled()) {
+            return;
+        }
+        switch (status) {
+            // Keeps the existing row (and its schedule) if there is one
+            case PENDING -> outboxRepository.enqueueAll(List.of(id), dispatchAvailableAt());
+            // The worker or request sending it holds the row
+            case PROCESSING -> {
+            }
+            default -> outboxRepository.ack(id);
+        }
+    }
+
+    /**
+     * IDs of the notifications that are (or are not) PENDING, leaving out PROCESSING ones.
+     */
+    private static List<String> idsWithStatus(List<Notification> notifications, boolean pending) {
+        return notifications.stream()
+                .filter(notification -> notification.getStatus() != NotificationStatus.PROCESSING)
+                .filter(notification -> (notification.getStatus() == NotificationStatus.PENDING) == pending)
+                .map(Notification::getId)
+                .toList();
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plus(leaseProperties.getLease());
+    }
+
+    /**
+     * New notifications are left to the request that sends them before workers pick them up.
+     */
+    private LocalDateTime dispatchAvailableAt() {
+        return LocalDateTime.now().plus(outboxProperties.getDispatchDelay());
+    }
+
+    private static UUID cursorId(PageCursor cursor) {
+        UUID id = EntityIds.parse(cursor.getId());
+        if (id == null) {
+            throw new IllegalArgumentException("Invalid cursor ID: " + cursor.getId());
+        }
+        return id;
+    }
+
+    private static CursorPage<NotificationSummary> toPage(List<NotificationJpaRepository.SummaryRow> rows, int limit) {
+        List<NotificationSummary> summaries = rows.stream()
+                .map(row -> NotificationSummary.builder()
+                        .id(EntityIds.format(row.getId()))
+                        .type(row.getType())
+                        .recipient(row.getRecipient())
+                        .title(row.getTitle())
+                        .priority(row.getPriority())
+                        .status(row.getStatus())
+                        .createdAt(row.getCreatedAt())
+                        .sentAt(row.getSentAt())
+                        .errorMessage(row.getErrorMessage())
+                        .build())
+                .collect(Collectors.toList());
+        return CursorPage.of(summaries, limit, NotificationSummary::toCursor);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ozi.notification.infrastructure.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a repository read that must run on the primary database rather than the read
+ * replica, because it has to see writes that may not have replicated yet (deduplication
+ * checks, rows about to be processed). Such reads run in a read-write transaction,
+ * which is what keeps them off the replica.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional
+public @interface PrimaryRead {
+}
@@ -0,0 +1,99 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.ozi.notification.infrastructure.config.ReadCacheProperties;
+import com.ozi.notification.infrastructure.config.ReplicaDataSourceProperties;
+import com.ozi.notification.infrastructure.service.cache.WTinyLfuCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Read-through cache of domain objects by ID for the repository implementations.
+ *
+ * Writes made inside a transaction reach the cache only after it commits, so a rolled
+ * back change is never served. Invalidations are applied immediately and again after
+ * commit, so a concurrent lookup cannot put back the row as it was before the write.
+ *
+ * Hits take no database connection. Misses are loaded in a read-only transaction (joining
+ * the caller's transaction if there is one), which routes them to the read replica when
+ * one is configured. A row read from the replica may lag behind the primary, so with a
+ * replica only this instance's own writes are cached and loaded rows are not; otherwise
+ * a stale row would be served for the whole TTL.
+ *
+ * @param <V> The domain type
+ */
+final class ReadThroughCache<V> {
+
+    private final WTinyLfuCache<String, V> cache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean cacheLoaded;
+
+    ReadThroughCache(String name, ReadCacheProperties properties, ReplicaDataSourceProperties replicaProperties,
+                     MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+        this.cache = new WTinyLfuCache<>(properties.isEnabled() ? properties.getMaxEntries() : 0, properties.getTtl());
+        cache.bindTo(meterRegistry, name);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        readOnlyTransaction.setReadOnly(true);
+        this.cacheLoaded = !replicaProperties.isEnabled();
+    }
+
+    /**
+     * Returns the cached value, or loads it in a read-only transaction and caches it unless
+     * it may have come from the replica.
+     */
+    Optional<V> get(String id, Function<String, Optional<V>> loader) {
+        V cached = cache.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<V> loaded = readOnlyTransaction.execute(status -> loader.apply(id));
+        if (cacheLoaded) {
+            loaded.ifPresent(value -> cache.put(id, value));
+        }
+        return loaded;
+    }
+
+    /**
+     * Caches a value written by this instance once the current transaction commits.
+     */
+    void put(String id, V value) {
+        afterCommit(() -> cache.put(id, value));
+    }
+
+    /**
+     * Drops a value changed by this instance.
+     */
+    void invalidate(String id) {
+        cache.invalidate(id);
+        afterCommit(() -> cache.invalidate(id));
+    }
+
+    /**
+     * Drops every cached value matching the predicate, for bulk updates by criteria.
+     */
+    void invalidateIf(Predicate<? super V> predicate) {
+        cache.invalidateIf(predicate);
+        afterCommit(() -> cache.invalidateIf(predicate));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
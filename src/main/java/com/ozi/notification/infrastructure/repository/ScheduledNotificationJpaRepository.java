@@ -0,0 +1,111 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.ozi.notification.domain.ScheduledNotificationStatus;
+import com.ozi.notification.infrastructure.entity.ScheduledNotificationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPA repository for scheduled notification entities.
+ */
+@Repository
+public interface ScheduledNotificationJpaRepository extends JpaRepository<ScheduledNotificationEntity, String> {
+
+    /**
+     * Find scheduled notifications in a status due before the given time, earliest first.
+     */
+    List<ScheduledNotificationEntity> findByStatusAndScheduledTimeBeforeOrderByScheduledTimeAsc(
+            ScheduledNotificationStatus status, LocalDateTime until, Pageable pageable);
+
+    /**
+     * Claim a pending scheduled notification; only one concurrent caller sees an update count of 1.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledNotificationEntity s SET s.status = 'PROCESSING', s.processingUntil = :leaseUntil, " +
+           "s.processedAt = :now WHERE s.id = :id AND s.status = 'PENDING'")
+    int claim(@Param("id") String id, @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    /**
+     * Find claimed scheduled notifications whose lease has expired.
+     */
+    @Query("SELECT s.id AS id, s.retryCount AS retryCount FROM ScheduledNotificationEntity s " +
+           "WHERE s.status = 'PROCESSING' AND s.processingUntil < :now")
+    List<ExpiredClaim> findExpiredClaims(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Return claimed scheduled notifications with expired leases to PENDING.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledNotificationEntity s SET s.status = 'PENDING', s.processingUntil = null, " +
+           "s.retryCount = s.retryCount + 1 " +
+           "WHERE s.id IN :ids AND s.status = 'PROCESSING' AND s.processingUntil < :now")
+    int releaseExpired(@Param("ids") List<String> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Fail claimed scheduled notifications with expired leases.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledNotificationEntity s SET s.status = 'FAILED', s.processingUntil = null, " +
+           "s.retryCount = s.retryCount + 1, s.errorMessage = :errorMessage " +
+           "WHERE s.id IN :ids AND s.status = 'PROCESSING' AND s.processingUntil < :now")
+    int failExpired(@Param("ids") List<String> ids, @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+
+    /**
+     * Mark a claimed scheduled notification as sent.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledNotificationEntity s SET s.status = 'SENT', s.processingUntil = null, s.sentAt = :now, " +
+           "s.errorMessage = null WHERE s.id = :id AND s.status = 'PROCESSING'")
+    int markAsSent(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    /**
+     * Mark a claimed scheduled notification as failed.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledNotificationEntity s SET s.status = 'FAILED', s.processingUntil = null, s.errorMessage = :errorMessage, " +
+           "s.retryCount = s.retryCount + 1 WHERE s.id = :id AND s.status = 'PROCESSING'")
+    int markAsFailed(@Param("id") String id, @Param("errorMessage") String errorMessage);
+
+    /**
+     * Cancel a claimed scheduled notification that must not be sent.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledNotificationEntity s SET s.status = 'CANCELLED', s.processingUntil = null, s.errorMessage = :reason " +
+           "WHERE s.id = :id AND s.status = 'PROCESSING'")
+    int markAsSkipped(@Param("id") String id, @Param("reason") String reason);
+
+    /**
+     * Return a claimed scheduled notification to PENDING for a later attempt.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledNotificationEntity s SET s.status = 'PENDING', s.processingUntil = null, s.scheduledTime = :nextAttemptTime, " +
+           "s.errorMessage = :errorMessage, s.retryCount = s.retryCount + :attempts " +
+           "WHERE s.id = :id AND s.status = 'PROCESSING'")
+    int reschedule(
+            @Param("id") String id,
+            @Param("nextAttemptTime") LocalDateTime nextAttemptTime,
+            @Param("errorMessage") String errorMessage,
+            @Param("attempts") int attempts);
+
+    /**
+     * Cancel a pending scheduled notification.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledNotificationEntity s SET s.status = 'CANCELLED' WHERE s.id = :id AND s.status = 'PENDING'")
+    int cancel(@Param("id") String id);
+
+    /**
+     * ID and retry count of a claim with an expired lease.
+     */
+    interface ExpiredClaim {
+        String getId();
+        Integer getRetryCount();
+    }
+}
@@ -0,0 +1,120 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.ozi.notification.domain.ScheduledNotification;
+import com.ozi.notification.domain.ScheduledNotificationRepository;
+import com.ozi.notification.domain.ScheduledNotificationStatus;
+import com.ozi.notification.infrastructure.config.ProcessingLeaseProperties;
+import com.ozi.notification.infrastructure.entity.ScheduledNotificationEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ScheduledNotificationRepository using JPA.
+ * Claims (PENDING to PROCESSING) carry a lease that is cleared by the outcome update.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ScheduledNotificationRepositoryImpl implements ScheduledNotificationRepository {
+
+    private final ScheduledNotificationJpaRepository jpaRepository;
+    private final ProcessingLeaseProperties leaseProperties;
+
+    @Override
+    public ScheduledNotification save(ScheduledNotification scheduledNotification) {
+        log.debug("Saving scheduled notification with ID: {}", scheduledNotification.getId());
+
+        ScheduledNotificationEntity entity = ScheduledNotificationEntity.fromDomain(scheduledNotification);
+        return jpaRepository.save(entity).toDomain();
+    }
+
+    @Override
+    @PrimaryRead
+    public Optional<ScheduledNotification> findById(String id) {
+        log.debug("Finding scheduled notification by ID: {}", id);
+
+        return jpaRepository.findById(id)
+                .map(ScheduledNotificationEntity::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduledNotification> findPendingDueBefore(LocalDateTime until, int limit) {
+        log.debug("Finding pending scheduled notifications due before {} (limit {})", until, limit);
+
+        return jpaRepository.findByStatusAndScheduledTimeBeforeOrderByScheduledTimeAsc(
+                        ScheduledNotificationStatus.PENDING, until, PageRequest.of(0, limit))
+                .stream()
+                .map(ScheduledNotificationEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean claim(String id) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean claimed = jpaRepository.claim(id, now.plus(leaseProperties.getLease()), now) > 0;
+        if (!claimed) {
+            log.debug("Scheduled notification {} was not claimed - no longer pending", id);
+        }
+        return claimed;
+    }
+
+    @Override
+    public int releaseExpiredClaims(int maxAttempts, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ScheduledNotificationJpaRepository.ExpiredClaim> expired =
+                jpaRepository.findExpiredClaims(now, PageRequest.of(0, limit));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        // true: this was the last allowed attempt
+        Map<Boolean, List<String>> exhausted = expired.stream().collect(Collectors.partitioningBy(
+                claim -> (claim.getRetryCount() != null ? claim.getRetryCount() : 0) + 1 >= maxAttempts,
+                Collectors.mapping(ScheduledNotificationJpaRepository.ExpiredClaim::getId, Collectors.toList())));
+        int released = exhausted.get(false).isEmpty() ? 0 : jpaRepository.releaseExpired(exhausted.get(false), now);
+        int failed = exhausted.get(true).isEmpty() ? 0 : jpaRepository.failExpired(exhausted.get(true),
+                "Processing lease expired " + maxAttempts + " times", now);
+        return released + failed;
+    }
+
+    @Override
+    public boolean markAsSent(String id) {
+        log.debug("Marking scheduled notification {} as sent", id);
+        return jpaRepository.markAsSent(id, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean markAsFailed(String id, String errorMessage) {
+        log.debug("Marking scheduled notification {} as failed: {}", id, errorMessage);
+        return jpaRepository.markAsFailed(id, errorMessage) > 0;
+    }
+
+    @Override
+    public boolean markAsSkipped(String id, String reason) {
+        log.debug("Skipping scheduled notification {}: {}", id, reason);
+        return jpaRepository.markAsSkipped(id, reason) > 0;
+    }
+
+    @Override
+    public boolean reschedule(String id, LocalDateTime nextAttemptTime, String errorMessage, boolean countAttempt) {
+        log.debug("Rescheduling scheduled notification {} to {}", id, nextAttemptTime);
+        return jpaRepository.reschedule(id, nextAttemptTime, errorMessage, countAttempt ? 1 : 0) > 0;
+    }
+
+    @Override
+    public boolean cancel(String id) {
+        log.debug("Cancelling scheduled notification {}", id);
+        return jpaRepository.cancel(id) > 0;
+    }
+}
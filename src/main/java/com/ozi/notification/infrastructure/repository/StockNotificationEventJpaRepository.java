@@ -2,6 +2,7 @@ package com.ozi.notification.infrastructure.repository;
 
 import com.ozi.notification.domain.StockNotificationEventStatus;
 import com.ozi.notification.infrastructure.entity.StockNotificationEventEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,18 +12,40 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * JPA repository for stock notification event entities.
  */
 @Repository
-public interface StockNotificationEventJpaRepository extends JpaRepository<StockNotificationEventEntity, String> {
+public interface StockNotificationEventJpaRepository extends JpaRepository<StockNotificationEventEntity, UUID> {
+
+    String SUMMARY_SELECT = "SELECT e.id AS id, e.userId AS userId, e.itemId AS itemId, e.sku AS sku, " +
+            "e.status AS status, e.receivedAt AS receivedAt, e.sentAt AS sentAt, e.errorMessage AS errorMessage, " +
+            "e.retryCount AS retryCount, e.createdAt AS createdAt FROM StockNotificationEventEntity e ";
 
     /**
      * Find events by status.
      */
     List<StockNotificationEventEntity> findByStatus(StockNotificationEventStatus status);
 
+    /**
+     * First page of events with a status, newest first.
+     */
+    @Query(SUMMARY_SELECT + "WHERE e.status = :status ORDER BY e.createdAt DESC, e.id DESC")
+    List<SummaryRow> findSummariesByStatus(@Param("status") StockNotificationEventStatus status, Pageable pageable);
+
+    /**
+     * Next page of events with a status, after the row at (createdAt, id).
+     */
+    @Query(SUMMARY_SELECT + "WHERE e.status = :status " +
+           "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    List<SummaryRow> findSummariesByStatusAfter(@Param("status") StockNotificationEventStatus status,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                Pageable pageable);
+
     /**
      * Find pending events ordered by received time.
      */
@@ -49,7 +72,8 @@ public interface StockNotificationEventJpaRepository extends JpaRepository<Stock
 
     /**
      * Find distinct pending events for a date (one per user-SKU combination).
-     * Uses a subquery to get the minimum ID for each user-SKU combination.
+     * Uses a subquery to get the minimum ID for each user-SKU combination; IDs are
+     * time-ordered, so that is the earliest event.
      */
     @Query(value = "SELECT e.* FROM stock_notification_events e " +
            "INNER JOIN (" +
@@ -62,21 +86,72 @@ public interface StockNotificationEventJpaRepository extends JpaRepository<Stock
            nativeQuery = true)
     List<StockNotificationEventEntity> findDistinctPendingEventsForDate(@Param("date") LocalDate date);
 
+    /**
+     * Find distinct pending events received between two dates (one per user-SKU combination
+     * and received date), earliest first.
+     */
+    @Query(value = "SELECT e.* FROM stock_notification_events e " +
+           "INNER JOIN (" +
+           "    SELECT user_id, sku, MIN(id) as min_id " +
+           "    FROM stock_notification_events " +
+           "    WHERE status = 'PENDING' AND received_date BETWEEN :from AND :to " +
+           "    GROUP BY user_id, sku, received_date" +
+           ") grouped ON e.id = grouped.min_id " +
+           "ORDER BY e.received_at ASC",
+           nativeQuery = true)
+    List<StockNotificationEventEntity> findDistinctPendingEventsBetween(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * Claim a pending event for sending.
+     */
+    @Modifying
+    @Query("UPDATE StockNotificationEventEntity e SET e.status = 'PROCESSING', e.processingUntil = :leaseUntil, " +
+           "e.updatedAt = :now WHERE e.id = :id AND e.status = 'PENDING'")
+    int claim(@Param("id") UUID id, @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    /**
+     * Find claimed events whose lease has expired.
+     */
+    @Query("SELECT e.id AS id, e.retryCount AS retryCount FROM StockNotificationEventEntity e " +
+           "WHERE e.status = 'PROCESSING' AND e.processingUntil < :now")
+    List<ExpiredClaim> findExpiredClaims(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Return claimed events with expired leases to PENDING.
+     */
+    @Modifying
+    @Query("UPDATE StockNotificationEventEntity e SET e.status = 'PENDING', e.processingUntil = null, " +
+           "e.retryCount = e.retryCount + 1, e.updatedAt = :now " +
+           "WHERE e.id IN :ids AND e.status = 'PROCESSING' AND e.processingUntil < :now")
+    int releaseExpired(@Param("ids") List<UUID> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Fail claimed events with expired leases.
+     */
+    @Modifying
+    @Query("UPDATE StockNotificationEventEntity e SET e.status = 'FAILED', e.processingUntil = null, " +
+           "e.retryCount = e.retryCount + 1, e.errorMessage = :errorMessage, e.processedAt = :now, e.updatedAt = :now " +
+           "WHERE e.id IN :ids AND e.status = 'PROCESSING' AND e.processingUntil < :now")
+    int failExpired(@Param("ids") List<UUID> ids, @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+
     /**
      * Update event status.
      */
     @Modifying
-    @Query("UPDATE StockNotificationEventEntity e SET e.status = :status, e.updatedAt = :now WHERE e.id = :id")
-    int updateStatus(@Param("id") String id, @Param("status") StockNotificationEventStatus status, @Param("now") LocalDateTime now);
+    @Query("UPDATE StockNotificationEventEntity e SET e.status = :status, e.processingUntil = null, e.updatedAt = :now " +
+           "WHERE e.id = :id")
+    int updateStatus(@Param("id") UUID id, @Param("status") StockNotificationEventStatus status, @Param("now") LocalDateTime now);
 
     /**
      * Update event status with error message.
      */
     @Modifying
     @Query("UPDATE StockNotificationEventEntity e SET e.status = :status, e.errorMessage = :errorMessage, " +
-           "e.processedAt = :now, e.updatedAt = :now WHERE e.id = :id")
+           "e.processingUntil = null, e.processedAt = :now, e.updatedAt = :now WHERE e.id = :id")
     int updateStatusWithError(
-            @Param("id") String id,
+            @Param("id") UUID id,
             @Param("status") StockNotificationEventStatus status,
             @Param("errorMessage") String errorMessage,
             @Param("now") LocalDateTime now);
@@ -85,9 +160,9 @@ public interface StockNotificationEventJpaRepository extends JpaRepository<Stock
      * Mark event as sent.
      */
     @Modifying
-    @Query("UPDATE StockNotificationEventEntity e SET e.status = 'SENT', e.sentAt = :now, " +
+    @Query("UPDATE StockNotificationEventEntity e SET e.status = 'SENT', e.sentAt = :now, e.processingUntil = null, " +
            "e.processedAt = :now, e.updatedAt = :now, e.errorMessage = null WHERE e.id = :id")
-    int markAsSent(@Param("id") String id, @Param("now") LocalDateTime now);
+    int markAsSent(@Param("id") UUID id, @Param("now") LocalDateTime now);
 
     /**
      * Mark duplicate events as skipped for a user-SKU combination on a date.
@@ -102,6 +177,30 @@ public interface StockNotificationEventJpaRepository extends JpaRepository<Stock
             @Param("userId") String userId,
             @Param("sku") String sku,
             @Param("date") LocalDate date,
-            @Param("excludeId") String excludeId,
+            @Param("excludeId") UUID excludeId,
             @Param("now") LocalDateTime now);
+
+    /**
+     * ID and retry count of a claim with an expired lease.
+     */
+    interface ExpiredClaim {
+        UUID getId();
+        Integer getRetryCount();
+    }
+
+    /**
+     * Listing projection; leaves out the raw SQS payload.
+     */
+    interface SummaryRow {
+        UUID getId();
+        String getUserId();
+        Long getItemId();
+        String getSku();
+        StockNotificationEventStatus getStatus();
+        LocalDateTime getReceivedAt();
+        LocalDateTime getSentAt();
+        String getErrorMessage();
+        Integer getRetryCount();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -1,30 +1,58 @@
 package com.ozi.notification.infrastructure.repository;
 
+import com.ozi.notification.domain.CursorPage;
+import com.ozi.notification.domain.PageCursor;
 import com.ozi.notification.domain.StockNotificationEvent;
 import com.ozi.notification.domain.StockNotificationEventRepository;
 import com.ozi.notification.domain.StockNotificationEventStatus;
+import com.ozi.notification.domain.StockNotificationEventSummary;
+import com.ozi.notification.infrastructure.config.ProcessingLeaseProperties;
+import com.ozi.notification.infrastructure.config.ReadCacheProperties;
+import com.ozi.notification.infrastructure.config.ReplicaDataSourceProperties;
+import com.ozi.notification.infrastructure.entity.EntityIds;
 import com.ozi.notification.infrastructure.entity.StockNotificationEventEntity;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of StockNotificationEventRepository using JPA.
+ * Lookups by ID are served from a read-through cache that is updated by this
+ * repository's own writes and invalidated by its status updates. Claims
+ * (PENDING to PROCESSING) carry a lease that is cleared by the next status update.
  */
 @Repository
-@RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class StockNotificationEventRepositoryImpl implements StockNotificationEventRepository {
 
     private final StockNotificationEventJpaRepository jpaRepository;
+    private final ProcessingLeaseProperties leaseProperties;
+    private final ReadThroughCache<StockNotificationEvent> cache;
+
+    public StockNotificationEventRepositoryImpl(StockNotificationEventJpaRepository jpaRepository,
+                                                ProcessingLeaseProperties leaseProperties,
+                                                ReadCacheProperties readCacheProperties,
+                                                ReplicaDataSourceProperties replicaProperties,
+                                                MeterRegistry meterRegistry,
+                                                PlatformTransactionManager transactionManager) {
+        this.jpaRepository = jpaRepository;
+        this.leaseProperties = leaseProperties;
+        this.cache = new ReadThroughCache<>("stock-notification-events", readCacheProperties, replicaProperties,
+                meterRegistry, transactionManager);
+    }
 
     @Override
     public StockNotificationEvent save(StockNotificationEvent event) {
@@ -34,7 +62,9 @@ public class StockNotificationEventRepositoryImpl implements StockNotificationEv
         StockNotificationEventEntity savedEntity = jpaRepository.save(entity);
 
         log.debug("Successfully saved stock notification event with ID: {}", savedEntity.getId());
-        return savedEntity.toDomain();
+        StockNotificationEvent saved = savedEntity.toDomain();
+        cache.put(saved.getId(), saved);
+        return saved;
     }
 
     @Override
@@ -48,22 +78,26 @@ public class StockNotificationEventRepositoryImpl implements StockNotificationEv
         List<StockNotificationEventEntity> savedEntities = jpaRepository.saveAll(entities);
 
         log.debug("Successfully saved {} stock notification events", savedEntities.size());
-        return savedEntities.stream()
+        List<StockNotificationEvent> saved = savedEntities.stream()
                 .map(StockNotificationEventEntity::toDomain)
                 .collect(Collectors.toList());
+        saved.forEach(event -> cache.put(event.getId(), event));
+        return saved;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    // No transaction of its own: cache hits must not borrow a connection; misses load read-only
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<StockNotificationEvent> findById(String id) {
         log.debug("Finding stock notification event by ID: {}", id);
 
-        return jpaRepository.findById(id)
-                .map(StockNotificationEventEntity::toDomain);
+        return cache.get(id, key -> Optional.ofNullable(EntityIds.parse(key))
+                .flatMap(jpaRepository::findById)
+                .map(StockNotificationEventEntity::toDomain));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @PrimaryRead
     public List<StockNotificationEvent> findByStatus(StockNotificationEventStatus status) {
         log.debug("Finding stock notification events by status: {}", status);
 
@@ -75,6 +109,42 @@ public class StockNotificationEventRepositoryImpl implements StockNotificationEv
 
     @Override
     @Transactional(readOnly = true)
+    public CursorPage<StockNotificationEventSummary> findSummariesByStatus(
+            StockNotificationEventStatus status, PageCursor after, int limit) {
+        log.debug("Listing stock notification events by status: {} after: {} limit: {}", status, after, limit);
+
+        // One extra row tells whether there is a next page
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<StockNotificationEventJpaRepository.SummaryRow> rows;
+        if (after == null) {
+            rows = jpaRepository.findSummariesByStatus(status, page);
+        } else {
+            UUID id = EntityIds.parse(after.getId());
+            if (id == null) {
+                throw new IllegalArgumentException("Invalid cursor ID: " + after.getId());
+            }
+            rows = jpaRepository.findSummariesByStatusAfter(status, after.getCreatedAt(), id, page);
+        }
+
+        List<StockNotificationEventSummary> summaries = rows.stream()
+                .map(row -> StockNotificationEventSummary.builder()
+                        .id(EntityIds.format(row.getId()))
+                        .userId(row.getUserId())
+                        .itemId(row.getItemId())
+                        .sku(row.getSku())
+                        .status(row.getStatus())
+                        .receivedAt(row.getReceivedAt())
+                        .sentAt(row.getSentAt())
+                        .errorMessage(row.getErrorMessage())
+                        .retryCount(row.getRetryCount() != null ? row.getRetryCount() : 0)
+                        .createdAt(row.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+        return CursorPage.of(summaries, limit, StockNotificationEventSummary::toCursor);
+    }
+
+    @Override
+    @PrimaryRead
     public List<StockNotificationEvent> findPendingEvents() {
         log.debug("Finding pending stock notification events");
 
@@ -96,7 +166,7 @@ public class StockNotificationEventRepositoryImpl implements StockNotificationEv
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @PrimaryRead
     public boolean existsSentNotificationForUserSkuOnDate(String userId, String sku, LocalDate date) {
         log.debug("Checking if notification exists for user: {}, sku: {}, date: {}", userId, sku, date);
 
@@ -104,7 +174,7 @@ public class StockNotificationEventRepositoryImpl implements StockNotificationEv
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @PrimaryRead
     public List<StockNotificationEvent> findDistinctPendingEventsForDate(LocalDate date) {
         log.debug("Finding distinct pending events for date: {}", date);
 
@@ -114,11 +184,54 @@ public class StockNotificationEventRepositoryImpl implements StockNotificationEv
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @PrimaryRead
+    public List<StockNotificationEvent> findDistinctPendingEventsBetween(LocalDate from, LocalDate to) {
+        log.debug("Finding distinct pending events received from {} to {}", from, to);
+
+        return jpaRepository.findDistinctPendingEventsBetween(from, to)
+                .stream()
+                .map(StockNotificationEventEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean claim(String id) {
+        log.debug("Claiming stock notification event {}", id);
+
+        LocalDateTime now = LocalDateTime.now();
+        int updatedRows = jpaRepository.claim(EntityIds.parse(id), now.plus(leaseProperties.getLease()), now);
+        cache.invalidate(id);
+        return updatedRows > 0;
+    }
+
+    @Override
+    public int releaseExpiredClaims(int maxAttempts, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StockNotificationEventJpaRepository.ExpiredClaim> expired =
+                jpaRepository.findExpiredClaims(now, PageRequest.of(0, limit));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        // true: this was the last allowed attempt
+        Map<Boolean, List<UUID>> exhausted = expired.stream().collect(Collectors.partitioningBy(
+                claim -> (claim.getRetryCount() != null ? claim.getRetryCount() : 0) + 1 >= maxAttempts,
+                Collectors.mapping(StockNotificationEventJpaRepository.ExpiredClaim::getId, Collectors.toList())));
+        int released = exhausted.get(false).isEmpty() ? 0 : jpaRepository.releaseExpired(exhausted.get(false), now);
+        int failed = exhausted.get(true).isEmpty() ? 0 : jpaRepository.failExpired(exhausted.get(true),
+                "Processing lease expired " + maxAttempts + " times", now);
+
+        expired.forEach(claim -> cache.invalidate(EntityIds.format(claim.getId())));
+        return released + failed;
+    }
+
     @Override
     public boolean updateStatus(String id, StockNotificationEventStatus status) {
         log.debug("Updating stock notification event {} status to {}", id, status);
 
-        int updatedRows = jpaRepository.updateStatus(id, status, LocalDateTime.now());
+        int updatedRows = jpaRepository.updateStatus(EntityIds.parse(id), status, LocalDateTime.now());
+        cache.invalidate(id);
         boolean success = updatedRows > 0;
 
         if (success) {
@@ -134,7 +247,8 @@ public class StockNotificationEventRepositoryImpl implements StockNotificationEv
     public boolean updateStatusWithError(String id, StockNotificationEventStatus status, String errorMessage) {
         log.debug("Updating stock notification event {} status to {} with error: {}", id, status, errorMessage);
 
-        int updatedRows = jpaRepository.updateStatusWithError(id, status, errorMessage, LocalDateTime.now());
+        int updatedRows = jpaRepository.updateStatusWithError(EntityIds.parse(id), status, errorMessage, LocalDateTime.now());
+        cache.invalidate(id);
         boolean success = updatedRows > 0;
 
         if (success) {
@@ -151,7 +265,12 @@ public class StockNotificationEventRepositoryImpl implements StockNotificationEv
         log.debug("Marking duplicates as skipped for user: {}, sku: {}, date: {}, excluding: {}",
                 userId, sku, date, excludeId);
 
-        int skippedCount = jpaRepository.markDuplicatesAsSkipped(userId, sku, date, excludeId, LocalDateTime.now());
+        int skippedCount = jpaRepository.markDuplicatesAsSkipped(userId, sku, date, EntityIds.parse(excludeId), LocalDateTime.now());
+        if (skippedCount > 0) {
+            cache.invalidateIf(event -> userId.equals(event.getUserId()) && sku.equals(event.getSku())
+                    && !event.getId().equals(excludeId)
+                    && event.getReceivedAt() != null && event.getReceivedAt().toLocalDate().equals(date));
+        }
 
         log.debug("Marked {} duplicate events as skipped", skippedCount);
         return skippedCount;
@@ -0,0 +1,12 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.ozi.notification.infrastructure.entity.UserNotificationPreferencesEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA repository for user notification preference entities.
+ */
+@Repository
+public interface UserNotificationPreferencesJpaRepository extends JpaRepository<UserNotificationPreferencesEntity, String> {
+}
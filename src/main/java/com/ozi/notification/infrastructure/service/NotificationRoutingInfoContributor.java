@@ -0,0 +1,27 @@
+package com.ozi.notification.infrastructure.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Exposes the notification routing table on the actuator info endpoint.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationRoutingInfoContributor implements InfoContributor {
+
+    private final NotificationServiceProviderImpl notificationServiceProvider;
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        builder.withDetail("notificationRouting", Map.of(
+                "routes", notificationServiceProvider.getRoutes(),
+                "unroutedTypes", notificationServiceProvider.getUnroutedTypes(),
+                "circuitStates", notificationServiceProvider.getCircuitStates()
+        ));
+    }
+}
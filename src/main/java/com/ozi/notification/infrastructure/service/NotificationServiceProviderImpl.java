@@ -1,42 +1,185 @@
 package com.ozi.notification.infrastructure.service;
 
 import com.ozi.notification.domain.*;
-import lombok.RequiredArgsConstructor;
+import com.ozi.notification.infrastructure.config.CircuitBreakerProperties;
+import com.ozi.notification.infrastructure.service.resilience.CircuitBreaker;
+import com.ozi.notification.infrastructure.service.resilience.ProviderFailures;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Implementation of NotificationServiceProvider.
  * Routes notifications to appropriate services based on notification type.
+ *
+ * The routing table is built once at startup: every registered service is asked
+ * which types it handles, a type claimed by two services fails the boot, and
+ * types without a handler are logged so they are visible before traffic arrives.
+ * Each service is guarded by its own circuit breaker, so a degraded provider is
+ * rejected fast with {@link ProviderUnavailableException} instead of tying up callers.
+ * Routing (lookup and breaker check) and the provider call are timed as separate stages
+ * of the send pipeline, tagged with the type and the handling service.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationServiceProviderImpl implements NotificationServiceProvider {
 
-    private final List<NotificationService> notificationServices;
+    private final Map<NotificationType, NotificationService> routes;
+    private final Map<NotificationType, String> routeNames;
+    private final Map<NotificationType, CircuitBreaker> circuitBreakers;
+    private final Set<NotificationType> unroutedTypes;
+    private final PipelineMetrics pipelineMetrics;
+
+    public NotificationServiceProviderImpl(List<NotificationService> notificationServices,
+                                           CircuitBreakerProperties circuitBreakerProperties,
+                                           PipelineMetrics pipelineMetrics) {
+        Map<NotificationType, NotificationService> table = new EnumMap<>(NotificationType.class);
+        Map<NotificationType, String> names = new EnumMap<>(NotificationType.class);
+        Map<NotificationType, CircuitBreaker> breakers = new EnumMap<>(NotificationType.class);
+        Map<NotificationService, CircuitBreaker> breakersByService = new HashMap<>();
+
+        for (NotificationType type : NotificationType.values()) {
+            for (NotificationService service : notificationServices) {
+                if (!service.canHandle(type)) {
+                    continue;
+                }
+
+                String serviceName = ClassUtils.getUserClass(service).getSimpleName();
+                if (table.containsKey(type)) {
+                    throw new IllegalStateException(String.format(
+                            "Duplicate notification services for type %s: %s and %s",
+                            type, names.get(type), serviceName));
+                }
+
+                table.put(type, service);
+                names.put(type, serviceName);
+
+                if (circuitBreakerProperties.isEnabled()) {
+                    // A service handling several types shares one breaker across them
+                    breakers.put(type, breakersByService.computeIfAbsent(service,
+                            s -> new CircuitBreaker(serviceName, circuitBreakerProperties.forType(type))));
+                }
+            }
+        }
+
+        Set<NotificationType> unrouted = EnumSet.allOf(NotificationType.class);
+        unrouted.removeAll(table.keySet());
+
+        this.routes = table;
+        this.routeNames = Collections.unmodifiableMap(names);
+        this.circuitBreakers = breakers;
+        this.unroutedTypes = Collections.unmodifiableSet(unrouted);
+        this.pipelineMetrics = pipelineMetrics;
+
+        log.info("Notification routing table: {}", routeNames);
+        if (!unroutedTypes.isEmpty()) {
+            log.warn("No notification service registered for types: {}", unroutedTypes);
+        }
+    }
 
     @Override
     public Notification sendNotification(Notification notification) throws NotificationException {
-        log.debug("Routing notification {} of type {} to appropriate service",
-                 notification.getId(), notification.getType());
-
-        // Find the service that can handle this notification type
-        NotificationService service = notificationServices.stream()
-                .filter(s -> s.canHandle(notification.getType()))
-                .findFirst()
-                .orElseThrow(() -> new NotificationException(
-                    "No notification service found for type: " + notification.getType(),
-                    notification.getId(),
-                    notification.getType()
-                ));
-
-        log.debug("Found service {} for notification type {}",
-                 service.getClass().getSimpleName(), notification.getType());
+        NotificationType type = notification.getType();
+        PipelineMetrics.StageTimer routeTimer = pipelineMetrics.start(PipelineMetrics.SEND, "route").type(type);
+        NotificationService service = type != null ? routes.get(type) : null;
+
+        if (service == null) {
+            NotificationException e = new NotificationException(
+                "No notification service found for type: " + type,
+                notification.getId(),
+                type
+            );
+            routeTimer.stop(e);
+            throw e;
+        }
+
+        String provider = routeNames.get(type);
+        routeTimer.provider(provider);
+        if (log.isDebugEnabled()) {
+            log.debug("Routing notification {} of type {} to {}",
+                    notification.getId(), type, provider);
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreakers.get(type);
+        if (circuitBreaker == null) {
+            routeTimer.stop(PipelineMetrics.SUCCESS);
+            return callProvider(service, notification, provider);
+        }
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            ProviderUnavailableException e = new ProviderUnavailableException(
+                "Provider " + provider + " is unavailable (circuit open)",
+                notification.getId(),
+                type
+            );
+            routeTimer.stop(e);
+            throw e;
+        }
+        routeTimer.stop(PipelineMetrics.SUCCESS);
 
         // Delegate to the appropriate service
-        return service.sendNotification(notification);
+        long start = circuitBreaker.now();
+        try {
+            Notification result = callProvider(service, notification, provider);
+            circuitBreaker.onSuccess(start);
+            return result;
+        } catch (NotificationException | RuntimeException e) {
+            if (ProviderFailures.isProviderFailure(e)) {
+                circuitBreaker.onFailure(start);
+            } else {
+                circuitBreaker.onIgnored();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Sends through the routed service, timed as the provider stage.
+     */
+    private Notification callProvider(NotificationService service, Notification notification, String provider)
+            throws NotificationException {
+        PipelineMetrics.StageTimer timer = pipelineMetrics.start(PipelineMetrics.SEND, "provider")
+                .type(notification.getType())
+                .provider(provider);
+        try {
+            Notification result = service.sendNotification(notification);
+            timer.stop(result.getStatus() == NotificationStatus.FAILED
+                    ? PipelineMetrics.FAILURE : PipelineMetrics.SUCCESS);
+            return result;
+        } catch (NotificationException | RuntimeException e) {
+            timer.stop(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the live routing table as notification type to handling service name.
+     */
+    public Map<NotificationType, String> getRoutes() {
+        return routeNames;
+    }
+
+    /**
+     * Returns the notification types that have no registered service.
+     */
+    public Set<NotificationType> getUnroutedTypes() {
+        return unroutedTypes;
+    }
+
+    /**
+     * Returns the current circuit breaker state for each routed notification type.
+     */
+    public Map<NotificationType, CircuitBreaker.State> getCircuitStates() {
+        Map<NotificationType, CircuitBreaker.State> states = new EnumMap<>(NotificationType.class);
+        circuitBreakers.forEach((type, breaker) -> states.put(type, breaker.getState()));
+        return states;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package com.ozi.notification.infrastructure.service.cache;
+
+/**
+ * Count-min sketch of 4-bit counters estimating how often each key was accessed recently.
+ * When the number of recorded accesses reaches ten times the width all counters are
+ * halved, so the estimates follow changes in popularity instead of growing forever.
+ */
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    private final byte[] counters;
+    private final int width;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int width = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1;
+        this.width = width;
+        this.counters = new byte[DEPTH * width];
+        this.sampleSize = 10 * width;
+    }
+
+    /**
+     * Records an access of the key with the given hash.
+     */
+    void increment(int hash) {
+        boolean added = false;
+        for (int depth = 0; depth < DEPTH; depth++) {
+            int index = depth * width + indexOf(hash, depth);
+            if (counters[index] < MAX_COUNT) {
+                counters[index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Estimated number of recent accesses of the key with the given hash.
+     */
+    int frequency(int hash) {
+        int frequency = MAX_COUNT;
+        for (int depth = 0; depth < DEPTH; depth++) {
+            frequency = Math.min(frequency, counters[depth * width + indexOf(hash, depth)]);
+        }
+        return frequency;
+    }
+
+    private void reset() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = (byte) (counters[i] >>> 1);
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int depth) {
+        long h = (hash + SEEDS[depth]) * SEEDS[depth];
+        h += h >>> 32;
+        return (int) h & (width - 1);
+    }
+}
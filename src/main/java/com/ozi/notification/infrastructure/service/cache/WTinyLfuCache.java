@@ -0,0 +1,265 @@
+package com.ozi.notification.infrastructure.service.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Bounded in-process cache with W-TinyLFU admission.
+ *
+ * New entries enter a small LRU window (1% of the capacity). An entry leaving the window
+ * competes with the least recently used entry of the main area, and a frequency sketch of
+ * recent accesses, hits and misses alike, decides which of the two stays. Keys read once
+ * therefore cannot flush keys read repeatedly. The main area is a segmented LRU: entries
+ * start in probation and move to the protected segment (80% of the main area) on their
+ * next hit. Entries also expire a fixed time after they were written.
+ *
+ * All operations are O(1) under a single lock, except {@link #invalidateIf}.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class WTinyLfuCache<K, V> {
+
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final FrequencySketch sketch;
+
+    private final Map<K, Node<V>> data = new HashMap<>();
+    private final LinkedHashMap<K, Node<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maximumSize Maximum number of entries; 0 disables caching
+     * @param ttl         How long an entry is served after it was written
+     */
+    public WTinyLfuCache(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, System::nanoTime);
+    }
+
+    WTinyLfuCache(int maximumSize, Duration ttl, LongSupplier clock) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative");
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (int) ((maximumSize - windowMaximum) * 0.8);
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Returns the cached value, or null if the key is absent or expired.
+     */
+    public V get(K key) {
+        long now = clock.getAsLong();
+        synchronized (this) {
+            sketch.increment(spread(key));
+            Node<V> node = data.get(key);
+            if (node == null) {
+                misses++;
+                return null;
+            }
+            if (now - node.expiresAt >= 0) {
+                remove(key);
+                misses++;
+                return null;
+            }
+            hits++;
+            onAccess(key, node);
+            return node.value;
+        }
+    }
+
+    /**
+     * Caches a value, replacing any previous value of the key.
+     */
+    public void put(K key, V value) {
+        if (maximumSize == 0) {
+            return;
+        }
+        long expiresAt = clock.getAsLong() + ttlNanos;
+        synchronized (this) {
+            Node<V> node = data.get(key);
+            if (node != null) {
+                node.value = value;
+                node.expiresAt = expiresAt;
+                onAccess(key, node);
+                return;
+            }
+            sketch.increment(spread(key));
+            node = new Node<>(value, expiresAt);
+            data.put(key, node);
+            window.put(key, node);
+            evictFromWindow();
+        }
+    }
+
+    /**
+     * Removes the key.
+     */
+    public synchronized void invalidate(K key) {
+        remove(key);
+    }
+
+    /**
+     * Removes every entry whose value matches; scans the whole cache.
+     */
+    public synchronized void invalidateIf(Predicate<? super V> predicate) {
+        List<K> matches = new ArrayList<>();
+        data.forEach((key, node) -> {
+            if (predicate.test(node.value)) {
+                matches.add(key);
+            }
+        });
+        matches.forEach(this::remove);
+    }
+
+    public synchronized int size() {
+        return data.size();
+    }
+
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Registers size, hit, miss and eviction meters tagged with the cache name.
+     */
+    public void bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("notification.cache.gets", this, WTinyLfuCache::hitCount)
+                .tag("cache", name)
+                .tag("result", "hit")
+                .description("Cache lookups that were served from memory")
+                .register(registry);
+        FunctionCounter.builder("notification.cache.gets", this, WTinyLfuCache::missCount)
+                .tag("cache", name)
+                .tag("result", "miss")
+                .description("Cache lookups that had to be loaded")
+                .register(registry);
+        FunctionCounter.builder("notification.cache.evictions", this, WTinyLfuCache::evictionCount)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("notification.cache.size", this, WTinyLfuCache::size)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("notification.cache.hit.ratio", this, WTinyLfuCache::hitRatio)
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private synchronized double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    private void onAccess(K key, Node<V> node) {
+        switch (node.segment) {
+            case WINDOW -> window.get(key);
+            case PROTECTED -> protectedSegment.get(key);
+            case PROBATION -> {
+                probation.remove(key);
+                node.segment = Segment.PROTECTED;
+                protectedSegment.put(key, node);
+                // Demote the least recently used protected entries back to probation
+                while (protectedSegment.size() > protectedMaximum) {
+                    Map.Entry<K, Node<V>> eldest = protectedSegment.entrySet().iterator().next();
+                    protectedSegment.remove(eldest.getKey());
+                    eldest.getValue().segment = Segment.PROBATION;
+                    probation.put(eldest.getKey(), eldest.getValue());
+                }
+            }
+        }
+    }
+
+    private void evictFromWindow() {
+        while (window.size() > windowMaximum) {
+            Map.Entry<K, Node<V>> eldest = window.entrySet().iterator().next();
+            K candidate = eldest.getKey();
+            window.remove(candidate);
+            eldest.getValue().segment = Segment.PROBATION;
+            probation.put(candidate, eldest.getValue());
+
+            if (data.size() > maximumSize) {
+                K victim = mainVictim(candidate);
+                // The candidate only gets in if it has been wanted more often than the victim
+                K evicted = victim != null && sketch.frequency(spread(candidate)) > sketch.frequency(spread(victim))
+                        ? victim
+                        : candidate;
+                remove(evicted);
+                evictions++;
+            }
+        }
+    }
+
+    /**
+     * Least recently used main entry other than the candidate, or null if there is none.
+     */
+    private K mainVictim(K candidate) {
+        // The candidate was just added as the most recently used probation entry
+        K eldest = probation.keySet().iterator().next();
+        if (!eldest.equals(candidate)) {
+            return eldest;
+        }
+        return protectedSegment.isEmpty() ? null : protectedSegment.keySet().iterator().next();
+    }
+
+    private void remove(K key) {
+        Node<V> node = data.remove(key);
+        if (node == null) {
+            return;
+        }
+        switch (node.segment) {
+            case WINDOW -> window.remove(key);
+            case PROBATION -> probation.remove(key);
+            case PROTECTED -> protectedSegment.remove(key);
+        }
+    }
+
+    private static int spread(Object key) {
+        int x = key.hashCode();
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    private enum Segment {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    private static final class Node<V> {
+        private V value;
+        private long expiresAt;
+        private Segment segment = Segment.WINDOW;
+
+        private Node(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.ozi.notification.infrastructure.service.capping;
+
+import com.ozi.notification.domain.FrequencyCap;
+import com.ozi.notification.domain.NotificationPriority;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.infrastructure.config.FrequencyCapProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory frequency cap using sliding-window counters per recipient and notification type.
+ *
+ * Each counter keeps the count of the current and the previous fixed window; the sliding
+ * count is the current count plus the previous count weighted by how much of the previous
+ * window still overlaps the sliding one. Counters are spread over independently locked
+ * stripes, each an LRU map bounded to its share of maxTrackedRecipients, and counters idle
+ * for two windows are dropped when a stripe is swept. Caps apply to the combined volume of
+ * a type, with the limit chosen by the priority of the incoming notification, so low
+ * priority traffic is suppressed before high priority traffic.
+ */
+@Component
+@Slf4j
+public class SlidingWindowFrequencyCap implements FrequencyCap {
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final Map<NotificationType, Map<NotificationPriority, Integer>> limits;
+    private final Stripe[] stripes;
+    private final LongSupplier clock;
+
+    @Autowired
+    public SlidingWindowFrequencyCap(FrequencyCapProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    SlidingWindowFrequencyCap(FrequencyCapProperties properties, LongSupplier clock) {
+        this.enabled = properties.isEnabled();
+        this.windowMillis = properties.getWindow().toMillis();
+        this.clock = clock;
+
+        this.limits = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            Map<NotificationPriority, Integer> typeLimits = new EnumMap<>(NotificationPriority.class);
+            for (NotificationPriority priority : NotificationPriority.values()) {
+                Integer limit = properties.limitFor(type, priority);
+                if (limit != null) {
+                    typeLimits.put(priority, limit);
+                }
+            }
+            limits.put(type, typeLimits);
+        }
+
+        // Power of two so the stripe is selected with a mask
+        int stripeCount = properties.getStripes() <= 1 ? 1 : Integer.highestOneBit(properties.getStripes() - 1) << 1;
+        int perStripeCapacity = Math.max(1, properties.getMaxTrackedRecipients() / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripeCapacity);
+        }
+
+        if (enabled) {
+            log.info("Frequency capping enabled: window={}, stripes={}, limits={}",
+                    properties.getWindow(), stripeCount, limits);
+        }
+    }
+
+    @Override
+    public boolean tryAcquire(String recipient, NotificationType type, NotificationPriority priority) {
+        if (!enabled || recipient == null) {
+            return true;
+        }
+        Integer limit = limits.get(type).get(priority);
+        if (limit == null) {
+            return true;
+        }
+
+        CounterKey key = new CounterKey(recipient, type);
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        return stripe.tryAcquire(key, limit, clock.getAsLong());
+    }
+
+    /**
+     * Number of recipient counters currently held across all stripes.
+     */
+    public int trackedCounters() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.size();
+        }
+        return total;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Stripe {
+
+        private final LinkedHashMap<CounterKey, Window> counters;
+        private long nextSweepAt;
+
+        private Stripe(int capacity) {
+            this.counters = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CounterKey, Window> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        private synchronized boolean tryAcquire(CounterKey key, int limit, long now) {
+            if (now >= nextSweepAt) {
+                sweep(now);
+            }
+
+            Window window = counters.get(key);
+            if (window == null) {
+                window = new Window();
+                counters.put(key, window);
+            }
+            return window.tryAcquire(limit, now, windowMillis);
+        }
+
+        private synchronized int size() {
+            return counters.size();
+        }
+
+        private void sweep(long now) {
+            Iterator<Window> iterator = counters.values().iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next().currentStart >= 2 * windowMillis) {
+                    iterator.remove();
+                }
+            }
+            nextSweepAt = now + windowMillis;
+        }
+    }
+
+    private static final class Window {
+
+        private long currentStart;
+        private int current;
+        private int previous;
+
+        private boolean tryAcquire(int limit, long now, long windowMillis) {
+            long start = now - Math.floorMod(now, windowMillis);
+            if (start != currentStart) {
+                previous = start - currentStart == windowMillis ? current : 0;
+                current = 0;
+                currentStart = start;
+            }
+
+            double previousWeight = (double) (windowMillis - (now - start)) / windowMillis;
+            double slidingCount = previous * previousWeight + current;
+            if (slidingCount + 1 > limit) {
+                return false;
+            }
+            current++;
+            return true;
+        }
+    }
+
+    private static final class CounterKey {
+
+        private final String recipient;
+        private final NotificationType type;
+
+        private CounterKey(String recipient, NotificationType type) {
+            this.recipient = recipient;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CounterKey other)) {
+                return false;
+            }
+            return type == other.type && recipient.equals(other.recipient);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * recipient.hashCode() + type.ordinal();
+        }
+    }
+}
@@ -1,30 +1,37 @@
 package com.ozi.notification.infrastructure.service.clevertap;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ozi.notification.domain.*;
+import com.ozi.notification.infrastructure.config.CleverTapProperties;
+import com.ozi.notification.infrastructure.service.payload.JsonBodies;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * CleverTap notification service implementation.
- * Sends push notifications via CleverTap API.
+ * Sends push notifications via CleverTap API. Concurrent sends are combined into
+ * one ExternalTrigger request by a {@link CleverTapPushBatcher} unless batching is disabled.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CleverTapNotificationService implements NotificationService {
 
-    private final WebClient webClient;
+    private final WebClient cleverTapWebClient;
     private final ObjectMapper objectMapper;
+    private final CleverTapProperties cleverTapProperties;
 
     @Value("${notification.clevertap.account-id}")
     private String accountId;
@@ -35,6 +42,25 @@ public class CleverTapNotificationService implements NotificationService {
     @Value("${notification.clevertap.base-url}")
     private String baseUrl;
 
+    private CleverTapPushBatcher batcher;
+
+    @PostConstruct
+    public void startBatcher() {
+        CleverTapProperties.Batching batching = cleverTapProperties.getBatching();
+        if (batching.isEnabled()) {
+            log.info("CleverTap push batching enabled: linger={}, maxBatchSize={}",
+                    batching.getLinger(), batching.getMaxBatchSize());
+            batcher = new CleverTapPushBatcher(this::send, batching.getLinger(), batching.getMaxBatchSize());
+        }
+    }
+
+    @PreDestroy
+    public void stopBatcher() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
     @Override
     public Notification sendNotification(Notification notification) throws NotificationException {
         if (!canHandle(notification.getType())) {
@@ -48,73 +74,36 @@ public class CleverTapNotificationService implements NotificationService {
         try {
             log.info("Sending CleverTap notification to recipient: {}", notification.getRecipient());
 
-            // Prepare key-value pairs for the notification
-            Map<String, Object> kvs = new HashMap<>();
-            kvs.put("wzrk_title", notification.getTitle());
-            kvs.put("wzrk_body", notification.getMessage());
-
-            // Add deep link if provided
-            if (notification.getDeepLink() != null && !notification.getDeepLink().isEmpty()) {
-                kvs.put("wzrk_dl", notification.getDeepLink());
-            }
+            CleverTapResponse response = batcher != null
+                    ? await(batcher.submit(notification))
+                    : send(List.of(notification))
+                            .map(batchResponse -> batchResponse.forRecipient(notification.getRecipient()))
+                            .block();
+            log.debug("CleverTap response: {}", response);
 
-            // Add custom data
-            if (notification.getData() != null) {
-                notification.getData().forEach((key, value) -> {
-                    if (value != null) {
-                        kvs.put(key, value);
-                    }
-                });
+            if (response == null) {
+                throw new NotificationException(
+                    "Empty CleverTap response",
+                    notification.getId(),
+                    notification.getType()
+                );
             }
 
-            // Prepare the request payload
-            Map<String, Object> externalTrigger = new HashMap<>();
-            Map<String, Object> to = new HashMap<>();
-            to.put("Identity", new String[]{notification.getRecipient()});
-            externalTrigger.put("to", to);
-            externalTrigger.put("kvs", kvs);
-
-            Map<String, Object> requestPayload = new HashMap<>();
-            requestPayload.put("ExternalTrigger", new Object[]{externalTrigger});
-
-            // Determine the endpoint
-            String endpoint = baseUrl + "/1/send/externaltrigger.json";
-
-            log.debug("Sending request to CleverTap: {} with payload: {}",
-                     endpoint, objectMapper.writeValueAsString(requestPayload));
-
-            // Send the request
-            Mono<String> responseMono = webClient.post()
-                    .uri(endpoint)
-                    .header("X-CleverTap-Account-Id", accountId)
-                    .header("X-CleverTap-Passcode", passcode)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestPayload)
-                    .retrieve()
-                    .bodyToMono(String.class);
-
-            String responseBody = responseMono.block();
-            log.debug("CleverTap response: {}", responseBody);
-
-            // Parse response
-            JsonNode responseJson = objectMapper.readTree(responseBody);
-
-            if (responseJson.has("error")) {
-                String errorMessage = responseJson.get("error").asText();
-                log.error("CleverTap API error: {}", errorMessage);
+            if (response.getError() != null) {
+                log.error("CleverTap API error: {}", response.getError());
                 throw new NotificationException(
-                    "CleverTap API error: " + errorMessage,
+                    "CleverTap API error: " + response.getError(),
                     notification.getId(),
                     notification.getType()
                 );
             }
 
             // Check for success status
-            if (responseJson.has("status") && "success".equals(responseJson.get("status").asText())) {
+            if (response.isSuccess()) {
                 log.info("Successfully sent CleverTap notification: {}", notification.getId());
                 return notification.markAsSent();
             } else {
-                String errorMsg = "Unknown CleverTap response: " + responseBody;
+                String errorMsg = "Unknown CleverTap response: " + response.getBodySnippet();
                 log.error(errorMsg);
                 throw new NotificationException(errorMsg, notification.getId(), notification.getType());
             }
@@ -135,6 +124,44 @@ public class CleverTapNotificationService implements NotificationService {
         }
     }
 
+    /**
+     * Posts one ExternalTrigger request for the given notifications.
+     */
+    private Mono<CleverTapResponse> send(List<Notification> notifications) {
+        String endpoint = baseUrl + "/1/send/externaltrigger.json";
+
+        if (log.isDebugEnabled()) {
+            log.debug("Sending request to CleverTap: {} with payload: {}", endpoint,
+                    JsonBodies.toJson(objectMapper.getFactory(), CleverTapPayloadWriters.EXTERNAL_TRIGGERS, notifications));
+        }
+
+        return cleverTapWebClient.post()
+                .uri(endpoint)
+                .header("X-CleverTap-Account-Id", accountId)
+                .header("X-CleverTap-Passcode", passcode)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(JsonBodies.inserter(objectMapper.getFactory(), CleverTapPayloadWriters.EXTERNAL_TRIGGERS, notifications))
+                .retrieve()
+                .bodyToMono(DataBuffer.class)
+                .map(buffer -> CleverTapResponse.decode(objectMapper.getFactory(), buffer));
+    }
+
+    /**
+     * Waits for a batched send. Completion is bounded by the batch linger and the
+     * CleverTap client's response timeout.
+     */
+    private static CleverTapResponse await(CompletableFuture<CleverTapResponse> result) throws Exception {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            // Surface the provider failure itself so it is classified like an unbatched call
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     @Override
     public boolean canHandle(NotificationType type) {
         return type == NotificationType.PUSH;
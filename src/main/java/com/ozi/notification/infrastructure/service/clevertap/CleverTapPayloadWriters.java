@@ -0,0 +1,126 @@
+package com.ozi.notification.infrastructure.service.clevertap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.ozi.notification.domain.Notification;
+import com.ozi.notification.domain.StockNotificationEvent;
+import com.ozi.notification.infrastructure.service.payload.JsonPayloadWriter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming JSON writers for CleverTap request payloads.
+ */
+final class CleverTapPayloadWriters {
+
+    private static final String TITLE_KEY = "wzrk_title";
+    private static final String BODY_KEY = "wzrk_body";
+    private static final String DEEP_LINK_KEY = "wzrk_dl";
+
+    private CleverTapPayloadWriters() {
+    }
+
+    /**
+     * External trigger request: {"ExternalTrigger":[{"to":{"Identity":[...]},"kvs":{...}}]}
+     */
+    static final JsonPayloadWriter<Notification> EXTERNAL_TRIGGER = (generator, notification) -> {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("ExternalTrigger");
+        writeExternalTrigger(generator, notification);
+        generator.writeEndArray();
+        generator.writeEndObject();
+    };
+
+    /**
+     * External trigger request with one array element per notification
+     */
+    static final JsonPayloadWriter<List<Notification>> EXTERNAL_TRIGGERS = (generator, notifications) -> {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("ExternalTrigger");
+        for (Notification notification : notifications) {
+            writeExternalTrigger(generator, notification);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    };
+
+    /**
+     * Upload events request raising stock_status_changed: {"d":[{"identity":...,"evtData":{...}}]}
+     */
+    static final JsonPayloadWriter<StockNotificationEvent> STOCK_STATUS_CHANGED = (generator, event) -> {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("d");
+
+        generator.writeStartObject();
+        generator.writeStringField("identity", event.getEffectiveRecipientId());
+        generator.writeStringField("type", "event");
+        generator.writeStringField("evtName", "stock_status_changed");
+
+        // Event data matching the campaign's expected KVPs
+        generator.writeObjectFieldStart("evtData");
+        generator.writeStringField("notification_type", "BACK_IN_STOCK");
+        generator.writeStringField("stock_status", "available");
+        generator.writeStringField("productId", String.valueOf(event.getItemId()));
+        generator.writeStringField("sku", event.getSku());
+        writeIfPresent(generator, "screen", event.getScreen());
+        writeIfPresent(generator, "sourceType", event.getSourceType());
+        writeIfPresent(generator, "sourceName", event.getSourceName());
+        generator.writeEndObject();
+
+        generator.writeNumberField("ts", Instant.now().getEpochSecond());
+        generator.writeEndObject();
+
+        generator.writeEndArray();
+        generator.writeEndObject();
+    };
+
+    /**
+     * Writes one ExternalTrigger array element for a notification.
+     * Custom data entries take precedence over the generated wzrk_* keys.
+     */
+    static void writeExternalTrigger(JsonGenerator generator, Notification notification) throws IOException {
+        Map<String, String> data = notification.getData();
+
+        generator.writeStartObject();
+
+        generator.writeObjectFieldStart("to");
+        generator.writeArrayFieldStart("Identity");
+        generator.writeString(notification.getRecipient());
+        generator.writeEndArray();
+        generator.writeEndObject();
+
+        generator.writeObjectFieldStart("kvs");
+        if (!overridden(data, TITLE_KEY)) {
+            generator.writeStringField(TITLE_KEY, notification.getTitle());
+        }
+        if (!overridden(data, BODY_KEY)) {
+            generator.writeStringField(BODY_KEY, notification.getMessage());
+        }
+        if (notification.getDeepLink() != null && !notification.getDeepLink().isEmpty()
+                && !overridden(data, DEEP_LINK_KEY)) {
+            generator.writeStringField(DEEP_LINK_KEY, notification.getDeepLink());
+        }
+        if (data != null) {
+            for (Map.Entry<String, String> entry : data.entrySet()) {
+                if (entry.getValue() != null) {
+                    generator.writeStringField(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        generator.writeEndObject();
+
+        generator.writeEndObject();
+    }
+
+    private static boolean overridden(Map<String, String> data, String key) {
+        return data != null && data.get(key) != null;
+    }
+
+    private static void writeIfPresent(JsonGenerator generator, String field, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(field, value);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.ozi.notification.infrastructure.service.clevertap;
+
+import com.ozi.notification.domain.Notification;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Collects concurrent push sends and issues them as one ExternalTrigger request.
+ * A batch is sent when it reaches the maximum size or when its first send has waited
+ * for the linger time. Each caller gets the outcome for its own recipient.
+ */
+@Slf4j
+final class CleverTapPushBatcher implements AutoCloseable {
+
+    private final Function<List<Notification>, Mono<CleverTapResponse>> sender;
+    private final Duration linger;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private List<PendingSend> pending;
+    private ScheduledFuture<?> lingerTask;
+    private boolean closed;
+
+    CleverTapPushBatcher(Function<List<Notification>, Mono<CleverTapResponse>> sender,
+                         Duration linger, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.sender = sender;
+        this.linger = linger;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "clevertap-push-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a notification for the next batch.
+     */
+    CompletableFuture<CleverTapResponse> submit(Notification notification) {
+        PendingSend send = new PendingSend(notification, new CompletableFuture<>());
+        List<PendingSend> fullBatch = null;
+
+        synchronized (lock) {
+            if (closed) {
+                send.getResult().completeExceptionally(new IllegalStateException("CleverTap push batcher is closed"));
+                return send.getResult();
+            }
+            if (pending == null) {
+                pending = new ArrayList<>(maxBatchSize);
+            }
+            pending.add(send);
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = drain();
+            } else if (pending.size() == 1) {
+                lingerTask = scheduler.schedule(this::flushLingering, linger.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return send.getResult();
+    }
+
+    /**
+     * Sends whatever is queued and stops accepting new sends.
+     */
+    @Override
+    public void close() {
+        List<PendingSend> batch;
+        synchronized (lock) {
+            closed = true;
+            batch = pending != null ? drain() : null;
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+        scheduler.shutdown();
+    }
+
+    private void flushLingering() {
+        List<PendingSend> batch;
+        synchronized (lock) {
+            batch = pending != null ? drain() : null;
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+    }
+
+    private List<PendingSend> drain() {
+        List<PendingSend> batch = pending;
+        pending = null;
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+            lingerTask = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<PendingSend> batch) {
+        List<Notification> notifications = new ArrayList<>(batch.size());
+        for (PendingSend send : batch) {
+            notifications.add(send.getNotification());
+        }
+        log.debug("Sending CleverTap push batch of {} notifications", batch.size());
+
+        Mono<CleverTapResponse> call;
+        try {
+            call = sender.apply(notifications);
+        } catch (RuntimeException e) {
+            batch.forEach(send -> send.getResult().completeExceptionally(e));
+            return;
+        }
+
+        call.subscribe(
+                response -> batch.forEach(send ->
+                        send.getResult().complete(response.forRecipient(send.getNotification().getRecipient()))),
+                error -> batch.forEach(send -> send.getResult().completeExceptionally(error)),
+                // Empty response body: callers see null
+                () -> batch.forEach(send -> send.getResult().complete(null)));
+    }
+
+    @Value
+    private static class PendingSend {
+        Notification notification;
+        CompletableFuture<CleverTapResponse> result;
+    }
+}
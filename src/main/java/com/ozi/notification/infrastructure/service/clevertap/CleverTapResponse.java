@@ -0,0 +1,175 @@
+package com.ozi.notification.infrastructure.service.clevertap;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.ozi.notification.infrastructure.service.payload.ResponseBodies;
+import lombok.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fields of a CleverTap API response that decide the outcome of a call.
+ * Decoded directly from the response buffer; every other field is skipped.
+ */
+@Value
+class CleverTapResponse {
+
+    String status;
+
+    String error;
+
+    Integer processed;
+
+    Integer unprocessed;
+
+    /**
+     * Truncated raw body, only captured when the response is not a complete success
+     */
+    String bodySnippet;
+
+    /**
+     * Error per identity for unprocessed entries that echo their target identity
+     */
+    Map<String, String> unprocessedErrors;
+
+    boolean isSuccess() {
+        return "success".equals(status);
+    }
+
+    /**
+     * Outcome for one recipient of an ExternalTrigger request. A recipient listed as unprocessed
+     * fails with its own error; when some unprocessed entries cannot be attributed to an identity,
+     * every recipient of the request is reported as failed rather than risking a false success.
+     */
+    CleverTapResponse forRecipient(String recipient) {
+        if (!isSuccess() || unprocessed == null || unprocessed == 0) {
+            return this;
+        }
+        String recipientError = unprocessedErrors.get(recipient);
+        if (recipientError != null) {
+            return failure(recipientError);
+        }
+        if (unprocessedErrors.size() < unprocessed) {
+            return failure("Request partially processed, recipient outcome unknown: " + bodySnippet);
+        }
+        return this;
+    }
+
+    private CleverTapResponse failure(String message) {
+        return new CleverTapResponse("fail", message, 0, 1, bodySnippet, Map.of());
+    }
+
+    /**
+     * Decodes the response and releases the buffer.
+     */
+    static CleverTapResponse decode(JsonFactory jsonFactory, DataBuffer buffer) {
+        int start = buffer.readPosition();
+        String status = null;
+        String error = null;
+        Integer processed = null;
+        Integer unprocessed = null;
+        boolean errorPresent = false;
+        Map<String, String> unprocessedErrors = new HashMap<>();
+
+        try (JsonParser parser = jsonFactory.createParser(buffer.asInputStream())) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "status" -> status = ResponseBodies.scalarText(parser);
+                        case "error" -> {
+                            errorPresent = true;
+                            error = ResponseBodies.scalarText(parser);
+                        }
+                        case "processed" -> processed = ResponseBodies.countValue(parser);
+                        case "unprocessed" -> unprocessed = parser.currentToken() == JsonToken.START_ARRAY
+                                ? readUnprocessed(parser, unprocessedErrors)
+                                : ResponseBodies.countValue(parser);
+                        default -> parser.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Malformed body: keep what was read, the snippet shows the rest
+        }
+
+        try {
+            boolean success = ("success".equals(status) || (processed != null && processed > 0))
+                    && (unprocessed == null || unprocessed == 0);
+            String bodySnippet = success ? null : ResponseBodies.snippet(buffer, start);
+            if (errorPresent && error == null) {
+                // Structured error object: report the raw body instead
+                error = bodySnippet;
+            }
+            return new CleverTapResponse(status, error, processed, unprocessed, bodySnippet, unprocessedErrors);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * Reads the unprocessed array, collecting the error of every entry whose record names
+     * its target (record.to.Identity for ExternalTrigger, record.identity for uploads).
+     */
+    private static int readUnprocessed(JsonParser parser, Map<String, String> errors) throws IOException {
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            count++;
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String error = null;
+            String identity = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("error".equals(field)) {
+                    error = ResponseBodies.scalarText(parser);
+                } else if ("record".equals(field) && value == JsonToken.START_OBJECT) {
+                    identity = readRecordIdentity(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (identity != null) {
+                errors.put(identity, error != null ? error : "Unprocessed by CleverTap");
+            }
+        }
+        return count;
+    }
+
+    private static String readRecordIdentity(JsonParser parser) throws IOException {
+        String identity = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("identity".equals(field)) {
+                identity = ResponseBodies.scalarText(parser);
+            } else if ("to".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String toField = parser.currentName();
+                    if (parser.nextToken() == JsonToken.START_ARRAY && "Identity".equals(toField)) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            String candidate = ResponseBodies.scalarText(parser);
+                            if (identity == null) {
+                                identity = candidate;
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return identity;
+    }
+}
@@ -1,23 +1,20 @@
 package com.ozi.notification.infrastructure.service.clevertap;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ozi.notification.domain.NotificationException;
 import com.ozi.notification.domain.NotificationType;
 import com.ozi.notification.domain.StockNotificationEvent;
 import com.ozi.notification.domain.StockNotificationService;
 import com.ozi.notification.infrastructure.config.StockNotificationProperties;
+import com.ozi.notification.infrastructure.service.payload.JsonBodies;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * CleverTap implementation for sending stock notifications.
  * Uses the CleverTap Upload Events API to raise stock_status_changed events,
@@ -28,7 +25,7 @@ import java.util.Map;
 @Slf4j
 public class CleverTapStockNotificationService implements StockNotificationService {
 
-    private final WebClient webClient;
+    private final WebClient cleverTapWebClient;
     private final ObjectMapper objectMapper;
     private final StockNotificationProperties stockNotificationProperties;
 
@@ -56,89 +53,65 @@ public class CleverTapStockNotificationService implements StockNotificationServi
             log.info("Uploading stock_status_changed event to CleverTap: eventId={}, userId={}, sku={}",
                     event.getId(), recipientId, event.getSku());
 
-            // Build event data matching the campaign's expected KVPs
-            Map<String, Object> evtData = new HashMap<>();
-            evtData.put("notification_type", "BACK_IN_STOCK");
-            evtData.put("stock_status", "available");
-            evtData.put("productId", String.valueOf(event.getItemId()));
-            evtData.put("sku", event.getSku());
-
-            if (event.getScreen() != null) {
-                evtData.put("screen", event.getScreen());
-            }
-            if (event.getSourceType() != null) {
-                evtData.put("sourceType", event.getSourceType());
-            }
-            if (event.getSourceName() != null) {
-                evtData.put("sourceName", event.getSourceName());
-            }
-
-            // Build the upload event payload
-            Map<String, Object> eventPayload = new HashMap<>();
-            eventPayload.put("identity", recipientId);
-            eventPayload.put("type", "event");
-            eventPayload.put("evtName", "stock_status_changed");
-            eventPayload.put("evtData", evtData);
-            eventPayload.put("ts", Instant.now().getEpochSecond());
-
-            Map<String, Object> requestPayload = new HashMap<>();
-            requestPayload.put("d", new Object[]{eventPayload});
-
             String endpoint = baseUrl + "/1/upload";
 
-            log.debug("Sending CleverTap upload event request to: {} with payload: {}",
-                    endpoint, objectMapper.writeValueAsString(requestPayload));
+            if (log.isDebugEnabled()) {
+                log.debug("Sending CleverTap upload event request to: {} with payload: {}", endpoint,
+                        JsonBodies.toJson(objectMapper.getFactory(), CleverTapPayloadWriters.STOCK_STATUS_CHANGED, event));
+            }
 
             // Send the request
-            String responseBody = webClient.post()
+            CleverTapResponse response = cleverTapWebClient.post()
                     .uri(endpoint)
                     .header("X-CleverTap-Account-Id", accountId)
                     .header("X-CleverTap-Passcode", passcode)
                     .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestPayload)
-                    .exchangeToMono(response -> {
-                        log.debug("CleverTap response status: {}", response.statusCode());
-                        return response.bodyToMono(String.class);
+                    .body(JsonBodies.inserter(objectMapper.getFactory(), CleverTapPayloadWriters.STOCK_STATUS_CHANGED, event))
+                    .exchangeToMono(clientResponse -> {
+                        log.debug("CleverTap response status: {}", clientResponse.statusCode());
+                        return clientResponse.bodyToMono(DataBuffer.class)
+                                .map(buffer -> CleverTapResponse.decode(objectMapper.getFactory(), buffer));
                     })
                     .block();
-            log.debug("CleverTap response: {}", responseBody);
+            log.debug("CleverTap response: {}", response);
 
-            // Parse response
-            JsonNode responseJson = objectMapper.readTree(responseBody);
+            if (response == null) {
+                throw new NotificationException("Empty CleverTap response", event.getId(), NotificationType.PUSH);
+            }
 
             // Check for processed count
-            if (responseJson.has("processed")) {
-                int processed = responseJson.get("processed").asInt();
-                int unprocessed = responseJson.has("unprocessed") ? responseJson.get("unprocessed").asInt() : 0;
+            if (response.getProcessed() != null) {
+                int processed = response.getProcessed();
+                int unprocessed = response.getUnprocessed() != null ? response.getUnprocessed() : 0;
 
                 if (processed > 0) {
                     log.info("Successfully uploaded stock_status_changed event to CleverTap: eventId={}, userId={}, processed={}",
                             event.getId(), recipientId, processed);
                     return true;
                 } else {
-                    String errorMsg = "CleverTap processed 0 events, unprocessed: " + unprocessed + ", response: " + responseBody;
+                    String errorMsg = "CleverTap processed 0 events, unprocessed: " + unprocessed
+                            + ", response: " + response.getBodySnippet();
                     log.error(errorMsg);
                     throw new NotificationException(errorMsg, event.getId(), NotificationType.PUSH);
                 }
             }
 
-            if (responseJson.has("status") && "success".equals(responseJson.get("status").asText())) {
+            if (response.isSuccess()) {
                 log.info("Successfully uploaded stock_status_changed event to CleverTap: eventId={}, userId={}",
                         event.getId(), recipientId);
                 return true;
             }
 
-            if (responseJson.has("error")) {
-                String errorMessage = responseJson.get("error").asText();
-                log.error("CleverTap API error for event {}: {}", event.getId(), errorMessage);
+            if (response.getError() != null) {
+                log.error("CleverTap API error for event {}: {}", event.getId(), response.getError());
                 throw new NotificationException(
-                        "CleverTap API error: " + errorMessage,
+                        "CleverTap API error: " + response.getError(),
                         event.getId(),
                         NotificationType.PUSH
                 );
             }
 
-            String errorMsg = "Unknown CleverTap response: " + responseBody;
+            String errorMsg = "Unknown CleverTap response: " + response.getBodySnippet();
             log.error(errorMsg);
             throw new NotificationException(errorMsg, event.getId(), NotificationType.PUSH);
 
@@ -0,0 +1,92 @@
+package com.ozi.notification.infrastructure.service.drain;
+
+import com.ozi.notification.domain.ProcessPendingNotificationsUseCase;
+import com.ozi.notification.domain.ProcessPendingNotificationsUseCase.ProcessPendingNotificationsResult;
+import com.ozi.notification.infrastructure.config.DrainProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the process pending notifications use case in the background with adaptive polling.
+ *
+ * After a run that sent or failed notifications the next run follows after the minimum
+ * interval, so a backlog is drained continuously. After a run that found nothing to do,
+ * or could only defer notifications because providers are unavailable, the delay doubles
+ * up to the maximum interval. Every instance may run the drain: the use case claims rows
+ * with SKIP LOCKED, so each notification is handled by one instance.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PendingNotificationDrainScheduler {
+
+    private final ProcessPendingNotificationsUseCase processPendingNotificationsUseCase;
+    private final DrainProperties drainProperties;
+
+    private ScheduledExecutorService timer;
+    private long delayMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!drainProperties.isEnabled()) {
+            log.info("Background drain of pending notifications is disabled on this instance");
+            return;
+        }
+
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "pending-notification-drain");
+            thread.setDaemon(true);
+            return thread;
+        });
+        delayMillis = drainProperties.getMinInterval().toMillis();
+        schedule();
+
+        log.info("Background drain of pending notifications started: minInterval={}, maxInterval={}",
+                drainProperties.getMinInterval(), drainProperties.getMaxInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+    }
+
+    private void schedule() {
+        try {
+            timer.schedule(this::run, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+        }
+    }
+
+    private void run() {
+        try {
+            delayMillis = nextDelay(delayMillis, processPendingNotificationsUseCase.execute());
+        } catch (Exception e) {
+            log.error("Error draining pending notifications: {}", e.getMessage(), e);
+            delayMillis = drainProperties.getMaxInterval().toMillis();
+        }
+        schedule();
+    }
+
+    /**
+     * Delay before the next run, given the result of the last one.
+     */
+    long nextDelay(long currentDelayMillis, ProcessPendingNotificationsResult result) {
+        long minMillis = drainProperties.getMinInterval().toMillis();
+        if (result.getTotalSuccessful() + result.getTotalFailed() > 0) {
+            return minMillis;
+        }
+        return Math.min(Math.max(currentDelayMillis, minMillis) * 2, drainProperties.getMaxInterval().toMillis());
+    }
+}
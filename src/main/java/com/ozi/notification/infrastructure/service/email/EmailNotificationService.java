@@ -0,0 +1,182 @@
+package com.ozi.notification.infrastructure.service.email;
+
+import com.ozi.notification.domain.*;
+import com.ozi.notification.infrastructure.config.EmailProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Email notification service implementation.
+ * Sends plain text emails over SMTP through a pool of persistent connections
+ * (see {@link SmtpDeliveryPool}); the notification title is the subject and the
+ * deep link, if any, is appended to the message.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailNotificationService implements NotificationService {
+
+    private final EmailProperties emailProperties;
+
+    private SmtpDeliveryPool deliveryPool;
+    private Session session;
+
+    @PostConstruct
+    void start() {
+        if (emailProperties.getHost() == null || emailProperties.getHost().isBlank()) {
+            log.warn("SMTP host not configured, email notifications will fail");
+            return;
+        }
+
+        session = Session.getInstance(sessionProperties());
+        deliveryPool = new SmtpDeliveryPool(
+                session,
+                emailProperties.isSsl() ? "smtps" : "smtp",
+                emailProperties.getHost(),
+                emailProperties.getPort(),
+                emailProperties.getUsername(),
+                emailProperties.getPassword(),
+                emailProperties.getConnections(),
+                emailProperties.getBatchSize(),
+                emailProperties.getMaxMessagesPerConnection(),
+                emailProperties.getIdleTimeout(),
+                emailProperties.getQueueCapacity());
+        log.info("Email delivery started: host={}:{}, connections={}, batchSize={}",
+                emailProperties.getHost(), emailProperties.getPort(),
+                emailProperties.getConnections(), emailProperties.getBatchSize());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (deliveryPool != null) {
+            deliveryPool.close(emailProperties.getSendTimeout());
+        }
+    }
+
+    @Override
+    public Notification sendNotification(Notification notification) throws NotificationException {
+        if (!canHandle(notification.getType())) {
+            throw new NotificationException(
+                "Email service cannot handle notification type: " + notification.getType(),
+                notification.getId(),
+                notification.getType()
+            );
+        }
+
+        if (deliveryPool == null) {
+            throw new NotificationException(
+                "SMTP host not configured",
+                notification.getId(),
+                notification.getType()
+            );
+        }
+
+        MimeMessage message;
+        try {
+            message = toMessage(notification);
+        } catch (MessagingException e) {
+            throw new NotificationException(
+                "Invalid email: " + e.getMessage(),
+                notification.getId(),
+                notification.getType()
+            );
+        }
+
+        log.info("Sending email to recipient: {}", notification.getRecipient());
+
+        CompletableFuture<Void> delivery = deliveryPool.submit(message);
+        try {
+            delivery.get(emailProperties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            delivery.cancel(false);
+            throw new NotificationException(
+                "Timed out sending email after " + emailProperties.getSendTimeout(),
+                notification.getId(),
+                notification.getType(),
+                e
+            );
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RejectedExecutionException) {
+                // Pool saturated: leave the notification for a later attempt
+                throw new ProviderUnavailableException(
+                    "Email delivery unavailable: " + cause.getMessage(),
+                    notification.getId(),
+                    notification.getType()
+                );
+            }
+            log.error("Failed to send email to recipient {}: {}", notification.getRecipient(), cause.getMessage());
+            throw new NotificationException(
+                "Failed to send email: " + cause.getMessage(),
+                notification.getId(),
+                notification.getType(),
+                cause
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException(
+                "Interrupted while sending email",
+                notification.getId(),
+                notification.getType(),
+                e
+            );
+        }
+
+        log.info("Email sent successfully to recipient: {}", notification.getRecipient());
+        return notification.markAsSent();
+    }
+
+    @Override
+    public boolean canHandle(NotificationType type) {
+        return NotificationType.EMAIL == type;
+    }
+
+    private MimeMessage toMessage(Notification notification) throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        if (emailProperties.getFrom() != null) {
+            message.setFrom(new InternetAddress(emailProperties.getFrom(), true));
+        }
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(notification.getRecipient(), true));
+        message.setSubject(notification.getTitle(), StandardCharsets.UTF_8.name());
+
+        String body = notification.getMessage() != null ? notification.getMessage() : "";
+        if (notification.getDeepLink() != null && !notification.getDeepLink().isBlank()) {
+            body = body + "\n\n" + notification.getDeepLink();
+        }
+        message.setText(body, StandardCharsets.UTF_8.name());
+        message.setSentDate(new Date());
+        message.saveChanges();
+        return message;
+    }
+
+    private Properties sessionProperties() {
+        Properties properties = new Properties();
+        String prefix = emailProperties.isSsl() ? "mail.smtps." : "mail.smtp.";
+        properties.put(prefix + "auth", String.valueOf(emailProperties.getUsername() != null));
+        properties.put(prefix + "connectiontimeout", String.valueOf(emailProperties.getConnectTimeout().toMillis()));
+        properties.put(prefix + "timeout", String.valueOf(emailProperties.getTimeout().toMillis()));
+        properties.put(prefix + "writetimeout", String.valueOf(emailProperties.getTimeout().toMillis()));
+        if (!emailProperties.isSsl()) {
+            properties.put("mail.smtp.starttls.enable", String.valueOf(emailProperties.isStartTls()));
+            properties.put("mail.smtp.starttls.required", String.valueOf(emailProperties.isStartTls()));
+        }
+        return properties;
+    }
+}
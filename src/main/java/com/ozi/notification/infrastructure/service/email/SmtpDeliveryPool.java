@@ -0,0 +1,217 @@
+package com.ozi.notification.infrastructure.service.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers emails over a fixed set of persistent SMTP connections.
+ *
+ * Each worker thread owns one connection and keeps it open across emails, so the
+ * TCP, TLS and AUTH handshakes are paid once per connection instead of once per email.
+ * A worker takes up to a batch of queued emails at a time and sends them back to back
+ * over its connection. Connections are reopened after a maximum number of emails,
+ * closed when idle, and replaced when the server drops them.
+ */
+@Slf4j
+final class SmtpDeliveryPool implements AutoCloseable {
+
+    /**
+     * Queued on close to wake idle workers; already completed, so it is never sent
+     */
+    private static final PendingEmail WAKE_UP = new PendingEmail(null, CompletableFuture.completedFuture(null));
+
+    private final Session session;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final int batchSize;
+    private final int maxMessagesPerConnection;
+    private final long idleTimeoutNanos;
+    private final BlockingQueue<PendingEmail> queue;
+    private final List<Thread> workers;
+
+    private volatile boolean closed;
+
+    SmtpDeliveryPool(Session session, String protocol, String host, int port, String username, String password,
+                     int connections, int batchSize, int maxMessagesPerConnection, Duration idleTimeout,
+                     int queueCapacity) {
+        this.session = session;
+        this.protocol = protocol;
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxMessagesPerConnection = Math.max(1, maxMessagesPerConnection);
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        int workerCount = Math.max(1, connections);
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "smtp-delivery-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Queues an email for delivery.
+     *
+     * @return completes when the server accepted the email, or exceptionally with the failure;
+     *         fails with {@link RejectedExecutionException} if the queue is full or the pool is closed
+     */
+    CompletableFuture<Void> submit(MimeMessage message) {
+        PendingEmail email = new PendingEmail(message, new CompletableFuture<>());
+        if (closed) {
+            email.getResult().completeExceptionally(new RejectedExecutionException("SMTP delivery pool is closed"));
+        } else if (!queue.offer(email)) {
+            email.getResult().completeExceptionally(new RejectedExecutionException("SMTP delivery queue is full"));
+        }
+        return email.getResult();
+    }
+
+    /**
+     * Stops the workers after the queued emails were sent, waiting at most the given time.
+     */
+    void close(Duration timeout) {
+        closed = true;
+        // If the queue is full no worker is waiting and none needs waking
+        workers.forEach(worker -> queue.offer(WAKE_UP));
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Thread worker : workers) {
+            try {
+                TimeUnit.NANOSECONDS.timedJoin(worker, Math.max(0, deadline - System.nanoTime()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.forEach(Thread::interrupt);
+
+        List<PendingEmail> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(email -> email.getResult()
+                .completeExceptionally(new RejectedExecutionException("SMTP delivery pool is closed")));
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(10));
+    }
+
+    private void runWorker() {
+        Connection connection = new Connection();
+        List<PendingEmail> batch = new ArrayList<>(batchSize);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                PendingEmail first = queue.poll(idleTimeoutNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    // Idle: let the server reclaim the session rather than keep it open
+                    connection.close();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                for (PendingEmail email : batch) {
+                    deliver(connection, email);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            batch.forEach(email -> email.getResult()
+                    .completeExceptionally(new RejectedExecutionException("SMTP delivery pool is closed")));
+            connection.close();
+        }
+    }
+
+    private void deliver(Connection connection, PendingEmail email) {
+        if (email.getResult().isDone()) {
+            // The caller gave up waiting
+            return;
+        }
+        try {
+            boolean reused = connection.isOpen();
+            try {
+                connection.send(email.getMessage());
+            } catch (SendFailedException e) {
+                // Recipient rejected; the connection is still usable
+                throw e;
+            } catch (MessagingException e) {
+                connection.close();
+                if (!reused) {
+                    throw e;
+                }
+                // The server may have dropped the kept-alive connection; retry once on a new one
+                log.debug("Reopening SMTP connection after failure on reused connection: {}", e.getMessage());
+                connection.send(email.getMessage());
+            }
+            email.getResult().complete(null);
+        } catch (MessagingException | RuntimeException e) {
+            email.getResult().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * A worker's SMTP connection, opened on first use.
+     */
+    private final class Connection {
+        private Transport transport;
+        private int sent;
+
+        boolean isOpen() {
+            return transport != null;
+        }
+
+        void send(MimeMessage message) throws MessagingException {
+            if (transport == null) {
+                Transport opened = session.getTransport(protocol);
+                opened.connect(host, port, username, password);
+                transport = opened;
+                sent = 0;
+                log.debug("Opened SMTP connection to {}:{}", host, port);
+            }
+            transport.sendMessage(message, message.getAllRecipients());
+            if (++sent >= maxMessagesPerConnection) {
+                close();
+            }
+        }
+
+        void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Error closing SMTP connection: {}", e.getMessage());
+            }
+            transport = null;
+        }
+    }
+
+    @Value
+    private static class PendingEmail {
+        MimeMessage message;
+        CompletableFuture<Void> result;
+    }
+}
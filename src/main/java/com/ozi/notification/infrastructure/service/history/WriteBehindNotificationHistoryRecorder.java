@@ -0,0 +1,182 @@
+package com.ozi.notification.infrastructure.service.history;
+
+import com.ozi.notification.domain.NotificationHistoryEntry;
+import com.ozi.notification.domain.NotificationHistoryRecorder;
+import com.ozi.notification.infrastructure.config.NotificationHistoryProperties;
+import com.ozi.notification.infrastructure.repository.NotificationHistoryJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NotificationHistoryRecorder that buffers entries in memory and writes them in the background.
+ *
+ * Recording only offers the entry to a bounded queue, so sends never wait on the database.
+ * A single writer thread inserts the buffered entries as one batch once a batch is full or
+ * the oldest entry has waited for the flush interval. When the buffer is full new entries
+ * are dropped and counted rather than blocking the caller. On shutdown the writer stops
+ * accepting entries and flushes what is buffered, waiting at most the shutdown timeout.
+ */
+@Service
+@Slf4j
+public class WriteBehindNotificationHistoryRecorder implements NotificationHistoryRecorder {
+
+    private static final long DROP_LOG_INTERVAL = 1_000;
+
+    /**
+     * Queued on shutdown to wake the writer; never written
+     */
+    private static final NotificationHistoryEntry WAKE_UP = NotificationHistoryEntry.builder().build();
+
+    private final NotificationHistoryJdbcRepository historyRepository;
+    private final NotificationHistoryProperties properties;
+    private final BlockingQueue<NotificationHistoryEntry> buffer;
+    private final AtomicLong droppedEntries = new AtomicLong();
+    private final AtomicLong failedEntries = new AtomicLong();
+
+    private volatile boolean accepting;
+    private volatile boolean stopping;
+    private Thread writer;
+
+    public WriteBehindNotificationHistoryRecorder(NotificationHistoryJdbcRepository historyRepository,
+                                                  NotificationHistoryProperties properties) {
+        this.historyRepository = historyRepository;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, properties.getBufferCapacity()));
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            log.info("Notification history recording is disabled");
+            return;
+        }
+        accepting = true;
+        writer = new Thread(this::runWriter, "notification-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Notification history writer started: bufferCapacity={}, batchSize={}, flushInterval={}",
+                properties.getBufferCapacity(), properties.getBatchSize(), properties.getFlushInterval());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (writer == null) {
+            return;
+        }
+        accepting = false;
+        stopping = true;
+        // If the buffer is full the writer is not waiting and needs no wake-up
+        buffer.offer(WAKE_UP);
+        try {
+            writer.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            writer.interrupt();
+            log.warn("Notification history writer did not finish within {}; {} entries were not written",
+                    properties.getShutdownTimeout(), buffer.size());
+        }
+    }
+
+    @Override
+    public void record(NotificationHistoryEntry entry) {
+        if (!accepting) {
+            return;
+        }
+        if (!buffer.offer(entry)) {
+            long dropped = droppedEntries.incrementAndGet();
+            if (dropped % DROP_LOG_INTERVAL == 1) {
+                log.warn("Notification history buffer is full, dropping entries ({} dropped so far)", dropped);
+            }
+        }
+    }
+
+    /**
+     * Number of entries dropped because the buffer was full.
+     */
+    public long getDroppedEntries() {
+        return droppedEntries.get();
+    }
+
+    /**
+     * Number of entries lost because their batch could not be written.
+     */
+    public long getFailedEntries() {
+        return failedEntries.get();
+    }
+
+    /**
+     * Number of entries waiting to be written.
+     */
+    public int getBufferedEntries() {
+        return buffer.size();
+    }
+
+    private void runWriter() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<NotificationHistoryEntry> batch = new ArrayList<>(batchSize);
+
+        try {
+            while (!stopping) {
+                NotificationHistoryEntry first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Fill the batch until it is full or the first entry has waited the flush interval
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize && !stopping) {
+                    buffer.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    NotificationHistoryEntry next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        // Shutting down: write everything still buffered
+        flush(batch);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+        log.info("Notification history writer stopped");
+    }
+
+    private void flush(List<NotificationHistoryEntry> batch) {
+        batch.removeIf(entry -> entry == WAKE_UP);
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            historyRepository.insertAll(batch);
+        } catch (RuntimeException e) {
+            failedEntries.addAndGet(batch.size());
+            log.error("Failed to write {} notification history entries: {}", batch.size(), e.getMessage(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ozi.notification.infrastructure.service.idempotency;
+
+import com.ozi.notification.domain.IdempotencyCache;
+import com.ozi.notification.domain.SendNotificationUseCase;
+import com.ozi.notification.infrastructure.config.IdempotencyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-process idempotency cache. Every entry lives for the same TTL, so insertion
+ * order is also expiry order: expired and overflowing entries are evicted from the head
+ * of the map on each write, keeping both operations O(1).
+ */
+@Component
+@Slf4j
+public class InMemoryIdempotencyCache implements IdempotencyCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    @Autowired
+    public InMemoryIdempotencyCache(IdempotencyProperties properties) {
+        this(properties.getMaxEntries(), properties.getTtl(), System::nanoTime);
+    }
+
+    InMemoryIdempotencyCache(int maxEntries, Duration ttl, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<SendNotificationUseCase.SendNotificationResult> get(String idempotencyKey) {
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            Entry entry = entries.get(idempotencyKey);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (now - entry.expiresAt >= 0) {
+                entries.remove(idempotencyKey);
+                return Optional.empty();
+            }
+            return Optional.of(entry.result);
+        }
+    }
+
+    @Override
+    public void put(String idempotencyKey, SendNotificationUseCase.SendNotificationResult result) {
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            // Re-insert so the entry moves to the tail with its new expiry
+            entries.remove(idempotencyKey);
+            entries.put(idempotencyKey, new Entry(result, now + ttlNanos));
+            evict(now);
+        }
+    }
+
+    /**
+     * Number of cached results, including expired ones not yet evicted.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void evict(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry head = iterator.next().getValue();
+            if (entries.size() > maxEntries || now - head.expiresAt >= 0) {
+                iterator.remove();
+            } else {
+                break;
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final SendNotificationUseCase.SendNotificationResult result;
+        private final long expiresAt;
+
+        private Entry(SendNotificationUseCase.SendNotificationResult result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
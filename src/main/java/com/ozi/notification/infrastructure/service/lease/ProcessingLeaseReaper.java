@@ -0,0 +1,94 @@
+package com.ozi.notification.infrastructure.service.lease;
+
+import com.ozi.notification.domain.NotificationRepository;
+import com.ozi.notification.domain.ScheduledNotificationRepository;
+import com.ozi.notification.domain.StockNotificationEventRepository;
+import com.ozi.notification.infrastructure.config.ProcessingLeaseProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Periodically releases notifications, stock notification events and scheduled notifications
+ * whose processing lease has expired, i.e. rows claimed by an instance that stopped before writing their
+ * outcome. They go back to PENDING in bulk, or to FAILED once the attempt limit is reached.
+ * Every instance may run the reaper; the bulk updates only match rows that are still
+ * PROCESSING with an expired lease, so each row is released once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProcessingLeaseReaper {
+
+    private final NotificationRepository notificationRepository;
+    private final StockNotificationEventRepository stockNotificationEventRepository;
+    private final ScheduledNotificationRepository scheduledNotificationRepository;
+    private final ProcessingLeaseProperties properties;
+
+    private ScheduledExecutorService timer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isReapEnabled()) {
+            log.info("Processing lease reaper is disabled on this instance");
+            return;
+        }
+
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "processing-lease-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getReapInterval().toMillis();
+        timer.scheduleWithFixedDelay(this::reap, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+        log.info("Processing lease reaper started: lease={}, interval={}", properties.getLease(), properties.getReapInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+    }
+
+    void reap() {
+        try {
+            int notifications = releaseAll(limit ->
+                    notificationRepository.releaseExpiredClaims(properties.getMaxAttempts(), limit));
+            int events = releaseAll(limit ->
+                    stockNotificationEventRepository.releaseExpiredClaims(properties.getMaxAttempts(), limit));
+            int schedules = releaseAll(limit ->
+                    scheduledNotificationRepository.releaseExpiredClaims(properties.getMaxAttempts(), limit));
+
+            if (notifications > 0 || events > 0 || schedules > 0) {
+                log.warn("Released {} notifications, {} stock notification events and {} scheduled notifications " +
+                        "with expired processing leases", notifications, events, schedules);
+            }
+        } catch (Exception e) {
+            log.error("Error releasing expired processing leases: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Releases batches until one comes back short.
+     */
+    private int releaseAll(IntUnaryOperator releaseBatch) {
+        int batchSize = properties.getReapBatchSize();
+        int total = 0;
+        int released;
+        do {
+            released = releaseBatch.applyAsInt(batchSize);
+            total += released;
+        } while (released >= batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,112 @@
+package com.ozi.notification.infrastructure.service.metrics;
+
+import com.ozi.notification.domain.FailureSummary;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.domain.PipelineMetrics;
+import com.ozi.notification.infrastructure.config.PipelineMetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PipelineMetrics recorded with Micrometer.
+ *
+ * Every stage is recorded by the {@value #STAGE_TIMER} timer and item counts by the
+ * {@value #STAGE_ITEMS} counter, tagged with pipeline, stage, type, provider, outcome
+ * and error.class. All tags are always present ({@value #NONE} when not applicable),
+ * as Prometheus requires one tag set per meter name. Timers publish the configured
+ * percentiles and SLO buckets.
+ */
+@Component
+public class MicrometerPipelineMetrics implements PipelineMetrics {
+
+    static final String STAGE_TIMER = "notification.pipeline.stage";
+    static final String STAGE_ITEMS = "notification.pipeline.items";
+    static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final double[] percentiles;
+    private final boolean percentileHistogram;
+    private final Duration[] slo;
+
+    public MicrometerPipelineMetrics(MeterRegistry registry, PipelineMetricsProperties properties) {
+        this.registry = registry;
+        this.percentiles = properties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+        this.percentileHistogram = properties.isPercentileHistogram();
+        this.slo = properties.getSlo().toArray(Duration[]::new);
+    }
+
+    @Override
+    public StageTimer start(String pipeline, String stage) {
+        return new MicrometerStageTimer(pipeline, stage, registry.config().clock().monotonicTime());
+    }
+
+    @Override
+    public void count(String pipeline, String stage, String outcome, int amount) {
+        Counter.builder(STAGE_ITEMS)
+                .description("Items passing through a notification pipeline stage")
+                .tag("pipeline", pipeline)
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment(amount);
+    }
+
+    private void record(MicrometerStageTimer timer, String outcome, String errorClass) {
+        long elapsed = registry.config().clock().monotonicTime() - timer.startNanos;
+        Timer.builder(STAGE_TIMER)
+                .description("Time spent in a notification pipeline stage")
+                .tag("pipeline", timer.pipeline)
+                .tag("stage", timer.stage)
+                .tag("type", timer.type != null ? timer.type.name() : NONE)
+                .tag("provider", timer.provider != null ? timer.provider : NONE)
+                .tag("outcome", outcome)
+                .tag("error.class", errorClass)
+                .publishPercentiles(percentiles)
+                .publishPercentileHistogram(percentileHistogram)
+                .serviceLevelObjectives(slo)
+                .register(registry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private final class MicrometerStageTimer implements StageTimer {
+
+        private final String pipeline;
+        private final String stage;
+        private final long startNanos;
+        private NotificationType type;
+        private String provider;
+
+        private MicrometerStageTimer(String pipeline, String stage, long startNanos) {
+            this.pipeline = pipeline;
+            this.stage = stage;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public StageTimer type(NotificationType type) {
+            this.type = type;
+            return this;
+        }
+
+        @Override
+        public StageTimer provider(String provider) {
+            this.provider = provider;
+            return this;
+        }
+
+        @Override
+        public void stop(String outcome) {
+            record(this, outcome, NONE);
+        }
+
+        @Override
+        public void stop(Throwable failure) {
+            record(this, FAILURE, FailureSummary.errorClass(failure));
+        }
+    }
+}
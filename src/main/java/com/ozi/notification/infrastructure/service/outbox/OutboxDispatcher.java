@@ -0,0 +1,185 @@
+package com.ozi.notification.infrastructure.service.outbox;
+
+import com.ozi.notification.domain.*;
+import com.ozi.notification.infrastructure.config.OutboxProperties;
+import com.ozi.notification.infrastructure.repository.NotificationOutboxJdbcRepository;
+import com.ozi.notification.infrastructure.repository.NotificationOutboxJdbcRepository.ClaimedEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends notifications from notification_outbox with a pool of worker threads.
+ *
+ * Each worker claims a batch of due outbox rows, claims each notification (PENDING to
+ * PROCESSING) and sends it; saving the final status removes the outbox row in the same
+ * transaction. Workers on every instance claim with SKIP LOCKED, so they split the
+ * backlog without waiting on each other. A worker that dies leaves its rows leased;
+ * they are claimed again when the lease ends. Failed attempts are retried with
+ * backoff until the attempt limit, provider outages without using up an attempt.
+ * Notifications are read from the primary before acting on them, and an outbox row
+ * is only removed once its notification is seen in a final status.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatcher {
+
+    private final NotificationOutboxJdbcRepository outboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationServiceProvider notificationServiceProvider;
+    private final NotificationHistoryRecorder notificationHistoryRecorder;
+    private final OutboxProperties outboxProperties;
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!outboxProperties.isEnabled() || outboxProperties.getWorkers() < 1) {
+            log.info("Outbox dispatch is disabled on this instance");
+            return;
+        }
+
+        AtomicInteger workerThreads = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(outboxProperties.getWorkers(), r -> {
+            Thread thread = new Thread(r, "notification-outbox-worker-" + workerThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < outboxProperties.getWorkers(); i++) {
+            workers.execute(this::work);
+        }
+
+        log.info("Outbox dispatch started: workers={}, batchSize={}, lease={}",
+                outboxProperties.getWorkers(), outboxProperties.getBatchSize(), outboxProperties.getLease());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (workers == null) {
+            return;
+        }
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(outboxProperties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            // Rows still claimed are dispatched again when their lease ends
+            log.warn("Outbox workers did not finish within {}", outboxProperties.getShutdownTimeout());
+            workers.shutdownNow();
+        }
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                if (dispatchBatch() == 0) {
+                    Thread.sleep(outboxProperties.getPollInterval().toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Error dispatching from the notification outbox: {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(outboxProperties.getPollInterval().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Claims one batch of due outbox rows and dispatches them.
+     *
+     * @return Number of rows claimed
+     */
+    int dispatchBatch() {
+        List<ClaimedEntry> claimed = outboxRepository.claim(
+                outboxProperties.getBatchSize(), LocalDateTime.now().plus(outboxProperties.getLease()));
+        for (ClaimedEntry entry : claimed) {
+            dispatch(entry);
+        }
+        return claimed.size();
+    }
+
+    private void dispatch(ClaimedEntry entry) {
+        String id = entry.getNotificationId();
+        if (!notificationRepository.claim(id)) {
+            Optional<NotificationStatus> status = notificationRepository.findCurrentById(id).map(Notification::getStatus);
+            if (status.isEmpty()) {
+                releaseMissing(entry);
+            } else if (status.get() == NotificationStatus.PENDING || status.get() == NotificationStatus.PROCESSING) {
+                // Being sent elsewhere; look again once that send has had time to finish
+                outboxRepository.release(id, LocalDateTime.now().plus(outboxProperties.getRetryBackoff()), false);
+            } else {
+                outboxRepository.ack(id);
+            }
+            return;
+        }
+
+        Notification notification = notificationRepository.findCurrentById(id).orElse(null);
+        if (notification == null) {
+            releaseMissing(entry);
+            return;
+        }
+
+        try {
+            Notification sent = notificationServiceProvider.sendNotification(notification);
+            notificationRepository.save(sent);
+            if (sent.getStatus() == NotificationStatus.SENT) {
+                notificationHistoryRecorder.record(NotificationHistoryEntry.fromNotification(sent));
+            }
+            log.debug("Dispatched notification {} from the outbox", id);
+
+        } catch (ProviderUnavailableException e) {
+            // Provider circuit open: try again later without using up an attempt
+            retry(entry, e.getMessage(), false);
+
+        } catch (NotificationException e) {
+            if (entry.getAttempts() >= outboxProperties.getMaxAttempts()) {
+                log.error("Notification {} failed after {} attempts: {}", id, entry.getAttempts(), e.getMessage());
+                notificationRepository.updateStatusWithError(id, NotificationStatus.FAILED, e.getMessage());
+            } else {
+                retry(entry, e.getMessage(), true);
+            }
+
+        } catch (Exception e) {
+            log.error("Unexpected error dispatching notification {}: {}", id, e.getMessage(), e);
+            notificationRepository.updateStatusWithError(id, NotificationStatus.FAILED, "Unexpected error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Leaves the outbox row of a notification that could not be read for a later attempt.
+     */
+    private void releaseMissing(ClaimedEntry entry) {
+        LocalDateTime nextAttempt = LocalDateTime.now().plus(
+                outboxProperties.getRetryBackoff().multipliedBy(entry.getAttempts()));
+        log.warn("Notification {} of outbox entry not found, looking again at {}", entry.getNotificationId(), nextAttempt);
+        outboxRepository.release(entry.getNotificationId(), nextAttempt, true);
+    }
+
+    private void retry(ClaimedEntry entry, String errorMessage, boolean countAttempt) {
+        int attempt = countAttempt ? entry.getAttempts() : Math.max(1, entry.getAttempts() - 1);
+        LocalDateTime nextAttempt = LocalDateTime.now().plus(outboxProperties.getRetryBackoff().multipliedBy(attempt));
+
+        log.warn("Notification {} attempt failed, retrying at {}: {}", entry.getNotificationId(), nextAttempt, errorMessage);
+
+        notificationRepository.updateStatusWithError(entry.getNotificationId(), NotificationStatus.PENDING, errorMessage);
+        outboxRepository.release(entry.getNotificationId(), nextAttempt, countAttempt);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ozi.notification.infrastructure.service.payload;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+/**
+ * Helpers for sending and logging payloads produced by a {@link JsonPayloadWriter}.
+ */
+public final class JsonBodies {
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private JsonBodies() {
+    }
+
+    /**
+     * Creates a body inserter that streams the payload straight into the request buffer.
+     */
+    public static <T> BodyInserter<T, ReactiveHttpOutputMessage> inserter(
+            JsonFactory jsonFactory, JsonPayloadWriter<T> writer, T value) {
+        return (outputMessage, context) -> {
+            DataBuffer buffer = outputMessage.bufferFactory().allocateBuffer(INITIAL_BUFFER_SIZE);
+            try (OutputStream out = buffer.asOutputStream();
+                 JsonGenerator generator = jsonFactory.createGenerator(out)) {
+                writer.write(generator, value);
+            } catch (IOException | RuntimeException e) {
+                DataBufferUtils.release(buffer);
+                return Mono.error(e);
+            }
+            return outputMessage.writeWith(Mono.just(buffer));
+        };
+    }
+
+    /**
+     * Serializes the payload to a string. Intended for debug logging only and
+     * should be called behind a log level guard.
+     */
+    public static <T> String toJson(JsonFactory jsonFactory, JsonPayloadWriter<T> writer, T value) {
+        StringWriter out = new StringWriter(INITIAL_BUFFER_SIZE);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            writer.write(generator, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.ozi.notification.infrastructure.service.payload;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Writes a provider request payload directly as JSON tokens,
+ * without building an intermediate map or tree.
+ *
+ * @param <T> The source object the payload is built from
+ */
+@FunctionalInterface
+public interface JsonPayloadWriter<T> {
+
+    /**
+     * Writes the payload for the given value.
+     *
+     * @param generator The generator to write to
+     * @param value     The source object
+     * @throws IOException if writing fails
+     */
+    void write(JsonGenerator generator, T value) throws IOException;
+}
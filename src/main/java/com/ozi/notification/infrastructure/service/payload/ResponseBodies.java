@@ -0,0 +1,90 @@
+package com.ozi.notification.infrastructure.service.payload;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Helpers for decoding provider responses straight from the response buffer.
+ */
+public final class ResponseBodies {
+
+    /**
+     * Maximum number of characters of a provider response kept for error messages
+     */
+    public static final int MAX_SNIPPET_LENGTH = 512;
+
+    private ResponseBodies() {
+    }
+
+    /**
+     * Returns the buffer content from the given position as text, cut at {@link #MAX_SNIPPET_LENGTH}.
+     */
+    public static String snippet(DataBuffer buffer, int fromPosition) {
+        int length = buffer.writePosition() - fromPosition;
+        if (length <= 0) {
+            return "";
+        }
+        // Up to 4 bytes per character in UTF-8; decode a bounded prefix then cut on characters
+        int bytes = Math.min(length, MAX_SNIPPET_LENGTH * 4);
+        String text = buffer.toString(fromPosition, bytes, StandardCharsets.UTF_8);
+        return truncate(text, bytes < length);
+    }
+
+    /**
+     * Truncates text to {@link #MAX_SNIPPET_LENGTH} characters without splitting surrogate pairs.
+     */
+    public static String truncate(String text) {
+        return truncate(text, false);
+    }
+
+    /**
+     * Returns the current scalar value as text, or skips a nested object/array and returns null.
+     */
+    public static String scalarText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        return truncate(parser.getValueAsString());
+    }
+
+    /**
+     * Returns the current value as a count: numbers as-is, arrays by their number of elements,
+     * objects are skipped and return null.
+     */
+    public static Integer countValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_ARRAY) {
+            int count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+                count++;
+            }
+            return count;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsInt();
+    }
+
+    private static String truncate(String text, boolean alreadyCut) {
+        if (text == null) {
+            return null;
+        }
+        if (text.length() <= MAX_SNIPPET_LENGTH) {
+            return alreadyCut ? text + "...(truncated)" : text;
+        }
+        int end = MAX_SNIPPET_LENGTH;
+        if (Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end) + "...(truncated)";
+    }
+}
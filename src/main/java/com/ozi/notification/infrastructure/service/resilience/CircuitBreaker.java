@@ -0,0 +1,189 @@
+package com.ozi.notification.infrastructure.service.resilience;
+
+import com.ozi.notification.infrastructure.config.CircuitBreakerProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker guarding a single notification provider.
+ *
+ * CLOSED records the outcome of the last {@code slidingWindowSize} calls and opens when
+ * the failure or slow-call rate crosses its threshold. OPEN rejects every call until
+ * {@code waitDurationInOpenState} has elapsed, then moves to HALF_OPEN, which lets a
+ * limited number of trial calls through: any failed or slow trial reopens the circuit,
+ * and all trials succeeding closes it again with a fresh window.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final CircuitBreakerProperties.Settings settings;
+    private final LongSupplier nanoClock;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    // Ring buffer of call outcomes for the CLOSED state
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermitsIssued;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, CircuitBreakerProperties.Settings settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, CircuitBreakerProperties.Settings settings, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.slowCallNanos = settings.getSlowCallDuration().toNanos();
+        this.openNanos = settings.getWaitDurationInOpenState().toNanos();
+        this.failedCalls = new boolean[settings.getSlidingWindowSize()];
+        this.slowCalls = new boolean[settings.getSlidingWindowSize()];
+    }
+
+    /**
+     * Returns the current time on the breaker's clock, used to time guarded calls.
+     */
+    public long now() {
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Attempts to acquire permission for a call.
+     *
+     * @return true if the call may proceed, false if it must be rejected
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitsIssued >= settings.getPermittedCallsInHalfOpenState()) {
+                return false;
+            }
+            halfOpenPermitsIssued++;
+        }
+
+        return true;
+    }
+
+    /**
+     * Records a completed call that did not fail at the provider level.
+     *
+     * @param startNanos value of {@link #now()} taken before the call
+     */
+    public void onSuccess(long startNanos) {
+        record(false, nanoClock.getAsLong() - startNanos >= slowCallNanos);
+    }
+
+    /**
+     * Records a call that failed because the provider was unreachable or erroring.
+     *
+     * @param startNanos value of {@link #now()} taken before the call
+     */
+    public void onFailure(long startNanos) {
+        record(true, nanoClock.getAsLong() - startNanos >= slowCallNanos);
+    }
+
+    /**
+     * Releases a permit for a call whose outcome says nothing about provider health
+     * (e.g. a rejected payload), without recording it.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermitsIssued > 0) {
+            halfOpenPermitsIssued--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private synchronized void record(boolean failed, boolean slow) {
+        if (state == State.HALF_OPEN) {
+            if (failed || slow) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= settings.getPermittedCallsInHalfOpenState()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+
+        if (state == State.OPEN) {
+            // Late result from a call admitted before the circuit opened
+            return;
+        }
+
+        if (recordedCalls == failedCalls.length) {
+            if (failedCalls[windowIndex]) {
+                failureCount--;
+            }
+            if (slowCalls[windowIndex]) {
+                slowCount--;
+            }
+        } else {
+            recordedCalls++;
+        }
+
+        failedCalls[windowIndex] = failed;
+        slowCalls[windowIndex] = slow;
+        if (failed) {
+            failureCount++;
+        }
+        if (slow) {
+            slowCount++;
+        }
+        windowIndex = (windowIndex + 1) % failedCalls.length;
+
+        if (recordedCalls >= settings.getMinimumNumberOfCalls()) {
+            int failureRate = failureCount * 100 / recordedCalls;
+            int slowCallRate = slowCount * 100 / recordedCalls;
+            if (failureRate >= settings.getFailureRateThreshold()
+                    || slowCallRate >= settings.getSlowCallRateThreshold()) {
+                log.warn("Circuit breaker {} tripped: failureRate={}%, slowCallRate={}% over {} calls",
+                        name, failureRate, slowCallRate, recordedCalls);
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void transitionTo(State newState) {
+        log.info("Circuit breaker {} changed state from {} to {}", name, state, newState);
+        state = newState;
+        halfOpenPermitsIssued = 0;
+        halfOpenSuccesses = 0;
+
+        if (newState == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+        if (newState == State.CLOSED) {
+            windowIndex = 0;
+            recordedCalls = 0;
+            failureCount = 0;
+            slowCount = 0;
+        }
+    }
+}
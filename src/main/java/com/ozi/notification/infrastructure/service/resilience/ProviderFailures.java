@@ -0,0 +1,39 @@
+package com.ozi.notification.infrastructure.service.resilience;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Classifies send failures into provider outages and request-level rejections.
+ */
+public final class ProviderFailures {
+
+    private ProviderFailures() {
+    }
+
+    /**
+     * Returns true if the failure indicates the provider itself is unhealthy:
+     * connection errors, timeouts, 5xx responses and throttling (429).
+     * Provider-side rejections of a single payload (other 4xx, error bodies) return false.
+     */
+    public static boolean isProviderFailure(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof WebClientResponseException responseException) {
+                int status = responseException.getStatusCode().value();
+                return status >= 500 || status == 429;
+            }
+            if (t instanceof WebClientRequestException
+                    || t instanceof TimeoutException
+                    || t instanceof IOException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+}
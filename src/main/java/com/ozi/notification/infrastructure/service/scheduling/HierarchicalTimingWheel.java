@@ -0,0 +1,162 @@
+package com.ozi.notification.infrastructure.service.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel holding tasks by deadline (epoch millis).
+ *
+ * Level 0 has {@code wheelSize} slots of {@code tickMillis}; each higher level has slots as
+ * wide as the whole level below it and is created only when a deadline falls beyond the
+ * levels that exist. Adding a task and expiring a slot are O(1); tasks in higher levels are
+ * cascaded down one level whenever the clock enters their slot. Tasks fire on the first
+ * tick at or after their deadline, so they are late by at most one tick and never early.
+ *
+ * Not thread safe on its own; callers synchronize access.
+ */
+final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private int size;
+
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        levels.add(new Level<>(tickMillis, wheelSize, startMillis - Math.floorMod(startMillis, tickMillis)));
+    }
+
+    /**
+     * Adds a task. Returns false without adding it if its deadline has already been reached.
+     */
+    boolean add(long deadlineMillis, T task) {
+        if (!place(new Entry<>(deadlineMillis, task))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Advances the clock to the given time, passing every task whose deadline has been reached to the consumer.
+     */
+    void advanceTo(long nowMillis, Consumer<T> expired) {
+        Level<T> root = levels.get(0);
+        while (root.currentTime + tickMillis <= nowMillis) {
+            // Every deadline in the current slot is now in the past
+            List<Entry<T>> due = root.drain(root.currentTime);
+            root.currentTime += tickMillis;
+            if (due != null) {
+                for (Entry<T> entry : due) {
+                    size--;
+                    expired.accept(entry.task);
+                }
+            }
+            cascade(root.currentTime, expired);
+        }
+    }
+
+    /**
+     * Number of tasks held in the wheel.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Time up to which the wheel has been advanced.
+     */
+    long currentTime() {
+        return levels.get(0).currentTime;
+    }
+
+    private void cascade(long rootTime, Consumer<T> expired) {
+        for (int i = 1; i < levels.size(); i++) {
+            Level<T> level = levels.get(i);
+            long levelTime = rootTime - Math.floorMod(rootTime, level.tickMillis);
+            if (levelTime == level.currentTime) {
+                // Higher levels only move when this one does
+                return;
+            }
+            level.currentTime = levelTime;
+            List<Entry<T>> moved = level.drain(levelTime);
+            if (moved != null) {
+                for (Entry<T> entry : moved) {
+                    if (!place(entry)) {
+                        size--;
+                        expired.accept(entry.task);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean place(Entry<T> entry) {
+        Level<T> root = levels.get(0);
+        if (entry.deadline < root.currentTime) {
+            return false;
+        }
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level<T> below = levels.get(i - 1);
+                long tick = below.tickMillis * wheelSize;
+                levels.add(new Level<>(tick, wheelSize, root.currentTime - Math.floorMod(root.currentTime, tick)));
+            }
+            Level<T> level = levels.get(i);
+            if (entry.deadline < level.currentTime + level.intervalMillis) {
+                level.add(entry);
+                return true;
+            }
+        }
+    }
+
+    private static final class Level<T> {
+
+        private final long tickMillis;
+        private final long intervalMillis;
+        private final List<Entry<T>>[] slots;
+        private long currentTime;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tickMillis, int wheelSize, long currentTime) {
+            this.tickMillis = tickMillis;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.slots = new List[wheelSize];
+            this.currentTime = currentTime;
+        }
+
+        private void add(Entry<T> entry) {
+            int index = slotIndex(entry.deadline);
+            if (slots[index] == null) {
+                slots[index] = new ArrayList<>();
+            }
+            slots[index].add(entry);
+        }
+
+        private List<Entry<T>> drain(long slotTime) {
+            int index = slotIndex(slotTime);
+            List<Entry<T>> entries = slots[index];
+            slots[index] = null;
+            return entries;
+        }
+
+        private int slotIndex(long time) {
+            return (int) Math.floorMod(Math.floorDiv(time, tickMillis), (long) slots.length);
+        }
+    }
+
+    private static final class Entry<T> {
+        private final long deadline;
+        private final T task;
+
+        private Entry(long deadline, T task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+    }
+}
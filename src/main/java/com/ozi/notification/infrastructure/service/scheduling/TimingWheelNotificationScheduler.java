@@ -0,0 +1,297 @@
+package com.ozi.notification.infrastructure.service.scheduling;
+
+import com.ozi.notification.domain.*;
+import com.ozi.notification.infrastructure.config.SchedulingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fires scheduled notifications from an in-memory hierarchical timing wheel.
+ *
+ * Pending schedules due within the load window are loaded from scheduled_notifications
+ * every load interval, so the database is read once per interval instead of being polled
+ * at the firing resolution. Loads run on their own thread and hand the loaded rows to the
+ * timer thread, so a slow query never delays the ticks. Schedules created through the API
+ * inside the current window are added to the wheel directly. Every instance may load the
+ * same rows; a fired entry is only sent by the instance that claims it (PENDING to
+ * PROCESSING) under a processing lease, so each schedule is sent once across the cluster
+ * and a claim left by a stopped instance is returned to PENDING by the lease reaper.
+ * Recipients who opted out of the channel are skipped when the entry fires; their
+ * preferences are bulk-loaded with each window.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TimingWheelNotificationScheduler implements NotificationScheduler {
+
+    private final ScheduledNotificationRepository scheduledNotificationRepository;
+    private final NotificationServiceProvider notificationServiceProvider;
+    private final SchedulingProperties schedulingProperties;
+    private final UserPreferenceStore userPreferenceStore;
+    private final NotificationHistoryRecorder notificationHistoryRecorder;
+
+    /**
+     * Schedules currently held in the wheel, by ID, to skip rows loaded again by the next window
+     */
+    private final Set<String> loaded = ConcurrentHashMap.newKeySet();
+
+    private HierarchicalTimingWheel<String> wheel;
+    private ScheduledExecutorService timer;
+    private ScheduledExecutorService loader;
+    private ExecutorService dispatcher;
+
+    /**
+     * Epoch millis up to which pending schedules have been loaded
+     */
+    private volatile long loadedUntil;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!schedulingProperties.isEnabled()) {
+            log.info("Scheduled notification dispatch is disabled on this instance");
+            return;
+        }
+
+        wheel = new HierarchicalTimingWheel<>(
+                schedulingProperties.getTick().toMillis(), schedulingProperties.getWheelSize(), System.currentTimeMillis());
+
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "notification-scheduler-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loader = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "notification-scheduler-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger dispatcherThreads = new AtomicInteger();
+        dispatcher = Executors.newFixedThreadPool(schedulingProperties.getDispatchThreads(), r -> {
+            Thread thread = new Thread(r, "notification-scheduler-dispatch-" + dispatcherThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long tickMillis = schedulingProperties.getTick().toMillis();
+        timer.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        loader.scheduleWithFixedDelay(this::loadWindow, 0,
+                schedulingProperties.getLoadInterval().toMillis(), TimeUnit.MILLISECONDS);
+
+        log.info("Notification scheduler started: tick={}, wheelSize={}, loadWindow={}, loadInterval={}",
+                schedulingProperties.getTick(), schedulingProperties.getWheelSize(),
+                schedulingProperties.getLoadWindow(), schedulingProperties.getLoadInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (timer != null) {
+            log.info("Stopping notification scheduler with {} schedules in memory", loaded.size());
+            loader.shutdownNow();
+            timer.shutdownNow();
+            dispatcher.shutdown();
+        }
+    }
+
+    @Override
+    public void schedule(ScheduledNotification scheduledNotification) {
+        if (wheel == null) {
+            return;
+        }
+        long deadline = toEpochMillis(scheduledNotification.getScheduledTime());
+        // Later schedules are picked up by the load that covers their time
+        if (deadline < loadedUntil) {
+            add(scheduledNotification.getId(), deadline);
+        }
+    }
+
+    @Override
+    public void unschedule(String id) {
+        // The wheel entry stays until it fires and is then dropped; the claim fails for cancelled rows
+        loaded.remove(id);
+    }
+
+    /**
+     * Number of schedules held in memory on this instance.
+     */
+    public int getLoadedCount() {
+        return loaded.size();
+    }
+
+    private void advance() {
+        try {
+            synchronized (wheel) {
+                wheel.advanceTo(System.currentTimeMillis(), this::fire);
+            }
+        } catch (Exception e) {
+            log.error("Error advancing notification scheduler: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the next window on the loader thread and hands the rows to the timer thread.
+     */
+    private void loadWindow() {
+        try {
+            long now = System.currentTimeMillis();
+            long until = now + schedulingProperties.getLoadWindow().toMillis();
+            List<ScheduledNotification> upcoming = scheduledNotificationRepository.findPendingDueBefore(
+                    toLocalDateTime(until), schedulingProperties.getLoadBatchSize());
+
+            // Warm the preference cache for the whole window with bulk queries
+            userPreferenceStore.getAll(upcoming.stream().map(ScheduledNotification::getRecipient).toList());
+
+            long coveredUntil = until;
+            if (upcoming.size() >= schedulingProperties.getLoadBatchSize()) {
+                // Window truncated: only trust it up to the last loaded schedule
+                long lastLoaded = toEpochMillis(upcoming.get(upcoming.size() - 1).getScheduledTime());
+                coveredUntil = Math.max(now, lastLoaded);
+                log.warn("Scheduled notification load hit the batch size of {}; window covers until {}",
+                        schedulingProperties.getLoadBatchSize(), toLocalDateTime(coveredUntil));
+            }
+
+            long windowEnd = coveredUntil;
+            timer.execute(() -> addWindow(upcoming, windowEnd));
+        } catch (RejectedExecutionException e) {
+            log.debug("Scheduler is shutting down; discarding loaded window");
+        } catch (Exception e) {
+            log.error("Error loading scheduled notifications: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Adds a loaded window to the wheel, on the timer thread between ticks.
+     */
+    private void addWindow(List<ScheduledNotification> upcoming, long windowEnd) {
+        try {
+            int added = 0;
+            for (ScheduledNotification scheduledNotification : upcoming) {
+                if (add(scheduledNotification.getId(), toEpochMillis(scheduledNotification.getScheduledTime()))) {
+                    added++;
+                }
+            }
+            loadedUntil = windowEnd;
+
+            if (added > 0) {
+                log.info("Loaded {} scheduled notifications due before {}", added, toLocalDateTime(loadedUntil));
+            }
+        } catch (Exception e) {
+            log.error("Error adding loaded scheduled notifications: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean add(String id, long deadline) {
+        if (!loaded.add(id)) {
+            return false;
+        }
+        boolean inWheel;
+        synchronized (wheel) {
+            inWheel = wheel.add(deadline, id);
+        }
+        if (!inWheel) {
+            // Already due (overdue rows, or due before the next tick)
+            fire(id);
+        }
+        return true;
+    }
+
+    private void fire(String id) {
+        if (!loaded.remove(id)) {
+            // Unscheduled after it was added
+            return;
+        }
+        try {
+            dispatcher.execute(() -> dispatch(id));
+        } catch (RejectedExecutionException e) {
+            log.warn("Scheduler is shutting down; scheduled notification {} left pending", id);
+        }
+    }
+
+    private void dispatch(String id) {
+        if (!scheduledNotificationRepository.claim(id)) {
+            // Sent or claimed by another instance, or cancelled
+            return;
+        }
+
+        ScheduledNotification scheduledNotification = scheduledNotificationRepository.findById(id).orElse(null);
+        if (scheduledNotification == null) {
+            return;
+        }
+
+        if (!userPreferenceStore.get(scheduledNotification.getRecipient()).isChannelEnabled(scheduledNotification.getType())) {
+            log.info("Skipping scheduled notification {}: recipient {} opted out of {}",
+                    id, scheduledNotification.getRecipient(), scheduledNotification.getType());
+            scheduledNotificationRepository.markAsSkipped(id,
+                    "Recipient opted out of " + scheduledNotification.getType() + " notifications");
+            return;
+        }
+
+        try {
+            Notification sent = notificationServiceProvider.sendNotification(scheduledNotification.toNotification());
+            scheduledNotificationRepository.markAsSent(id);
+            notificationHistoryRecorder.record(NotificationHistoryEntry.fromNotification(sent).toBuilder()
+                    .notificationId(null)
+                    .scheduledNotificationId(id)
+                    .sku(scheduledNotification.getSku())
+                    .build());
+            log.info("Sent scheduled notification {} of type {} to recipient {}",
+                    id, scheduledNotification.getType(), scheduledNotification.getRecipient());
+
+        } catch (ProviderUnavailableException e) {
+            // Provider circuit open: try again later without using up an attempt
+            retry(scheduledNotification, e.getMessage(), false);
+
+        } catch (NotificationException e) {
+            int attempts = scheduledNotification.getRetryCount() + 1;
+            if (attempts >= schedulingProperties.getMaxAttempts()) {
+                log.error("Scheduled notification {} failed after {} attempts: {}", id, attempts, e.getMessage());
+                scheduledNotificationRepository.markAsFailed(id, e.getMessage());
+            } else {
+                retry(scheduledNotification, e.getMessage(), true);
+            }
+
+        } catch (Exception e) {
+            log.error("Unexpected error sending scheduled notification {}: {}", id, e.getMessage(), e);
+            scheduledNotificationRepository.markAsFailed(id, "Unexpected error: " + e.getMessage());
+        }
+    }
+
+    private void retry(ScheduledNotification scheduledNotification, String errorMessage, boolean countAttempt) {
+        int attempt = scheduledNotification.getRetryCount() + 1;
+        long delay = schedulingProperties.getRetryBackoff().toMillis() * attempt;
+        long nextAttempt = System.currentTimeMillis() + delay;
+
+        log.warn("Scheduled notification {} attempt failed, retrying at {}: {}",
+                scheduledNotification.getId(), toLocalDateTime(nextAttempt), errorMessage);
+
+        if (scheduledNotificationRepository.reschedule(
+                scheduledNotification.getId(), toLocalDateTime(nextAttempt), errorMessage, countAttempt)
+                && nextAttempt < loadedUntil) {
+            add(scheduledNotification.getId(), nextAttempt);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
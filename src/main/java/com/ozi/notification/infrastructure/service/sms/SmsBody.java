@@ -0,0 +1,93 @@
+package com.ozi.notification.infrastructure.service.sms;
+
+import lombok.Value;
+
+/**
+ * Text of an SMS with the encoding and number of segments it needs.
+ *
+ * Text made only of GSM 03.38 characters is sent as GSM-7 (160 septets in a single
+ * segment, 153 per segment once concatenated; extension characters such as the euro sign or '{'
+ * take two septets). Anything else is sent as UCS-2 (70 UTF-16 units in a single segment,
+ * 67 per segment once concatenated).
+ */
+@Value
+class SmsBody {
+
+    /**
+     * GSM 03.38 basic character set (the escape code is left out, it only prefixes extension characters)
+     */
+    private static final String GSM7_BASIC =
+            "@\u00A3$\u00A5\u00E8\u00E9\u00F9\u00EC\u00F2\u00C7\n\u00D8\u00F8\r\u00C5\u00E5\u0394_\u03A6\u0393\u039B\u03A9\u03A0\u03A8\u03A3\u0398\u039E\u00C6\u00E6\u00DF\u00C9"
+            + " !\"#\u00A4%&'()*+,-./0123456789:;<=>?"
+            + "\u00A1ABCDEFGHIJKLMNOPQRSTUVWXYZ\u00C4\u00D6\u00D1\u00DC\u00A7\u00BFabcdefghijklmnopqrstuvwxyz\u00E4\u00F6\u00F1\u00FC\u00E0";
+
+    /**
+     * GSM 03.38 extension characters, sent as an escape code followed by the character
+     */
+    private static final String GSM7_EXTENSION = "\f^{}\\[~]|\u20AC";
+
+    /**
+     * Septets per character indexed by char, 0 for characters outside the GSM-7 alphabet
+     */
+    private static final byte[] SEPTETS = septetTable();
+
+    private static final int GSM7_SINGLE = 160;
+    private static final int GSM7_CONCATENATED = 153;
+    private static final int UCS2_SINGLE = 70;
+    private static final int UCS2_CONCATENATED = 67;
+
+    enum Encoding {
+        GSM7,
+        UCS2
+    }
+
+    String text;
+
+    Encoding encoding;
+
+    /**
+     * Septets for GSM-7, UTF-16 code units for UCS-2
+     */
+    int units;
+
+    int segments;
+
+    /**
+     * Determines the encoding and segment count of the text.
+     */
+    static SmsBody of(String text) {
+        int septets = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int width = c < SEPTETS.length ? SEPTETS[c] : 0;
+            if (width == 0) {
+                int units = text.length();
+                return new SmsBody(text, Encoding.UCS2, units, segments(units, UCS2_SINGLE, UCS2_CONCATENATED));
+            }
+            septets += width;
+        }
+        return new SmsBody(text, Encoding.GSM7, septets, segments(septets, GSM7_SINGLE, GSM7_CONCATENATED));
+    }
+
+    private static byte[] septetTable() {
+        char max = 0;
+        for (char c : (GSM7_BASIC + GSM7_EXTENSION).toCharArray()) {
+            max = (char) Math.max(max, c);
+        }
+        byte[] table = new byte[max + 1];
+        for (char c : GSM7_BASIC.toCharArray()) {
+            table[c] = 1;
+        }
+        for (char c : GSM7_EXTENSION.toCharArray()) {
+            table[c] = 2;
+        }
+        return table;
+    }
+
+    private static int segments(int units, int single, int concatenated) {
+        if (units <= single) {
+            return 1;
+        }
+        return (units + concatenated - 1) / concatenated;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ozi.notification.infrastructure.service.sms;
+
+import com.ozi.notification.domain.Notification;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One bulk submission to the SMS gateway. Notifications with the same text are grouped
+ * so the encoding and segment count of each distinct text is worked out once.
+ */
+@Value
+class SmsBulkRequest {
+
+    String sender;
+
+    /**
+     * Distinct texts in the order they were first submitted
+     */
+    List<Message> messages;
+
+    @Value
+    static class Message {
+        SmsBody body;
+        List<Notification> notifications;
+    }
+
+    static SmsBulkRequest of(String sender, List<Notification> notifications) {
+        Map<String, List<Notification>> byText = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            byText.computeIfAbsent(messageText(notification), text -> new ArrayList<>()).add(notification);
+        }
+
+        List<Message> messages = new ArrayList<>(byText.size());
+        byText.forEach((text, recipients) -> messages.add(new Message(SmsBody.of(text), recipients)));
+        return new SmsBulkRequest(sender, messages);
+    }
+
+    /**
+     * Total number of segments billed for the request.
+     */
+    int totalSegments() {
+        int segments = 0;
+        for (Message message : messages) {
+            segments += message.getBody().getSegments() * message.getNotifications().size();
+        }
+        return segments;
+    }
+
+    /**
+     * Builds the SMS text: the message (or the title if there is none) and optional deep link.
+     */
+    static String messageText(Notification notification) {
+        String text = notification.getMessage() != null ? notification.getMessage() : notification.getTitle();
+        if (text == null) {
+            text = "";
+        }
+        if (notification.getDeepLink() != null && !notification.getDeepLink().isEmpty()) {
+            return text + "\n" + notification.getDeepLink();
+        }
+        return text;
+    }
+}
@@ -0,0 +1,171 @@
+package com.ozi.notification.infrastructure.service.sms;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozi.notification.domain.*;
+import com.ozi.notification.infrastructure.config.SmsProperties;
+import com.ozi.notification.infrastructure.service.payload.JsonBodies;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * SMS notification service implementation.
+ * Submits messages to the SMS gateway's bulk endpoint. Concurrent sends are combined
+ * into one bulk request of at most the maximum batch size by a {@link SmsSubmitBatcher}
+ * unless batching is disabled; the pending drain's parallel sends are combined this way.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SmsNotificationService implements NotificationService {
+
+    private final WebClient smsWebClient;
+    private final ObjectMapper objectMapper;
+    private final SmsProperties smsProperties;
+
+    private SmsSubmitBatcher batcher;
+
+    @PostConstruct
+    public void startBatcher() {
+        SmsProperties.Batching batching = smsProperties.getBatching();
+        if (batching.isEnabled()) {
+            log.info("SMS bulk submission enabled: linger={}, maxBatchSize={}",
+                    batching.getLinger(), batching.getMaxBatchSize());
+            batcher = new SmsSubmitBatcher(this::submit, batching.getLinger(), batching.getMaxBatchSize());
+        }
+    }
+
+    @PreDestroy
+    public void stopBatcher() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    @Override
+    public Notification sendNotification(Notification notification) throws NotificationException {
+        if (!canHandle(notification.getType())) {
+            throw new NotificationException(
+                "SMS service cannot handle notification type: " + notification.getType(),
+                notification.getId(),
+                notification.getType()
+            );
+        }
+
+        validateConfiguration(notification);
+
+        try {
+            log.info("Sending SMS to recipient: {}", notification.getRecipient());
+
+            SmsResponse.Result result = batcher != null
+                    ? await(batcher.submit(notification))
+                    : submit(List.of(notification))
+                            .map(response -> response.resultFor(notification.getId()))
+                            .block();
+
+            if (result == null) {
+                throw new NotificationException(
+                    "Empty SMS gateway response",
+                    notification.getId(),
+                    notification.getType()
+                );
+            }
+
+            if (!result.isAccepted()) {
+                String errorMsg = "SMS gateway rejected message: "
+                        + (result.getError() != null ? result.getError() : result.getStatus());
+                log.error(errorMsg);
+                throw new NotificationException(errorMsg, notification.getId(), notification.getType());
+            }
+
+            log.info("Successfully sent SMS: {} (gateway message ID {})", notification.getId(), result.getMessageId());
+            return notification.markAsSent();
+
+        } catch (Exception e) {
+            log.error("Failed to send SMS: {}", e.getMessage(), e);
+
+            if (e instanceof NotificationException notificationException) {
+                throw notificationException;
+            }
+
+            throw new NotificationException(
+                "Failed to send SMS: " + e.getMessage(),
+                notification.getId(),
+                notification.getType(),
+                e
+            );
+        }
+    }
+
+    /**
+     * Posts one bulk submit request for the given notifications.
+     */
+    private Mono<SmsResponse> submit(List<Notification> notifications) {
+        SmsBulkRequest request = SmsBulkRequest.of(smsProperties.getSenderId(), notifications);
+        String endpoint = smsProperties.getApiUrl() + "/messages/bulk";
+
+        if (log.isDebugEnabled()) {
+            log.debug("Submitting {} SMS ({} distinct texts, {} segments) to {} with payload: {}",
+                    notifications.size(), request.getMessages().size(), request.totalSegments(), endpoint,
+                    JsonBodies.toJson(objectMapper.getFactory(), SmsPayloadWriters.BULK_SUBMIT, request));
+        }
+
+        return smsWebClient.post()
+                .uri(endpoint)
+                .header("Authorization", "Bearer " + smsProperties.getApiKey())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(JsonBodies.inserter(objectMapper.getFactory(), SmsPayloadWriters.BULK_SUBMIT, request))
+                .retrieve()
+                .bodyToMono(DataBuffer.class)
+                .map(buffer -> SmsResponse.decode(objectMapper.getFactory(), buffer));
+    }
+
+    private void validateConfiguration(Notification notification) throws NotificationException {
+        if (smsProperties.getApiUrl() == null || smsProperties.getApiUrl().isEmpty()) {
+            throw new NotificationException(
+                "SMS gateway URL not configured",
+                notification.getId(),
+                NotificationType.SMS
+            );
+        }
+
+        if (smsProperties.getApiKey() == null || smsProperties.getApiKey().isEmpty()) {
+            throw new NotificationException(
+                "SMS gateway API key not configured",
+                notification.getId(),
+                NotificationType.SMS
+            );
+        }
+    }
+
+    /**
+     * Waits for a batched send. Completion is bounded by the batch linger and the
+     * SMS client's response timeout.
+     */
+    private static SmsResponse.Result await(CompletableFuture<SmsResponse.Result> result) throws Exception {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            // Surface the gateway failure itself so it is classified like an unbatched call
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean canHandle(NotificationType type) {
+        return type == NotificationType.SMS;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ozi.notification.infrastructure.service.sms;
+
+import com.ozi.notification.domain.Notification;
+import com.ozi.notification.infrastructure.service.payload.JsonPayloadWriter;
+
+/**
+ * Streaming JSON writers for SMS gateway request payloads.
+ */
+final class SmsPayloadWriters {
+
+    private SmsPayloadWriters() {
+    }
+
+    /**
+     * Bulk submit request:
+     * {"from":...,"messages":[{"text":...,"encoding":...,"segments":...,"destinations":[{"to":...,"reference":...}]}]}
+     * The notification ID is the reference the gateway reports each result under.
+     */
+    static final JsonPayloadWriter<SmsBulkRequest> BULK_SUBMIT = (generator, request) -> {
+        generator.writeStartObject();
+        if (request.getSender() != null) {
+            generator.writeStringField("from", request.getSender());
+        }
+
+        generator.writeArrayFieldStart("messages");
+        for (SmsBulkRequest.Message message : request.getMessages()) {
+            generator.writeStartObject();
+            generator.writeStringField("text", message.getBody().getText());
+            generator.writeStringField("encoding", message.getBody().getEncoding().name());
+            generator.writeNumberField("segments", message.getBody().getSegments());
+
+            generator.writeArrayFieldStart("destinations");
+            for (Notification notification : message.getNotifications()) {
+                generator.writeStartObject();
+                generator.writeStringField("to", notification.getRecipient());
+                generator.writeStringField("reference", notification.getId());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    };
+}
@@ -0,0 +1,144 @@
+package com.ozi.notification.infrastructure.service.sms;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.ozi.notification.infrastructure.service.payload.ResponseBodies;
+import lombok.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fields of an SMS gateway bulk submit response that decide the outcome of each message.
+ * Decoded directly from the response buffer; every other field is skipped.
+ */
+@Value
+class SmsResponse {
+
+    private static final Set<String> ACCEPTED_STATUSES = Set.of("ACCEPTED", "QUEUED", "SENT", "DELIVERED");
+
+    /**
+     * Request-level error (error or error.message); fails every message of the request
+     */
+    String error;
+
+    /**
+     * Per message results keyed by reference
+     */
+    Map<String, Result> results;
+
+    /**
+     * Truncated raw body, only captured when the response is not fully successful
+     */
+    String bodySnippet;
+
+    @Value
+    static class Result {
+        String status;
+        String messageId;
+        String error;
+
+        boolean isAccepted() {
+            return error == null && status != null && ACCEPTED_STATUSES.contains(status.toUpperCase());
+        }
+    }
+
+    /**
+     * Returns the outcome of the message submitted with the given reference. Messages the
+     * gateway reported nothing for count as failed, so no message is assumed sent.
+     */
+    Result resultFor(String reference) {
+        if (error != null) {
+            return new Result(null, null, error);
+        }
+        Result result = results.get(reference);
+        if (result == null) {
+            return new Result(null, null, "No result for message in SMS gateway response: " + bodySnippet);
+        }
+        return result;
+    }
+
+    /**
+     * Decodes the response and releases the buffer.
+     */
+    static SmsResponse decode(JsonFactory jsonFactory, DataBuffer buffer) {
+        int start = buffer.readPosition();
+        String error = null;
+        boolean errorPresent = false;
+        Map<String, Result> results = new HashMap<>();
+        boolean allAccepted = true;
+
+        try (JsonParser parser = jsonFactory.createParser(buffer.asInputStream())) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("error".equals(field) && value != JsonToken.VALUE_NULL) {
+                        errorPresent = true;
+                        error = value == JsonToken.START_OBJECT ? readErrorMessage(parser) : ResponseBodies.scalarText(parser);
+                    } else if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            String reference = null;
+                            String status = null;
+                            String messageId = null;
+                            String resultError = null;
+                            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                String resultField = parser.currentName();
+                                parser.nextToken();
+                                switch (resultField) {
+                                    case "reference" -> reference = ResponseBodies.scalarText(parser);
+                                    case "status" -> status = ResponseBodies.scalarText(parser);
+                                    case "messageId" -> messageId = ResponseBodies.scalarText(parser);
+                                    case "error" -> resultError = parser.currentToken() == JsonToken.VALUE_NULL
+                                            ? null : ResponseBodies.scalarText(parser);
+                                    default -> parser.skipChildren();
+                                }
+                            }
+                            if (reference != null) {
+                                Result result = new Result(status, messageId, resultError);
+                                allAccepted &= result.isAccepted();
+                                results.put(reference, result);
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Malformed body: keep what was read, the snippet shows the rest
+            allAccepted = false;
+        }
+
+        try {
+            boolean success = !errorPresent && allAccepted && !results.isEmpty();
+            String bodySnippet = success ? null : ResponseBodies.snippet(buffer, start);
+            if (errorPresent && error == null) {
+                error = bodySnippet;
+            }
+            return new SmsResponse(error, Collections.unmodifiableMap(results), bodySnippet);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static String readErrorMessage(JsonParser parser) throws IOException {
+        String message = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("message".equals(field)) {
+                message = ResponseBodies.scalarText(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return message;
+    }
+}
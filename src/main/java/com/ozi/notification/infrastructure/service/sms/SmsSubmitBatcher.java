@@ -0,0 +1,145 @@
+package com.ozi.notification.infrastructure.service.sms;
+
+import com.ozi.notification.domain.Notification;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Collects concurrent SMS sends and submits them as one bulk gateway request.
+ * A batch is submitted when it reaches the maximum size or when its first send has
+ * waited for the linger time. Each caller gets the result for its own message.
+ */
+@Slf4j
+final class SmsSubmitBatcher implements AutoCloseable {
+
+    private final Function<List<Notification>, Mono<SmsResponse>> sender;
+    private final Duration linger;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private List<PendingSend> pending;
+    private ScheduledFuture<?> lingerTask;
+    private boolean closed;
+
+    SmsSubmitBatcher(Function<List<Notification>, Mono<SmsResponse>> sender,
+                         Duration linger, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.sender = sender;
+        this.linger = linger;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sms-submit-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a notification for the next batch.
+     */
+    CompletableFuture<SmsResponse.Result> submit(Notification notification) {
+        PendingSend send = new PendingSend(notification, new CompletableFuture<>());
+        List<PendingSend> fullBatch = null;
+
+        synchronized (lock) {
+            if (closed) {
+                send.getResult().completeExceptionally(new IllegalStateException("SMS submit batcher is closed"));
+                return send.getResult();
+            }
+            if (pending == null) {
+                pending = new ArrayList<>(maxBatchSize);
+            }
+            pending.add(send);
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = drain();
+            } else if (pending.size() == 1) {
+                lingerTask = scheduler.schedule(this::flushLingering, linger.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return send.getResult();
+    }
+
+    /**
+     * Sends whatever is queued and stops accepting new sends.
+     */
+    @Override
+    public void close() {
+        List<PendingSend> batch;
+        synchronized (lock) {
+            closed = true;
+            batch = pending != null ? drain() : null;
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+        scheduler.shutdown();
+    }
+
+    private void flushLingering() {
+        List<PendingSend> batch;
+        synchronized (lock) {
+            batch = pending != null ? drain() : null;
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+    }
+
+    private List<PendingSend> drain() {
+        List<PendingSend> batch = pending;
+        pending = null;
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+            lingerTask = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<PendingSend> batch) {
+        List<Notification> notifications = new ArrayList<>(batch.size());
+        for (PendingSend send : batch) {
+            notifications.add(send.getNotification());
+        }
+        log.debug("Submitting SMS batch of {} messages", batch.size());
+
+        Mono<SmsResponse> call;
+        try {
+            call = sender.apply(notifications);
+        } catch (RuntimeException e) {
+            batch.forEach(send -> send.getResult().completeExceptionally(e));
+            return;
+        }
+
+        call.subscribe(
+                response -> batch.forEach(send ->
+                        send.getResult().complete(response.resultFor(send.getNotification().getId()))),
+                error -> batch.forEach(send -> send.getResult().completeExceptionally(error)),
+                // Empty response body: no message can be assumed sent
+                () -> batch.forEach(send -> send.getResult().complete(
+                        new SmsResponse.Result(null, null, "Empty SMS gateway response"))));
+    }
+
+    @Value
+    private static class PendingSend {
+        Notification notification;
+        CompletableFuture<SmsResponse.Result> result;
+    }
+}
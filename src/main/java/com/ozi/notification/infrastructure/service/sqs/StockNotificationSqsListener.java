@@ -3,6 +3,7 @@ package com.ozi.notification.infrastructure.service.sqs;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ozi.notification.domain.StockNotificationEvent;
+import com.ozi.notification.domain.PipelineMetrics;
 import com.ozi.notification.domain.StockNotificationEventRepository;
 import com.ozi.notification.infrastructure.config.AwsSqsProperties;
 import jakarta.annotation.PostConstruct;
@@ -24,6 +25,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 /**
  * SQS listener service for stock notification events.
  * Polls messages from the SQS FIFO queue and stores them in the database.
+ * Receiving, parsing, persisting and deleting are timed as stages of the SQS pipeline.
  */
 @Service
 @RequiredArgsConstructor
@@ -36,6 +38,7 @@ public class StockNotificationSqsListener {
     private final ObjectMapper objectMapper;
     private final StockNotificationEventRepository eventRepository;
     private final AwsSqsProperties sqsProperties;
+    private final PipelineMetrics pipelineMetrics;
 
     private final AtomicBoolean running = new AtomicBoolean(false);
     private ExecutorService executorService;
@@ -87,8 +90,17 @@ public class StockNotificationSqsListener {
                         .messageAttributeNames("All")
                         .build();
 
-                ReceiveMessageResponse response = sqsClient.receiveMessage(receiveRequest);
+                PipelineMetrics.StageTimer receiveTimer = pipelineMetrics.start(PipelineMetrics.SQS, "receive");
+                ReceiveMessageResponse response;
+                try {
+                    response = sqsClient.receiveMessage(receiveRequest);
+                } catch (RuntimeException e) {
+                    receiveTimer.stop(e);
+                    throw e;
+                }
                 List<Message> messages = response.messages();
+                receiveTimer.stop(messages.isEmpty() ? "empty" : PipelineMetrics.SUCCESS);
+                pipelineMetrics.count(PipelineMetrics.SQS, "receive", "received", messages.size());
 
                 if (messages.isEmpty()) {
                     log.debug("No messages received from SQS queue");
@@ -120,74 +132,102 @@ public class StockNotificationSqsListener {
     private void processMessage(Message message, String queueUrl) {
         log.debug("Processing SQS message: {}", message.messageId());
 
+        PipelineMetrics.StageTimer parseTimer = pipelineMetrics.start(PipelineMetrics.SQS, "parse");
+        StockNotificationEvent event;
         try {
-            // Parse the message body
-            Map<String, Object> payload = objectMapper.readValue(
-                    message.body(),
-                    new TypeReference<Map<String, Object>>() {}
-            );
-
-            // Extract fields from payload
-            String userId = getStringValue(payload, "userId");
-            String guestId = getStringValue(payload, "guestId");
-            Long itemId = getLongValue(payload, "itemId");
-            String sku = getStringValue(payload, "skuid");
-            String screen = getStringValue(payload, "screen");
-            String sourceType = getStringValue(payload, "sourceType");
-            String sourceName = getStringValue(payload, "sourceName");
-
-            // Validate required fields
-            if ((userId == null || userId.isBlank()) && (guestId == null || guestId.isBlank())) {
-                log.warn("Message {} has no userId or guestId, skipping", message.messageId());
-                deleteMessage(message, queueUrl);
-                return;
-            }
-
-            if (itemId == null || sku == null || sku.isBlank()) {
-                log.warn("Message {} has missing itemId or sku, skipping", message.messageId());
-                deleteMessage(message, queueUrl);
-                return;
-            }
+            event = parse(message);
+        } catch (Exception e) {
+            parseTimer.stop(e);
+            log.error("Failed to process message {}: {}", message.messageId(), e.getMessage(), e);
+            // Don't delete the message - it will become visible again after visibility timeout
+            return;
+        }
 
-            // Use userId as primary, fallback to guestId
-            String effectiveUserId = (userId != null && !userId.isBlank()) ? userId : guestId;
-
-            // Create domain event
-            StockNotificationEvent event = StockNotificationEvent.create(
-                    message.messageId(),
-                    message.attributes().get(MessageSystemAttributeName.MESSAGE_GROUP_ID),
-                    effectiveUserId,
-                    guestId,
-                    itemId,
-                    sku,
-                    screen,
-                    sourceType,
-                    sourceName,
-                    payload
-            );
+        if (event == null) {
+            parseTimer.stop("invalid");
+            deleteMessage(message, queueUrl);
+            return;
+        }
+        parseTimer.stop(PipelineMetrics.SUCCESS);
 
+        PipelineMetrics.StageTimer persistTimer = pipelineMetrics.start(PipelineMetrics.SQS, "persist");
+        try {
             // Save to database
             eventRepository.save(event);
-            log.info("Saved stock notification event: id={}, userId={}, sku={}", event.getId(), effectiveUserId, sku);
-
-            // Delete message from queue after successful processing
-            deleteMessage(message, queueUrl);
-
+            persistTimer.stop(PipelineMetrics.SUCCESS);
+            log.info("Saved stock notification event: id={}, userId={}, sku={}",
+                    event.getId(), event.getUserId(), event.getSku());
         } catch (Exception e) {
+            persistTimer.stop(e);
             log.error("Failed to process message {}: {}", message.messageId(), e.getMessage(), e);
             // Don't delete the message - it will become visible again after visibility timeout
+            return;
+        }
+
+        // Delete message from queue after successful processing
+        deleteMessage(message, queueUrl);
+    }
+
+    /**
+     * Parses a message into a stock notification event, or returns null if required fields are missing.
+     */
+    private StockNotificationEvent parse(Message message) throws Exception {
+        // Parse the message body
+        Map<String, Object> payload = objectMapper.readValue(
+                message.body(),
+                new TypeReference<Map<String, Object>>() {}
+        );
+
+        // Extract fields from payload
+        String userId = getStringValue(payload, "userId");
+        String guestId = getStringValue(payload, "guestId");
+        Long itemId = getLongValue(payload, "itemId");
+        String sku = getStringValue(payload, "skuid");
+        String screen = getStringValue(payload, "screen");
+        String sourceType = getStringValue(payload, "sourceType");
+        String sourceName = getStringValue(payload, "sourceName");
+
+        // Validate required fields
+        if ((userId == null || userId.isBlank()) && (guestId == null || guestId.isBlank())) {
+            log.warn("Message {} has no userId or guestId, skipping", message.messageId());
+            return null;
         }
+
+        if (itemId == null || sku == null || sku.isBlank()) {
+            log.warn("Message {} has missing itemId or sku, skipping", message.messageId());
+            return null;
+        }
+
+        // Use userId as primary, fallback to guestId
+        String effectiveUserId = (userId != null && !userId.isBlank()) ? userId : guestId;
+
+        // Create domain event
+        return StockNotificationEvent.create(
+                message.messageId(),
+                message.attributes().get(MessageSystemAttributeName.MESSAGE_GROUP_ID),
+                effectiveUserId,
+                guestId,
+                itemId,
+                sku,
+                screen,
+                sourceType,
+                sourceName,
+                payload
+        );
     }
 
     private void deleteMessage(Message message, String queueUrl) {
+        PipelineMetrics.StageTimer timer = pipelineMetrics.start(PipelineMetrics.SQS, "delete");
         try {
             DeleteMessageRequest deleteRequest = DeleteMessageRequest.builder()
                     .queueUrl(queueUrl)
                     .receiptHandle(message.receiptHandle())
                     .build();
             sqsClient.deleteMessage(deleteRequest);
+            timer.stop(PipelineMetrics.SUCCESS);
             log.debug("Deleted message {} from SQS queue", message.messageId());
         } catch (Exception e) {
+            timer.stop(e);
             log.error("Failed to delete message {} from SQS queue: {}", message.messageId(), e.getMessage(), e);
         }
     }
@@ -1,18 +1,15 @@
 package com.ozi.notification.infrastructure.service.whatsapp;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ozi.notification.domain.*;
+import com.ozi.notification.infrastructure.service.payload.JsonBodies;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
-
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * WhatsApp notification service implementation.
@@ -27,7 +24,7 @@ import java.util.Map;
 @Slf4j
 public class WhatsAppNotificationService implements NotificationService {
 
-    private final WebClient webClient;
+    private final WebClient whatsAppWebClient;
     private final ObjectMapper objectMapper;
 
     @Value("${notification.whatsapp.api-url:#{null}}")
@@ -66,70 +63,47 @@ public class WhatsAppNotificationService implements NotificationService {
         try {
             log.info("Sending WhatsApp message to recipient: {}", notification.getRecipient());
 
-            // Prepare the message payload for WhatsApp Business API
-            // This structure may vary depending on the WhatsApp API provider
-            Map<String, Object> messagePayload = new HashMap<>();
-            messagePayload.put("to", notification.getRecipient());
-            messagePayload.put("type", "text");
-
-            Map<String, Object> textContent = new HashMap<>();
-            StringBuilder messageText = new StringBuilder();
-
-            if (notification.getTitle() != null && !notification.getTitle().isEmpty()) {
-                messageText.append("*").append(notification.getTitle()).append("*\n\n");
-            }
-
-            messageText.append(notification.getMessage());
-
-            // Add deep link if provided
-            if (notification.getDeepLink() != null && !notification.getDeepLink().isEmpty()) {
-                messageText.append("\n\n").append(notification.getDeepLink());
-            }
-
-            textContent.put("body", messageText.toString());
-            messagePayload.put("text", textContent);
-
-            // Add custom data as metadata if needed
-            if (notification.getData() != null && !notification.getData().isEmpty()) {
-                // Some APIs allow custom data, this depends on the provider
-                messagePayload.put("custom_data", notification.getData());
+            if (log.isDebugEnabled()) {
+                log.debug("Sending WhatsApp message payload: {}",
+                        JsonBodies.toJson(objectMapper.getFactory(), WhatsAppPayloadWriters.TEXT_MESSAGE, notification));
             }
 
-            log.debug("Sending WhatsApp message payload: {}", objectMapper.writeValueAsString(messagePayload));
-
             // Send the request (this is a placeholder - actual implementation depends on the WhatsApp API)
-            Mono<String> responseMono = webClient.post()
+            WhatsAppResponse response = whatsAppWebClient.post()
                     .uri(apiUrl + "/messages")
                     .header("Authorization", "Bearer " + apiKey)
                     .header("Content-Type", "application/json")
-                    .bodyValue(messagePayload)
+                    .body(JsonBodies.inserter(objectMapper.getFactory(), WhatsAppPayloadWriters.TEXT_MESSAGE, notification))
                     .retrieve()
-                    .bodyToMono(String.class);
+                    .bodyToMono(DataBuffer.class)
+                    .map(buffer -> WhatsAppResponse.decode(objectMapper.getFactory(), buffer))
+                    .block();
+            log.debug("WhatsApp API response: {}", response);
 
-            String responseBody = responseMono.block();
-            log.debug("WhatsApp API response: {}", responseBody);
-
-            // Parse response (structure depends on the API provider)
-            JsonNode responseJson = objectMapper.readTree(responseBody);
+            if (response == null) {
+                throw new NotificationException(
+                    "Empty WhatsApp API response",
+                    notification.getId(),
+                    notification.getType()
+                );
+            }
 
             // Check for success (this logic depends on the actual API)
-            if (responseJson.has("error")) {
-                String errorMessage = responseJson.get("error").get("message").asText();
-                log.error("WhatsApp API error: {}", errorMessage);
+            if (response.getErrorMessage() != null) {
+                log.error("WhatsApp API error: {}", response.getErrorMessage());
                 throw new NotificationException(
-                    "WhatsApp API error: " + errorMessage,
+                    "WhatsApp API error: " + response.getErrorMessage(),
                     notification.getId(),
                     notification.getType()
                 );
             }
 
             // Check for message ID or success indicator
-            if (responseJson.has("messages") && responseJson.get("messages").isArray() &&
-                responseJson.get("messages").size() > 0) {
+            if (response.isSuccess()) {
                 log.info("Successfully sent WhatsApp message: {}", notification.getId());
                 return notification.markAsSent();
             } else {
-                String errorMsg = "Invalid WhatsApp API response: " + responseBody;
+                String errorMsg = "Invalid WhatsApp API response: " + response.getBodySnippet();
                 log.error(errorMsg);
                 throw new NotificationException(errorMsg, notification.getId(), notification.getType());
             }
@@ -0,0 +1,60 @@
+package com.ozi.notification.infrastructure.service.whatsapp;
+
+import com.ozi.notification.domain.Notification;
+import com.ozi.notification.infrastructure.service.payload.JsonPayloadWriter;
+
+import java.util.Map;
+
+/**
+ * Streaming JSON writers for WhatsApp Business API request payloads.
+ */
+final class WhatsAppPayloadWriters {
+
+    private WhatsAppPayloadWriters() {
+    }
+
+    /**
+     * Text message request: {"to":...,"type":"text","text":{"body":...},"custom_data":{...}}
+     */
+    static final JsonPayloadWriter<Notification> TEXT_MESSAGE = (generator, notification) -> {
+        generator.writeStartObject();
+        generator.writeStringField("to", notification.getRecipient());
+        generator.writeStringField("type", "text");
+
+        generator.writeObjectFieldStart("text");
+        generator.writeStringField("body", messageText(notification));
+        generator.writeEndObject();
+
+        // Some APIs allow custom data, this depends on the provider
+        Map<String, String> data = notification.getData();
+        if (data != null && !data.isEmpty()) {
+            generator.writeObjectFieldStart("custom_data");
+            for (Map.Entry<String, String> entry : data.entrySet()) {
+                generator.writeStringField(entry.getKey(), entry.getValue());
+            }
+            generator.writeEndObject();
+        }
+
+        generator.writeEndObject();
+    };
+
+    /**
+     * Builds the message body: bold title, message and optional deep link.
+     */
+    static String messageText(Notification notification) {
+        StringBuilder messageText = new StringBuilder(128);
+
+        if (notification.getTitle() != null && !notification.getTitle().isEmpty()) {
+            messageText.append('*').append(notification.getTitle()).append("*\n\n");
+        }
+
+        messageText.append(notification.getMessage());
+
+        // Add deep link if provided
+        if (notification.getDeepLink() != null && !notification.getDeepLink().isEmpty()) {
+            messageText.append("\n\n").append(notification.getDeepLink());
+        }
+
+        return messageText.toString();
+    }
+}
@@ -0,0 +1,97 @@
+package com.ozi.notification.infrastructure.service.whatsapp;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.ozi.notification.infrastructure.service.payload.ResponseBodies;
+import lombok.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+
+/**
+ * Fields of a WhatsApp Business API response that decide the outcome of a call.
+ * Decoded directly from the response buffer; every other field is skipped.
+ */
+@Value
+class WhatsAppResponse {
+
+    /**
+     * Value of error.message, or the body snippet for other error shapes
+     */
+    String errorMessage;
+
+    /**
+     * Number of entries in the messages array
+     */
+    int messageCount;
+
+    /**
+     * Truncated raw body, only captured when the response is not a success
+     */
+    String bodySnippet;
+
+    boolean isSuccess() {
+        return errorMessage == null && messageCount > 0;
+    }
+
+    /**
+     * Decodes the response and releases the buffer.
+     */
+    static WhatsAppResponse decode(JsonFactory jsonFactory, DataBuffer buffer) {
+        int start = buffer.readPosition();
+        String errorMessage = null;
+        boolean errorPresent = false;
+        int messageCount = 0;
+
+        try (JsonParser parser = jsonFactory.createParser(buffer.asInputStream())) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("error".equals(field)) {
+                        errorPresent = true;
+                        errorMessage = value == JsonToken.START_OBJECT
+                                ? readErrorMessage(parser)
+                                : ResponseBodies.scalarText(parser);
+                    } else if ("messages".equals(field) && value == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            parser.skipChildren();
+                            messageCount++;
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Malformed body: keep what was read, the snippet shows the rest
+        }
+
+        try {
+            boolean success = !errorPresent && messageCount > 0;
+            String bodySnippet = success ? null : ResponseBodies.snippet(buffer, start);
+            if (errorPresent && errorMessage == null) {
+                errorMessage = bodySnippet;
+            }
+            return new WhatsAppResponse(errorMessage, messageCount, bodySnippet);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static String readErrorMessage(JsonParser parser) throws IOException {
+        String message = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("message".equals(field)) {
+                message = ResponseBodies.scalarText(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return message;
+    }
+}
@@ -1,8 +1,16 @@
 package com.ozi.notification.presentation.controller;
 
+import com.ozi.notification.application.dto.BatchSendNotificationRequestDto;
+import com.ozi.notification.application.dto.BatchSendNotificationResponseDto;
+import com.ozi.notification.application.dto.CursorPageDto;
+import com.ozi.notification.application.dto.FailureCategoryDto;
 import com.ozi.notification.application.dto.NotificationDto;
+import com.ozi.notification.application.dto.NotificationSummaryDto;
 import com.ozi.notification.application.dto.SendNotificationRequestDto;
 import com.ozi.notification.application.dto.SendNotificationResponseDto;
+import com.ozi.notification.domain.CursorPage;
+import com.ozi.notification.domain.NotificationSummary;
+import com.ozi.notification.domain.PageCursor;
 import com.ozi.notification.domain.ProcessPendingNotificationsUseCase;
 import com.ozi.notification.domain.SendNotificationUseCase;
 import com.ozi.notification.domain.NotificationRepository;
@@ -31,6 +39,9 @@ import java.util.stream.Collectors;
 @Tag(name = "Notification API", description = "API for sending and managing notifications")
 public class NotificationController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final SendNotificationUseCase sendNotificationUseCase;
     private final ProcessPendingNotificationsUseCase processPendingNotificationsUseCase;
     private final NotificationRepository notificationRepository;
@@ -39,51 +50,28 @@ public class NotificationController {
      * Send a notification immediately.
      */
     @PostMapping("/send")
-    @Operation(summary = "Send a notification", description = "Send a notification immediately to the specified recipient")
+    @Operation(summary = "Send a notification", description = "Send a notification immediately to the specified recipient. "
+            + "Retries carrying the same Idempotency-Key header return the original result without sending again.")
     public ResponseEntity<SendNotificationResponseDto> sendNotification(
-            @Valid @RequestBody SendNotificationRequestDto request) {
+            @Valid @RequestBody SendNotificationRequestDto request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         log.info("Received send notification request for type: {} to recipient: {}",
                 request.getType(), request.getRecipient());
 
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            SendNotificationResponseDto errorResponse = SendNotificationResponseDto.builder()
+                    .status(NotificationStatus.FAILED)
+                    .errorMessage(IDEMPOTENCY_KEY_HEADER + " must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters")
+                    .success(false)
+                    .timestamp(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                    .build();
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
         try {
-            SendNotificationUseCase.SendNotificationRequest useCaseRequest =
-                new SendNotificationUseCase.SendNotificationRequest() {
-                    @Override
-                    public com.ozi.notification.domain.NotificationType getType() {
-                        return com.ozi.notification.domain.NotificationType.valueOf(request.getType().name());
-                    }
-
-                    @Override
-                    public String getRecipient() {
-                        return request.getRecipient();
-                    }
-
-                    @Override
-                    public String getTitle() {
-                        return request.getTitle();
-                    }
-
-                    @Override
-                    public String getMessage() {
-                        return request.getMessage();
-                    }
-
-                    @Override
-                    public java.util.Map<String, String> getData() {
-                        return request.getData();
-                    }
-
-                    @Override
-                    public String getDeepLink() {
-                        return request.getDeepLink();
-                    }
-
-                    @Override
-                    public com.ozi.notification.domain.NotificationPriority getPriority() {
-                        return com.ozi.notification.domain.NotificationPriority.valueOf(request.getPriority().name());
-                    }
-                };
+            SendNotificationUseCase.SendNotificationRequest useCaseRequest = toUseCaseRequest(request, idempotencyKey);
 
             SendNotificationUseCase.SendNotificationResult result = sendNotificationUseCase.execute(useCaseRequest);
 
@@ -95,7 +83,18 @@ public class NotificationController {
                     .timestamp(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                     .build();
 
-            HttpStatus status = result.isSuccess() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+            HttpStatus status;
+            if (result.isSuccess()) {
+                status = HttpStatus.OK;
+            } else if (result.getStatus() == NotificationStatus.SUPPRESSED) {
+                // Accepted but intentionally not delivered (recipient frequency cap)
+                status = HttpStatus.OK;
+            } else if (result.getStatus() == NotificationStatus.PENDING) {
+                // Provider temporarily unavailable; the notification is queued for retry
+                status = HttpStatus.ACCEPTED;
+            } else {
+                status = HttpStatus.BAD_REQUEST;
+            }
             return ResponseEntity.status(status).body(response);
 
         } catch (Exception e) {
@@ -112,6 +111,46 @@ public class NotificationController {
         }
     }
 
+    /**
+     * Send a batch of notifications.
+     */
+    @PostMapping("/send/batch")
+    @Operation(summary = "Send a batch of notifications", description = "Store up to "
+            + BatchSendNotificationRequestDto.MAX_BATCH_SIZE + " notifications with one bulk insert and send them. "
+            + "Results are returned in request order.")
+    public ResponseEntity<BatchSendNotificationResponseDto> sendNotifications(
+            @Valid @RequestBody BatchSendNotificationRequestDto request) {
+
+        log.info("Received batch send notification request for {} notifications", request.getNotifications().size());
+
+        List<SendNotificationUseCase.SendNotificationRequest> useCaseRequests = request.getNotifications()
+                .stream()
+                .map(notification -> toUseCaseRequest(notification, null))
+                .collect(Collectors.toList());
+
+        List<SendNotificationUseCase.SendNotificationResult> results = sendNotificationUseCase.executeAll(useCaseRequests);
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        List<SendNotificationResponseDto> responses = results.stream()
+                .map(result -> SendNotificationResponseDto.builder()
+                        .notificationId(result.getNotificationId())
+                        .status(result.getStatus())
+                        .errorMessage(result.getErrorMessage())
+                        .success(result.isSuccess())
+                        .timestamp(timestamp)
+                        .build())
+                .collect(Collectors.toList());
+
+        BatchSendNotificationResponseDto response = BatchSendNotificationResponseDto.builder()
+                .totalRequested(responses.size())
+                .totalSent((int) responses.stream().filter(SendNotificationResponseDto::isSuccess).count())
+                .results(responses)
+                .timestamp(timestamp)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get notification by ID.
      */
@@ -130,20 +169,27 @@ public class NotificationController {
      * Get notifications by status.
      */
     @GetMapping("/status/{status}")
-    @Operation(summary = "Get notifications by status", description = "Retrieve notifications filtered by status")
-    public ResponseEntity<List<NotificationDto>> getNotificationsByStatus(@PathVariable String status) {
+    @Operation(summary = "Get notifications by status", description = "Retrieve notifications filtered by status, newest first. "
+            + "Pass the returned nextCursor as cursor to fetch the next page.")
+    public ResponseEntity<CursorPageDto<NotificationSummaryDto>> getNotificationsByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageDto.DEFAULT_LIMIT) int limit) {
         log.info("Received get notifications by status request: {}", status);
 
+        if (limit < 1 || limit > CursorPageDto.MAX_LIMIT) {
+            log.warn("Invalid limit provided: {}", limit);
+            return ResponseEntity.badRequest().build();
+        }
+
         try {
             NotificationStatus notificationStatus = NotificationStatus.valueOf(status.toUpperCase());
-            List<NotificationDto> notifications = notificationRepository.findByStatus(notificationStatus)
-                    .stream()
-                    .map(NotificationDto::fromDomain)
-                    .collect(Collectors.toList());
+            CursorPage<NotificationSummary> page =
+                    notificationRepository.findSummariesByStatus(notificationStatus, PageCursor.decode(cursor), limit);
 
-            return ResponseEntity.ok(notifications);
+            return ResponseEntity.ok(CursorPageDto.fromDomain(page, NotificationSummaryDto::fromDomain));
         } catch (IllegalArgumentException e) {
-            log.warn("Invalid status provided: {}", status);
+            log.warn("Invalid status or cursor provided: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
         }
     }
@@ -152,23 +198,37 @@ public class NotificationController {
      * Get notifications by recipient.
      */
     @GetMapping("/recipient/{recipient}")
-    @Operation(summary = "Get notifications by recipient", description = "Retrieve notifications sent to a specific recipient")
-    public ResponseEntity<List<NotificationDto>> getNotificationsByRecipient(@PathVariable String recipient) {
+    @Operation(summary = "Get notifications by recipient", description = "Retrieve notifications sent to a specific recipient, "
+            + "newest first. Pass the returned nextCursor as cursor to fetch the next page.")
+    public ResponseEntity<CursorPageDto<NotificationSummaryDto>> getNotificationsByRecipient(
+            @PathVariable String recipient,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageDto.DEFAULT_LIMIT) int limit) {
         log.info("Received get notifications by recipient request: {}", recipient);
 
-        List<NotificationDto> notifications = notificationRepository.findByRecipient(recipient)
-                .stream()
-                .map(NotificationDto::fromDomain)
-                .collect(Collectors.toList());
+        if (limit < 1 || limit > CursorPageDto.MAX_LIMIT) {
+            log.warn("Invalid limit provided: {}", limit);
+            return ResponseEntity.badRequest().build();
+        }
 
-        return ResponseEntity.ok(notifications);
+        try {
+            CursorPage<NotificationSummary> page =
+                    notificationRepository.findSummariesByRecipient(recipient, PageCursor.decode(cursor), limit);
+
+            return ResponseEntity.ok(CursorPageDto.fromDomain(page, NotificationSummaryDto::fromDomain));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cursor provided: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
      * Process pending notifications.
      */
     @PostMapping("/process-pending")
-    @Operation(summary = "Process pending notifications", description = "Process all pending notifications in the queue")
+    @Operation(summary = "Process pending notifications", description = "Process all pending notifications in the queue. " +
+            "Failures are reported as counts per error class with a few samples each; " +
+            "list all failed notifications with GET /status/FAILED")
     public ResponseEntity<ProcessPendingNotificationsResponse> processPendingNotifications() {
         log.info("Received process pending notifications request");
 
@@ -180,8 +240,12 @@ public class NotificationController {
                     .totalProcessed(result.getTotalProcessed())
                     .totalSuccessful(result.getTotalSuccessful())
                     .totalFailed(result.getTotalFailed())
+                    .totalDeferred(result.getTotalDeferred())
                     .failedNotificationIds(result.getFailedNotificationIds())
                     .errorMessages(result.getErrorMessages())
+                    .failuresByCategory(result.getFailureCategories().stream()
+                            .map(FailureCategoryDto::fromDomain)
+                            .toList())
                     .timestamp(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                     .build();
 
@@ -202,6 +266,54 @@ public class NotificationController {
         }
     }
 
+    /**
+     * Adapts a request DTO to the use case request.
+     */
+    private static SendNotificationUseCase.SendNotificationRequest toUseCaseRequest(
+            SendNotificationRequestDto request, String idempotencyKey) {
+        return new SendNotificationUseCase.SendNotificationRequest() {
+            @Override
+            public com.ozi.notification.domain.NotificationType getType() {
+                return com.ozi.notification.domain.NotificationType.valueOf(request.getType().name());
+            }
+
+            @Override
+            public String getRecipient() {
+                return request.getRecipient();
+            }
+
+            @Override
+            public String getTitle() {
+                return request.getTitle();
+            }
+
+            @Override
+            public String getMessage() {
+                return request.getMessage();
+            }
+
+            @Override
+            public java.util.Map<String, String> getData() {
+                return request.getData();
+            }
+
+            @Override
+            public String getDeepLink() {
+                return request.getDeepLink();
+            }
+
+            @Override
+            public com.ozi.notification.domain.NotificationPriority getPriority() {
+                return com.ozi.notification.domain.NotificationPriority.valueOf(request.getPriority().name());
+            }
+
+            @Override
+            public String getIdempotencyKey() {
+                return idempotencyKey;
+            }
+        };
+    }
+
     /**
      * Response DTO for processing pending notifications.
      */
@@ -211,8 +323,10 @@ public class NotificationController {
         int totalProcessed;
         int totalSuccessful;
         int totalFailed;
+        int totalDeferred;
         List<String> failedNotificationIds;
         List<String> errorMessages;
+        List<FailureCategoryDto> failuresByCategory;
         String timestamp;
     }
 }
\ No newline at end of file
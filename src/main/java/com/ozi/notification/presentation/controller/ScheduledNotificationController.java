@@ -0,0 +1,128 @@
+package com.ozi.notification.presentation.controller;
+
+import com.ozi.notification.application.dto.ScheduleNotificationRequestDto;
+import com.ozi.notification.application.dto.ScheduledNotificationDto;
+import com.ozi.notification.domain.NotificationPriority;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.domain.ScheduleNotificationUseCase;
+import com.ozi.notification.domain.ScheduledNotification;
+import com.ozi.notification.domain.ScheduledNotificationRepository;
+import com.ozi.notification.domain.ScheduledNotificationStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * REST controller for scheduling notifications for future delivery.
+ */
+@RestController
+@RequestMapping("/api/v1/scheduled-notifications")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Scheduled Notification API", description = "API for scheduling notifications for a specific time")
+public class ScheduledNotificationController {
+
+    private final ScheduleNotificationUseCase scheduleNotificationUseCase;
+    private final ScheduledNotificationRepository scheduledNotificationRepository;
+
+    /**
+     * Schedule a notification.
+     */
+    @PostMapping
+    @Operation(summary = "Schedule a notification",
+            description = "Schedule a notification to be sent at the given time. Times in the past are sent immediately. "
+                    + "Without a time, the recipient's preferred local delivery time is used.")
+    public ResponseEntity<ScheduledNotificationDto> scheduleNotification(
+            @Valid @RequestBody ScheduleNotificationRequestDto request) {
+
+        log.info("Received schedule notification request for type: {} to recipient: {} at {}",
+                request.getType(), request.getRecipient(), request.getScheduledTime());
+
+        ScheduleNotificationUseCase.ScheduleNotificationRequest useCaseRequest =
+            new ScheduleNotificationUseCase.ScheduleNotificationRequest() {
+                @Override
+                public NotificationType getType() {
+                    return request.getType();
+                }
+
+                @Override
+                public String getRecipient() {
+                    return request.getRecipient();
+                }
+
+                @Override
+                public String getTitle() {
+                    return request.getTitle();
+                }
+
+                @Override
+                public String getMessage() {
+                    return request.getMessage();
+                }
+
+                @Override
+                public Map<String, String> getData() {
+                    return request.getData();
+                }
+
+                @Override
+                public String getDeepLink() {
+                    return request.getDeepLink();
+                }
+
+                @Override
+                public NotificationPriority getPriority() {
+                    return request.getPriority();
+                }
+
+                @Override
+                public LocalDateTime getScheduledTime() {
+                    return request.getScheduledTime();
+                }
+            };
+
+        ScheduledNotification scheduledNotification = scheduleNotificationUseCase.schedule(useCaseRequest);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ScheduledNotificationDto.fromDomain(scheduledNotification));
+    }
+
+    /**
+     * Get scheduled notification by ID.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get scheduled notification by ID", description = "Retrieve a scheduled notification and its delivery status")
+    public ResponseEntity<ScheduledNotificationDto> getScheduledNotification(@PathVariable String id) {
+        log.info("Received get scheduled notification request for ID: {}", id);
+
+        return scheduledNotificationRepository.findById(id)
+                .map(ScheduledNotificationDto::fromDomain)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Cancel a scheduled notification.
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Cancel a scheduled notification", description = "Cancel a scheduled notification that has not been sent yet")
+    public ResponseEntity<ScheduledNotificationDto> cancelScheduledNotification(@PathVariable String id) {
+        log.info("Received cancel scheduled notification request for ID: {}", id);
+
+        return scheduleNotificationUseCase.cancel(id)
+                .map(scheduledNotification -> {
+                    ScheduledNotificationDto body = ScheduledNotificationDto.fromDomain(scheduledNotification);
+                    // Already sent, failed or being sent: nothing was cancelled
+                    return scheduledNotification.getStatus() == ScheduledNotificationStatus.CANCELLED
+                            ? ResponseEntity.ok(body)
+                            : ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
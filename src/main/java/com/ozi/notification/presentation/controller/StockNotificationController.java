@@ -1,9 +1,14 @@
 package com.ozi.notification.presentation.controller;
 
+import com.ozi.notification.application.dto.CursorPageDto;
+import com.ozi.notification.application.dto.FailureCategoryDto;
+import com.ozi.notification.domain.CursorPage;
+import com.ozi.notification.domain.PageCursor;
 import com.ozi.notification.domain.ProcessStockNotificationsUseCase;
 import com.ozi.notification.domain.StockNotificationEvent;
 import com.ozi.notification.domain.StockNotificationEventRepository;
 import com.ozi.notification.domain.StockNotificationEventStatus;
+import com.ozi.notification.domain.StockNotificationEventSummary;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,7 +24,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * REST controller for stock notification operations.
@@ -36,13 +40,19 @@ public class StockNotificationController {
 
     /**
      * Process pending stock notification events and send to CleverTap.
-     * This endpoint should be called via cron at 10 AM IST daily.
+     * Users are notified at their preferred local push time (10 AM IST by default), so this
+     * endpoint should be called via cron at least hourly; each run sends the events whose
+     * slot has arrived and leaves the rest pending.
      */
     @PostMapping("/process")
     @Operation(
             summary = "Process stock notifications",
             description = "Process pending stock notification events for today and send to CleverTap. " +
-                    "Applies deduplication (one notification per user per SKU per day)."
+                    "Applies deduplication (one notification per user per SKU per day). " +
+                    "Events are sent at the user's first local push time after they were received, so events " +
+                    "from the previous day that were deferred past midnight are included; users who opted out are skipped. " +
+                    "Failures are reported as counts per error class with a few samples each; " +
+                    "list all failed events with GET /events/status/FAILED."
     )
     public ResponseEntity<ProcessStockNotificationsResponse> processStockNotifications(
             @Parameter(description = "Date to process (defaults to today). Format: yyyy-MM-dd")
@@ -64,8 +74,12 @@ public class StockNotificationController {
                     .totalSent(result.getTotalSent())
                     .totalFailed(result.getTotalFailed())
                     .totalSkipped(result.getTotalSkipped())
+                    .totalDeferred(result.getTotalDeferred())
                     .failedEventIds(result.getFailedEventIds())
                     .errorMessages(result.getErrorMessages())
+                    .failuresByCategory(result.getFailureCategories().stream()
+                            .map(FailureCategoryDto::fromDomain)
+                            .toList())
                     .timestamp(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                     .success(result.getTotalFailed() == 0)
                     .build();
@@ -82,6 +96,7 @@ public class StockNotificationController {
                     .totalSent(0)
                     .totalFailed(0)
                     .totalSkipped(0)
+                    .totalDeferred(0)
                     .errorMessages(List.of("Internal server error: " + e.getMessage()))
                     .timestamp(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                     .success(false)
@@ -97,23 +112,31 @@ public class StockNotificationController {
     @GetMapping("/events/status/{status}")
     @Operation(
             summary = "Get events by status",
-            description = "Retrieve stock notification events filtered by status"
+            description = "Retrieve stock notification events filtered by status, newest first. " +
+                    "Pass the returned nextCursor as cursor to fetch the next page."
     )
-    public ResponseEntity<List<StockNotificationEventDto>> getEventsByStatus(
-            @PathVariable String status
+    public ResponseEntity<CursorPageDto<StockNotificationEventSummaryDto>> getEventsByStatus(
+            @PathVariable String status,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, 1 to " + CursorPageDto.MAX_LIMIT)
+            @RequestParam(defaultValue = "" + CursorPageDto.DEFAULT_LIMIT) int limit
     ) {
         log.info("Received request to get stock notification events by status: {}", status);
 
+        if (limit < 1 || limit > CursorPageDto.MAX_LIMIT) {
+            log.warn("Invalid limit provided: {}", limit);
+            return ResponseEntity.badRequest().build();
+        }
+
         try {
             StockNotificationEventStatus eventStatus = StockNotificationEventStatus.valueOf(status.toUpperCase());
-            List<StockNotificationEventDto> events = eventRepository.findByStatus(eventStatus)
-                    .stream()
-                    .map(StockNotificationEventDto::fromDomain)
-                    .collect(Collectors.toList());
+            CursorPage<StockNotificationEventSummary> page =
+                    eventRepository.findSummariesByStatus(eventStatus, PageCursor.decode(cursor), limit);
 
-            return ResponseEntity.ok(events);
+            return ResponseEntity.ok(CursorPageDto.fromDomain(page, StockNotificationEventSummaryDto::fromDomain));
         } catch (IllegalArgumentException e) {
-            log.warn("Invalid status provided: {}", status);
+            log.warn("Invalid status or cursor provided: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
         }
     }
@@ -177,8 +200,10 @@ public class StockNotificationController {
         int totalSent;
         int totalFailed;
         int totalSkipped;
+        int totalDeferred;
         List<String> failedEventIds;
         List<String> errorMessages;
+        List<FailureCategoryDto> failuresByCategory;
         String timestamp;
         boolean success;
     }
@@ -240,4 +265,37 @@ public class StockNotificationController {
                     .build();
         }
     }
+
+    /**
+     * DTO for stock notification events in listings.
+     */
+    @Value
+    @Builder
+    public static class StockNotificationEventSummaryDto {
+        String id;
+        String userId;
+        Long itemId;
+        String sku;
+        String status;
+        String receivedAt;
+        String sentAt;
+        String errorMessage;
+        int retryCount;
+
+        public static StockNotificationEventSummaryDto fromDomain(StockNotificationEventSummary event) {
+            return StockNotificationEventSummaryDto.builder()
+                    .id(event.getId())
+                    .userId(event.getUserId())
+                    .itemId(event.getItemId())
+                    .sku(event.getSku())
+                    .status(event.getStatus().name())
+                    .receivedAt(event.getReceivedAt() != null ?
+                            event.getReceivedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null)
+                    .sentAt(event.getSentAt() != null ?
+                            event.getSentAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null)
+                    .errorMessage(event.getErrorMessage())
+                    .retryCount(event.getRetryCount())
+                    .build();
+        }
+    }
 }
@@ -0,0 +1,15 @@
+-- Migration V10: Leases on PROCESSING notifications and stock notification events
+-- processing_until is set in the same UPDATE that claims a row (PENDING to PROCESSING)
+-- and cleared when its outcome is written. A PROCESSING row whose lease has passed was
+-- claimed by an instance that stopped before finishing it; the lease reaper returns such
+-- rows to PENDING, or marks them FAILED once they have been returned too often.
+--
+-- The reaper reads status = 'PROCESSING' AND processing_until < ? through the existing
+-- status indexes; PROCESSING rows are few, so no index on processing_until is added.
+
+ALTER TABLE notifications
+    ADD COLUMN processing_until DATETIME(3) NULL COMMENT 'When the current claim expires; NULL unless PROCESSING' AFTER status,
+    ADD COLUMN retry_count INT NOT NULL DEFAULT 0 COMMENT 'Number of times an expired claim was returned to PENDING' AFTER processing_until;
+
+ALTER TABLE stock_notification_events
+    ADD COLUMN processing_until DATETIME(3) NULL COMMENT 'When the current claim expires; NULL unless PROCESSING' AFTER status;
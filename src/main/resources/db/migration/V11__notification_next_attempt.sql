@@ -0,0 +1,11 @@
+-- Migration V11: Not-before time for pending notifications
+-- A claimed notification that could not be sent because its provider is unavailable
+-- (e.g. circuit open) goes back to PENDING with next_attempt_at set, and claims skip it
+-- until then. Without it the deferred rows stay the oldest PENDING rows and are claimed
+-- again straight away, blocking notifications of other providers queued behind them.
+--
+-- Claims read status = 'PENDING' in created_at order through idx_notifications_status_created
+-- and filter on next_attempt_at; deferred rows are few, so no index is added.
+
+ALTER TABLE notifications
+    ADD COLUMN next_attempt_at DATETIME(3) NULL COMMENT 'Claims skip the row until then; NULL when it may be claimed' AFTER retry_count;
@@ -0,0 +1,8 @@
+-- Migration V12: Lease on PROCESSING scheduled notifications
+-- Like notifications and stock notification events (V10), a scheduled notification
+-- claimed by the scheduler gets processing_until in the claiming UPDATE, cleared when its
+-- outcome is written. The lease reaper returns rows whose lease has passed to PENDING;
+-- their scheduled time is already past, so the next load fires them straight away.
+
+ALTER TABLE scheduled_notifications
+    ADD COLUMN processing_until DATETIME(3) NULL COMMENT 'When the current claim expires; NULL unless PROCESSING' AFTER status;
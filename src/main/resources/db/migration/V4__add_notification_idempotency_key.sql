@@ -0,0 +1,7 @@
+-- Migration V4: Add idempotency key to notifications
+-- Stores the client supplied Idempotency-Key of POST /send. The unique index keeps
+-- retries racing on different instances from creating a second notification.
+
+ALTER TABLE notifications
+    ADD COLUMN idempotency_key VARCHAR(255) NULL COMMENT 'Idempotency-Key header of the originating request' AFTER metadata,
+    ADD UNIQUE INDEX uk_notifications_idempotency_key (idempotency_key);
@@ -0,0 +1,15 @@
+-- Migration V5: Prepare scheduled_notifications for the notification scheduler
+-- Schedules are created through the API for any recipient and channel, so the
+-- recipient is widened, the SKU becomes optional and the type follows notifications.type.
+
+ALTER TABLE scheduled_notifications
+    MODIFY COLUMN user_id VARCHAR(255) NOT NULL COMMENT 'Recipient to notify (user ID, phone number, etc.)',
+    MODIFY COLUMN sku VARCHAR(50) NULL COMMENT 'SKU for back-in-stock schedules',
+    MODIFY COLUMN notification_type VARCHAR(20) NOT NULL COMMENT 'Type of notification to send',
+    MODIFY COLUMN status VARCHAR(15) NOT NULL DEFAULT 'PENDING',
+    MODIFY COLUMN retry_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN priority VARCHAR(10) NOT NULL DEFAULT 'NORMAL' COMMENT 'Priority the notification is sent with' AFTER notification_type;
+
+-- The scheduler loads upcoming work with: status = 'PENDING' AND scheduled_time < ? ORDER BY scheduled_time
+ALTER TABLE scheduled_notifications
+    ADD INDEX idx_scheduled_status_time (status, scheduled_time);
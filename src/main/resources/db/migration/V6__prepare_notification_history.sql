@@ -0,0 +1,14 @@
+-- Migration V6: Prepare notification_history for recording every delivered notification
+-- History is appended for API sends, scheduled sends and stock notifications, so the
+-- recipient is widened, the SKU becomes optional and the type follows notifications.type.
+-- notification_id is BINARY(16), the type V7 gives notifications.id.
+
+ALTER TABLE notification_history
+    MODIFY COLUMN user_id VARCHAR(255) NOT NULL COMMENT 'Recipient of the notification (user ID, phone number, etc.)',
+    MODIFY COLUMN sku VARCHAR(50) NULL COMMENT 'SKU the notification was about, if any',
+    MODIFY COLUMN notification_type VARCHAR(20) NOT NULL COMMENT 'Type of notification sent',
+    ADD COLUMN notification_id BINARY(16) NULL COMMENT 'Reference to notifications table' AFTER notification_type;
+
+-- "What did user X receive" reads: user_id = ? ORDER BY sent_at DESC
+ALTER TABLE notification_history
+    ADD INDEX idx_history_user_sent_at (user_id, sent_at);
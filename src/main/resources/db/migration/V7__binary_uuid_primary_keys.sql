@@ -0,0 +1,35 @@
+-- Migration V7: Store notification and stock event IDs as BINARY(16)
+-- New IDs are time-ordered UUIDv7 values, so inserts append to the end of the clustered
+-- index instead of splitting random pages, and every secondary index carries a 16 byte
+-- key instead of a 36 character one. Existing IDs are converted in place; UUID_TO_BIN
+-- without the swap flag keeps the byte order Hibernate uses for UUIDs.
+
+-- ===================================================================
+-- 1. notifications
+-- ===================================================================
+
+ALTER TABLE notifications
+    ADD COLUMN id_bin BINARY(16) NULL FIRST;
+
+UPDATE notifications SET id_bin = UUID_TO_BIN(id);
+
+ALTER TABLE notifications
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
+
+-- ===================================================================
+-- 2. stock_notification_events
+-- ===================================================================
+
+ALTER TABLE stock_notification_events
+    ADD COLUMN id_bin BINARY(16) NULL FIRST;
+
+UPDATE stock_notification_events SET id_bin = UUID_TO_BIN(id);
+
+ALTER TABLE stock_notification_events
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
@@ -0,0 +1,18 @@
+-- Migration V8: Replace single-column notification indexes with composite ones
+-- The pending drain reads PENDING rows oldest first, and the status and recipient
+-- listings read newest first with a (created_at, id) cursor. With an index per column
+-- MySQL picks the status or recipient index and then sorts every match (filesort);
+-- leading with the equality column followed by (created_at, id) lets each of these
+-- queries read an index range in order and stop at its LIMIT.
+--
+-- The old single-column indexes are dropped: status and recipient are prefixes of the
+-- new indexes, and no query filters on created_at or type alone. Each of them was
+-- maintained on every insert and status update.
+
+ALTER TABLE notifications
+    ADD INDEX idx_notifications_status_created (status, created_at, id),
+    ADD INDEX idx_notifications_recipient_created (recipient, created_at, id),
+    DROP INDEX idx_notifications_status,
+    DROP INDEX idx_notifications_recipient,
+    DROP INDEX idx_notifications_created_at,
+    DROP INDEX idx_notifications_type;
@@ -0,0 +1,19 @@
+-- Migration V9: Outbox of notifications waiting to be dispatched
+-- A row is written in the same transaction that inserts a PENDING notification and is
+-- deleted in the transaction that moves the notification to a final status, so every
+-- pending notification has exactly one outbox row even if the instance that created it
+-- dies before sending. Dispatch workers on every instance claim due rows with
+-- SELECT ... FOR UPDATE SKIP LOCKED and push available_at forward while they send.
+--
+-- There is no foreign key to notifications: bulk inserts write the outbox rows in the
+-- same transaction, and acknowledging a row must not take locks on the notification.
+
+CREATE TABLE notification_outbox (
+    notification_id BINARY(16) NOT NULL PRIMARY KEY COMMENT 'Notification to dispatch',
+    available_at DATETIME(3) NOT NULL COMMENT 'When the row may next be claimed',
+    attempts INT NOT NULL DEFAULT 0 COMMENT 'Number of times the row has been claimed',
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+
+    -- Claims read: available_at <= ? ORDER BY available_at, notification_id
+    INDEX idx_outbox_available (available_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
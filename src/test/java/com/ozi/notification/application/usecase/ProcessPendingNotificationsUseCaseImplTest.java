@@ -0,0 +1,112 @@
+package com.ozi.notification.application.usecase;
+
+import com.ozi.notification.application.config.PendingProcessingProperties;
+import com.ozi.notification.domain.*;
+import com.ozi.notification.domain.ProcessPendingNotificationsUseCase.ProcessPendingNotificationsResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessPendingNotificationsUseCaseImplTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationServiceProvider notificationServiceProvider;
+
+    @Mock
+    private NotificationHistoryRecorder notificationHistoryRecorder;
+
+    private ProcessPendingNotificationsUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ProcessPendingNotificationsUseCaseImpl(notificationRepository, notificationServiceProvider,
+                notificationHistoryRecorder, new PendingProcessingProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.shutdown();
+    }
+
+    @Test
+    void shouldDrainClaimedBatchesAndWriteResultsBackPerBatch() throws NotificationException {
+        // Given
+        Notification first = claimed("user-1");
+        Notification second = claimed("user-2");
+        Notification third = claimed("user-3");
+        when(notificationRepository.claimPending(anyInt()))
+                .thenReturn(List.of(first, second), List.of(third), List.of());
+        when(notificationServiceProvider.sendNotification(any(Notification.class)))
+                .thenAnswer(invocation -> {
+                    Notification notification = invocation.getArgument(0);
+                    if (notification == second) {
+                        throw new NotificationException("rejected", notification.getId(), NotificationType.PUSH);
+                    }
+                    return notification.markAsSent();
+                });
+
+        // When
+        ProcessPendingNotificationsResult result = useCase.execute();
+
+        // Then
+        assertThat(result.getTotalProcessed()).isEqualTo(3);
+        assertThat(result.getTotalSuccessful()).isEqualTo(2);
+        assertThat(result.getTotalFailed()).isEqualTo(1);
+        assertThat(result.getFailedNotificationIds()).containsExactly(second.getId());
+        assertThat(result.getFailureCategories()).extracting(FailureSummary.Category::getErrorClass)
+                .containsExactly("NotificationException");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> batches = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository, times(2)).saveResults(batches.capture());
+        assertThat(batches.getAllValues().get(0)).extracting(Notification::getStatus)
+                .containsExactly(NotificationStatus.SENT, NotificationStatus.FAILED);
+        assertThat(batches.getAllValues().get(1)).extracting(Notification::getStatus)
+                .containsExactly(NotificationStatus.SENT);
+        verify(notificationHistoryRecorder, times(2)).record(any());
+    }
+
+    @Test
+    void shouldKeepDrainingPastNotificationsDeferredByAnUnavailableProvider() throws NotificationException {
+        // Given
+        Notification push = claimed("user-1");
+        Notification whatsApp = Notification.create(NotificationType.WHATSAPP, "+911234567890", "Title", "Message")
+                .markAsProcessing();
+        // Deferred rows are left out of later claims, so the next claim returns the rows behind them
+        when(notificationRepository.claimPending(anyInt()))
+                .thenReturn(List.of(push), List.of(whatsApp), List.of());
+        when(notificationServiceProvider.sendNotification(push)).thenThrow(
+                new ProviderUnavailableException("circuit open", push.getId(), NotificationType.PUSH));
+        when(notificationServiceProvider.sendNotification(whatsApp)).thenReturn(whatsApp.markAsSent());
+
+        // When
+        ProcessPendingNotificationsResult result = useCase.execute();
+
+        // Then
+        assertThat(result.getTotalDeferred()).isEqualTo(1);
+        assertThat(result.getTotalSuccessful()).isEqualTo(1);
+        verify(notificationRepository, times(3)).claimPending(anyInt());
+        verify(notificationRepository).saveResults(List.of(push.markAsPending("circuit open")));
+    }
+
+    private static Notification claimed(String recipient) {
+        return Notification.create(NotificationType.PUSH, recipient, "Title", "Message").markAsProcessing();
+    }
+}
@@ -0,0 +1,84 @@
+package com.ozi.notification.application.usecase;
+
+import com.ozi.notification.domain.*;
+import com.ozi.notification.domain.ProcessStockNotificationsUseCase.ProcessStockNotificationsResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessStockNotificationsUseCaseImplTest {
+
+    @Mock
+    private StockNotificationEventRepository eventRepository;
+
+    @Mock
+    private StockNotificationService stockNotificationService;
+
+    @Mock
+    private UserPreferenceStore userPreferenceStore;
+
+    @Mock
+    private NotificationHistoryRecorder notificationHistoryRecorder;
+
+    @Test
+    void shouldSendEventReceivedAfterTheSlotAtTheNextSlotPastMidnight() throws NotificationException {
+        // Given
+        LocalDate receivedDate = LocalDate.of(2026, 3, 9);
+        LocalDate nextDate = receivedDate.plusDays(1);
+        StockNotificationEvent event = StockNotificationEvent.builder()
+                .id("event-1")
+                .userId("user-1")
+                .sku("SKU-1")
+                .status(StockNotificationEventStatus.PENDING)
+                .receivedAt(receivedDate.atTime(23, 0))
+                .build();
+        UserNotificationPreferences preferences = UserNotificationPreferences.defaults("user-1").toBuilder()
+                .timezone(ZoneId.systemDefault())
+                .pushScheduleTime(LocalTime.of(10, 0))
+                .build();
+        when(userPreferenceStore.getAll(List.of("user-1"))).thenReturn(Map.of("user-1", preferences));
+        when(eventRepository.findDistinctPendingEventsBetween(receivedDate.minusDays(1), receivedDate))
+                .thenReturn(List.of(event));
+        when(eventRepository.findDistinctPendingEventsBetween(receivedDate, nextDate))
+                .thenReturn(List.of(event));
+        when(eventRepository.claim("event-1")).thenReturn(true);
+        when(stockNotificationService.sendStockNotification(event)).thenReturn(true);
+
+        AtomicReference<LocalDateTime> now = new AtomicReference<>(receivedDate.atTime(23, 30));
+        ProcessStockNotificationsUseCaseImpl useCase = new ProcessStockNotificationsUseCaseImpl(eventRepository,
+                stockNotificationService, userPreferenceStore, notificationHistoryRecorder,
+                PipelineMetrics.noop(), now::get);
+
+        // When
+        ProcessStockNotificationsResult sameNight = useCase.execute(receivedDate);
+        now.set(nextDate.atTime(10, 5));
+        ProcessStockNotificationsResult nextMorning = useCase.execute(nextDate);
+
+        // Then
+        assertThat(sameNight.getTotalDeferred()).isEqualTo(1);
+        assertThat(sameNight.getTotalSent()).isZero();
+        assertThat(nextMorning.getTotalDeferred()).isZero();
+        assertThat(nextMorning.getTotalSent()).isEqualTo(1);
+        verify(eventRepository).existsSentNotificationForUserSkuOnDate("user-1", "SKU-1", receivedDate);
+        verify(eventRepository).updateStatus("event-1", StockNotificationEventStatus.SENT);
+        verify(eventRepository).markDuplicatesAsSkipped("user-1", "SKU-1", receivedDate, "event-1");
+        verify(eventRepository, never()).updateStatusWithError(anyString(), any(), anyString());
+    }
+}
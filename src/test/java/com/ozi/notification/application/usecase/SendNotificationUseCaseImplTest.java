@@ -7,8 +7,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,11 +27,21 @@ class SendNotificationUseCaseImplTest {
     @Mock
     private NotificationServiceProvider notificationServiceProvider;
 
+    @Mock
+    private IdempotencyCache idempotencyCache;
+
+    @Mock
+    private FrequencyCap frequencyCap;
+
+    @Mock
+    private NotificationHistoryRecorder notificationHistoryRecorder;
+
     private SendNotificationUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new SendNotificationUseCaseImpl(notificationRepository, notificationServiceProvider);
+        useCase = new SendNotificationUseCaseImpl(notificationRepository, notificationServiceProvider, idempotencyCache, frequencyCap,
+                notificationHistoryRecorder, PipelineMetrics.noop());
     }
 
     @Test
@@ -39,6 +56,7 @@ class SendNotificationUseCaseImplTest {
 
         Notification sentNotification = savedNotification.markAsSent();
 
+        when(frequencyCap.tryAcquire(any(), any(), any())).thenReturn(true);
         when(notificationRepository.save(any(Notification.class))).thenReturn(savedNotification, sentNotification);
         when(notificationServiceProvider.sendNotification(any(Notification.class))).thenReturn(sentNotification);
 
@@ -87,6 +105,7 @@ class SendNotificationUseCaseImplTest {
         assertThat(result.getStatus()).isEqualTo(NotificationStatus.SENT);
         assertThat(result.getNotificationId()).isNotNull();
         assertThat(result.getErrorMessage()).isNull();
+        verify(notificationHistoryRecorder).record(any(NotificationHistoryEntry.class));
     }
 
     @Test
@@ -105,6 +124,7 @@ class SendNotificationUseCaseImplTest {
             NotificationType.PUSH
         );
 
+        when(frequencyCap.tryAcquire(any(), any(), any())).thenReturn(true);
         when(notificationRepository.save(any(Notification.class))).thenReturn(savedNotification);
         when(notificationServiceProvider.sendNotification(any(Notification.class))).thenThrow(exception);
 
@@ -153,4 +173,185 @@ class SendNotificationUseCaseImplTest {
         assertThat(result.getStatus()).isEqualTo(NotificationStatus.FAILED);
         assertThat(result.getErrorMessage()).isEqualTo("Failed to send notification");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReplayPersistedNotificationForRepeatedIdempotencyKey() throws NotificationException {
+        // Given
+        Notification sentNotification = Notification.create(
+            NotificationType.PUSH,
+            "user@example.com",
+            "Test Title",
+            "Test Message"
+        ).markAsSent();
+
+        when(idempotencyCache.get("key-1")).thenReturn(Optional.empty());
+        when(notificationRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.of(sentNotification));
+
+        SendNotificationUseCase.SendNotificationRequest request = new SendNotificationUseCase.SendNotificationRequest() {
+            @Override
+            public NotificationType getType() {
+                return NotificationType.PUSH;
+            }
+
+            @Override
+            public String getRecipient() {
+                return "user@example.com";
+            }
+
+            @Override
+            public String getTitle() {
+                return "Test Title";
+            }
+
+            @Override
+            public String getMessage() {
+                return "Test Message";
+            }
+
+            @Override
+            public java.util.Map<String, String> getData() {
+                return null;
+            }
+
+            @Override
+            public String getDeepLink() {
+                return null;
+            }
+
+            @Override
+            public NotificationPriority getPriority() {
+                return NotificationPriority.NORMAL;
+            }
+
+            @Override
+            public String getIdempotencyKey() {
+                return "key-1";
+            }
+        };
+
+        // When
+        SendNotificationUseCase.SendNotificationResult result = useCase.execute(request);
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getNotificationId()).isEqualTo(sentNotification.getId());
+        assertThat(result.getStatus()).isEqualTo(NotificationStatus.SENT);
+        verify(notificationServiceProvider, never()).sendNotification(any(Notification.class));
+        verify(notificationRepository, never()).save(any(Notification.class));
+    }
+
+    @Test
+    void shouldSuppressNotificationOverFrequencyCap() throws NotificationException {
+        // Given
+        when(frequencyCap.tryAcquire("user@example.com", NotificationType.PUSH, NotificationPriority.LOW)).thenReturn(false);
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        SendNotificationUseCase.SendNotificationRequest request = new SendNotificationUseCase.SendNotificationRequest() {
+            @Override
+            public NotificationType getType() {
+                return NotificationType.PUSH;
+            }
+
+            @Override
+            public String getRecipient() {
+                return "user@example.com";
+            }
+
+            @Override
+            public String getTitle() {
+                return "Test Title";
+            }
+
+            @Override
+            public String getMessage() {
+                return "Test Message";
+            }
+
+            @Override
+            public java.util.Map<String, String> getData() {
+                return null;
+            }
+
+            @Override
+            public String getDeepLink() {
+                return null;
+            }
+
+            @Override
+            public NotificationPriority getPriority() {
+                return NotificationPriority.LOW;
+            }
+        };
+
+        // When
+        SendNotificationUseCase.SendNotificationResult result = useCase.execute(request);
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getStatus()).isEqualTo(NotificationStatus.SUPPRESSED);
+        assertThat(result.getNotificationId()).isNotNull();
+        verify(notificationServiceProvider, never()).sendNotification(any(Notification.class));
+    }
+
+    @Test
+    void shouldInsertBatchOnceAndSendEachNotification() throws NotificationException {
+        // Given
+        when(frequencyCap.tryAcquire(any(), any(), any())).thenReturn(true, false);
+        when(notificationServiceProvider.sendNotification(any(Notification.class)))
+                .thenAnswer(invocation -> invocation.<Notification>getArgument(0).markAsSent());
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<SendNotificationUseCase.SendNotificationResult> results = useCase.executeAll(List.of(
+                pushRequest("user-1"),
+                pushRequest("user-2")
+        ));
+
+        // Then
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(results.get(1).getStatus()).isEqualTo(NotificationStatus.SUPPRESSED);
+        verify(notificationRepository).saveAll(anyList());
+        verify(notificationServiceProvider, times(1)).sendNotification(any(Notification.class));
+        verify(notificationHistoryRecorder).record(any(NotificationHistoryEntry.class));
+    }
+
+    private static SendNotificationUseCase.SendNotificationRequest pushRequest(String recipient) {
+        return new SendNotificationUseCase.SendNotificationRequest() {
+            @Override
+            public NotificationType getType() {
+                return NotificationType.PUSH;
+            }
+
+            @Override
+            public String getRecipient() {
+                return recipient;
+            }
+
+            @Override
+            public String getTitle() {
+                return "Test Title";
+            }
+
+            @Override
+            public String getMessage() {
+                return "Test Message";
+            }
+
+            @Override
+            public java.util.Map<String, String> getData() {
+                return null;
+            }
+
+            @Override
+            public String getDeepLink() {
+                return null;
+            }
+
+            @Override
+            public NotificationPriority getPriority() {
+                return NotificationPriority.NORMAL;
+            }
+        };
+    }
+}
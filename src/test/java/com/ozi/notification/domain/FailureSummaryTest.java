@@ -0,0 +1,67 @@
+package com.ozi.notification.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class FailureSummaryTest {
+
+    @Test
+    void shouldCountEveryFailureButKeepOnlyAFewSamplesPerClass() {
+        // Given
+        FailureSummary summary = new FailureSummary();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            summary.add("TimeoutException", "id-" + i, "timed out");
+        }
+        summary.add("NotificationException", "id-rejected", "rejected");
+
+        // Then
+        assertThat(summary.getTotal()).isEqualTo(1001);
+        assertThat(summary.getCategories()).extracting(FailureSummary.Category::getErrorClass, FailureSummary.Category::getCount)
+                .containsExactly(
+                        tuple("TimeoutException", 1000),
+                        tuple("NotificationException", 1));
+        assertThat(summary.getCategories().get(0).getSamples()).hasSize(FailureSummary.MAX_SAMPLES_PER_CATEGORY);
+        assertThat(summary.getSampleIds()).hasSize(FailureSummary.MAX_SAMPLES_PER_CATEGORY + 1)
+                .contains("id-0", "id-rejected");
+        assertThat(summary.getSampleMessages()).hasSameSizeAs(summary.getSampleIds());
+    }
+
+    @Test
+    void shouldCountErrorClassesBeyondTheLimitAsOther() {
+        // Given
+        FailureSummary summary = new FailureSummary();
+
+        // When
+        for (int i = 0; i < FailureSummary.MAX_CATEGORIES + 10; i++) {
+            summary.add("Error" + i, "id-" + i, "failed");
+        }
+        summary.add("Error0", "id-again", "failed");
+
+        // Then
+        assertThat(summary.getCategories()).hasSize(FailureSummary.MAX_CATEGORIES + 1);
+        assertThat(summary.getCategories().get(0).getErrorClass()).isEqualTo(FailureSummary.OTHER);
+        assertThat(summary.getCategories().get(0).getCount()).isEqualTo(10);
+        assertThat(summary.getCategories()).filteredOn(category -> category.getErrorClass().equals("Error0"))
+                .singleElement()
+                .extracting(FailureSummary.Category::getCount)
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldClassifyFailuresByTheirRootCause() {
+        // Given
+        Exception failure = new NotificationException("send failed", new IOException("connection reset"));
+
+        // When
+        String errorClass = FailureSummary.errorClass(failure);
+
+        // Then
+        assertThat(errorClass).isEqualTo("IOException");
+    }
+}
@@ -0,0 +1,58 @@
+package com.ozi.notification.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void shouldRoundTripThroughOpaqueToken() {
+        // Given
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_000_000), UuidV7.generate());
+
+        // When
+        String token = cursor.encode();
+
+        // Then
+        assertThat(token).doesNotContain(cursor.getId());
+        assertThat(PageCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldTreatMissingTokenAsFirstPage() {
+        assertThat(PageCursor.decode(null)).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode("bm8tc2VwYXJhdG9y"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldPointNextCursorAtLastItemOnlyWhenMoreRowsExist() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 10, 0);
+        List<PageCursor> rows = List.of(
+                new PageCursor(now, "c"),
+                new PageCursor(now, "b"),
+                new PageCursor(now.minusSeconds(1), "a"));
+
+        // When
+        CursorPage<PageCursor> firstPage = CursorPage.of(rows, 2, row -> row);
+        CursorPage<PageCursor> lastPage = CursorPage.of(rows, 3, row -> row);
+
+        // Then
+        assertThat(firstPage.getItems()).hasSize(2);
+        assertThat(PageCursor.decode(firstPage.getNextCursor())).isEqualTo(rows.get(1));
+        assertThat(lastPage.getItems()).hasSize(3);
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+}
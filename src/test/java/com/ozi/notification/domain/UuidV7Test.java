@@ -0,0 +1,48 @@
+package com.ozi.notification.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void shouldSetVersionAndVariant() {
+        // When
+        UUID uuid = UuidV7.next();
+
+        // Then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEmbedCurrentTimeInMilliseconds() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID uuid = UuidV7.next();
+
+        // Then (bursts of more than 4096 IDs per millisecond may borrow from the next milliseconds)
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertThat(timestamp).isBetween(before, System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    void shouldGenerateStrictlyIncreasingIds() {
+        // When
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7.generate());
+        }
+
+        // Then
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+        assertThat(ids).allSatisfy(id -> assertThat(id).hasSize(36));
+    }
+}
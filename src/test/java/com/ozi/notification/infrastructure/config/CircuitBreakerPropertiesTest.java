@@ -0,0 +1,38 @@
+package com.ozi.notification.infrastructure.config;
+
+import com.ozi.notification.domain.NotificationType;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerPropertiesTest {
+
+    @Test
+    void shouldMergePartialTypeOverrideOntoConfiguredDefaults() {
+        // Given
+        MapConfigurationPropertySource source = new MapConfigurationPropertySource(Map.of(
+                "notification.circuit-breaker.defaults.failure-rate-threshold", "30",
+                "notification.circuit-breaker.defaults.wait-duration-in-open-state", "10s",
+                "notification.circuit-breaker.providers.push.sliding-window-size", "200"));
+
+        // When
+        CircuitBreakerProperties properties = new Binder(source)
+                .bind("notification.circuit-breaker", CircuitBreakerProperties.class)
+                .get();
+        CircuitBreakerProperties.Settings push = properties.forType(NotificationType.PUSH);
+        CircuitBreakerProperties.Settings sms = properties.forType(NotificationType.SMS);
+
+        // Then
+        assertThat(push.getSlidingWindowSize()).isEqualTo(200);
+        assertThat(push.getFailureRateThreshold()).isEqualTo(30);
+        assertThat(push.getWaitDurationInOpenState()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(push.getMinimumNumberOfCalls()).isEqualTo(20);
+        assertThat(sms.getSlidingWindowSize()).isEqualTo(50);
+        assertThat(sms.getFailureRateThreshold()).isEqualTo(30);
+    }
+}
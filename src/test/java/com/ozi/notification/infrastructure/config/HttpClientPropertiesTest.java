@@ -0,0 +1,40 @@
+package com.ozi.notification.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpClientPropertiesTest {
+
+    @Test
+    void shouldMergePartialProviderOverrideOntoConfiguredDefaults() {
+        // Given
+        MapConfigurationPropertySource source = new MapConfigurationPropertySource(Map.of(
+                "notification.http.defaults.max-connections", "40",
+                "notification.http.defaults.connect-timeout", "3s",
+                "notification.http.defaults.response-timeout", "20s",
+                "notification.http.providers.clevertap.max-connections", "100",
+                "notification.http.providers.clevertap.warmup-connections", "4"));
+
+        // When
+        HttpClientProperties properties = new Binder(source)
+                .bind("notification.http", HttpClientProperties.class)
+                .get();
+        HttpClientProperties.Pool clevertap = properties.forProvider("clevertap");
+        HttpClientProperties.Pool sms = properties.forProvider("sms");
+
+        // Then
+        assertThat(clevertap.getMaxConnections()).isEqualTo(100);
+        assertThat(clevertap.getWarmupConnections()).isEqualTo(4);
+        assertThat(clevertap.getConnectTimeout()).isEqualTo(Duration.ofSeconds(3));
+        assertThat(clevertap.getResponseTimeout()).isEqualTo(Duration.ofSeconds(20));
+        assertThat(clevertap.getPendingAcquireMaxCount()).isEqualTo(500);
+        assertThat(sms.getMaxConnections()).isEqualTo(40);
+        assertThat(sms.getWarmupConnections()).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.ozi.notification.domain.UserNotificationPreferences;
+import com.ozi.notification.infrastructure.config.PreferenceCacheProperties;
+import com.ozi.notification.infrastructure.entity.UserNotificationPreferencesEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedUserPreferenceStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private UserNotificationPreferencesJpaRepository jpaRepository;
+    private CachedUserPreferenceStore store;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository = mock(UserNotificationPreferencesJpaRepository.class);
+        PreferenceCacheProperties properties = new PreferenceCacheProperties();
+        properties.setTtl(Duration.ofMinutes(15));
+        properties.setBulkLoadChunkSize(2);
+        store = new CachedUserPreferenceStore(jpaRepository, properties, clock::get);
+    }
+
+    @Test
+    void shouldLoadMissesInChunksAndServeRepeatsFromCache() {
+        // Given
+        UserNotificationPreferences optedOut = UserNotificationPreferences.defaults("user-1").toBuilder()
+                .pushEnabled(false)
+                .build();
+        when(jpaRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(UserNotificationPreferencesEntity.fromDomain(optedOut)))
+                .thenReturn(List.of());
+
+        // When
+        Map<String, UserNotificationPreferences> first = store.getAll(List.of("user-1", "user-2", "user-3"));
+        Map<String, UserNotificationPreferences> second = store.getAll(List.of("user-1", "user-2", "user-3"));
+
+        // Then
+        assertThat(first).containsOnlyKeys("user-1", "user-2", "user-3");
+        assertThat(first.get("user-1").isPushEnabled()).isFalse();
+        assertThat(first.get("user-3")).isEqualTo(UserNotificationPreferences.defaults("user-3"));
+        assertThat(second).isEqualTo(first);
+        verify(jpaRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    void shouldReloadAfterTtl() {
+        // Given
+        when(jpaRepository.findAllById(anyIterable())).thenReturn(List.of());
+        store.get("user-1");
+
+        // When
+        clock.addAndGet(Duration.ofMinutes(15).toNanos());
+        store.get("user-1");
+
+        // Then
+        verify(jpaRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    void shouldServeSavedPreferencesWithoutReloading() {
+        // Given
+        UserNotificationPreferences updated = UserNotificationPreferences.defaults("user-1").toBuilder()
+                .whatsappEnabled(false)
+                .build();
+        when(jpaRepository.save(any(UserNotificationPreferencesEntity.class)))
+                .thenReturn(UserNotificationPreferencesEntity.fromDomain(updated));
+
+        // When
+        store.save(updated);
+        UserNotificationPreferences result = store.get("user-1");
+
+        // Then
+        assertThat(result.isWhatsappEnabled()).isFalse();
+        verify(jpaRepository, times(0)).findAllById(anyIterable());
+    }
+}
@@ -0,0 +1,139 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.ozi.notification.domain.UuidV7;
+import com.ozi.notification.infrastructure.entity.EntityIds;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the MySQL plans of the notification queries against the migrated schema, so a
+ * migration or query change that falls back to a full scan or a filesort fails here.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationIndexPlanTest {
+
+    private static final int ROWS = 5000;
+    private static final int RECIPIENTS = 250;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+
+        // Mostly delivered rows, like production; a few percent pending or failed
+        LocalDateTime start = LocalDateTime.now().minusDays(7);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO notifications (id, type, recipient, title, message, priority, status, created_at) " +
+                "VALUES (?, 'PUSH', ?, 'Title', 'Message', 'NORMAL', ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setBytes(1, EntityIds.toBytes(UuidV7.generate()));
+                insert.setString(2, "user-" + (i % RECIPIENTS));
+                insert.setString(3, i % 20 == 0 ? "PENDING" : i % 20 == 1 ? "FAILED" : "SENT");
+                insert.setTimestamp(4, Timestamp.valueOf(start.plusSeconds(i * 60L)));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE notifications");
+        }
+    }
+
+    @AfterAll
+    static void closeConnection() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void pendingDrainShouldReadStatusIndexInOrder() throws SQLException {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+
+        // When
+        Map<String, String> plan = explain(NotificationJpaRepository.LOCK_PENDING_SQL,
+                Timestamp.valueOf(now), Timestamp.valueOf(now), 200);
+
+        // Then
+        assertIndexRangeScan(plan, "idx_notifications_status_created");
+    }
+
+    @Test
+    void statusListingShouldReadStatusIndexFromCursor() throws SQLException {
+        // When
+        Map<String, String> plan = explain(
+                "SELECT id, type, recipient, title, priority, status, created_at, sent_at, error_message " +
+                "FROM notifications WHERE status = 'FAILED' " +
+                "AND (created_at < NOW() OR (created_at = NOW() AND id < UNHEX(REPEAT('F', 32)))) " +
+                "ORDER BY created_at DESC, id DESC LIMIT 51");
+
+        // Then
+        assertIndexRangeScan(plan, "idx_notifications_status_created");
+    }
+
+    @Test
+    void recipientListingShouldReadRecipientIndexNewestFirst() throws SQLException {
+        // When
+        Map<String, String> plan = explain(
+                "SELECT id, type, recipient, title, priority, status, created_at, sent_at, error_message " +
+                "FROM notifications WHERE recipient = 'user-7' ORDER BY created_at DESC, id DESC LIMIT 51");
+
+        // Then
+        assertIndexRangeScan(plan, "idx_notifications_recipient_created");
+    }
+
+    private static void assertIndexRangeScan(Map<String, String> plan, String index) {
+        assertThat(plan.get("key")).as("index used by %s", plan).isEqualTo(index);
+        assertThat(plan.get("type")).as("access type of %s", plan).isIn("ref", "range");
+        assertThat(plan.get("Extra")).as("extra of %s", plan).doesNotContain("Using filesort");
+    }
+
+    /**
+     * Explains a query; named parameters are bound in order of appearance.
+     */
+    private static Map<String, String> explain(String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql.replaceAll(":\\w+", "?"))) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertThat(resultSet.next()).isTrue();
+                Map<String, String> plan = new HashMap<>();
+                for (String column : new String[]{"type", "key", "Extra"}) {
+                    String value = resultSet.getString(column);
+                    plan.put(column, value != null ? value : "");
+                }
+                return plan;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.ozi.notification.domain.Notification;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.infrastructure.config.OutboxProperties;
+import com.ozi.notification.infrastructure.config.ProcessingLeaseProperties;
+import com.ozi.notification.infrastructure.config.ReadCacheProperties;
+import com.ozi.notification.infrastructure.config.ReplicaDataSourceProperties;
+import com.ozi.notification.infrastructure.entity.NotificationEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationRepositoryImplTest {
+
+    private NotificationJpaRepository jpaRepository;
+    private NotificationRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository = mock(NotificationJpaRepository.class);
+        repository = new NotificationRepositoryImpl(jpaRepository, mock(NotificationJdbcRepository.class),
+                mock(NotificationOutboxJdbcRepository.class), new OutboxProperties(), new ProcessingLeaseProperties(),
+                new ReadCacheProperties(), new ReplicaDataSourceProperties(), new SimpleMeterRegistry(),
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void shouldKeepRetryCountOfReapedNotificationWhenSavingItsOutcome() {
+        // Given
+        Notification notification = Notification.create(NotificationType.PUSH, "user-1", "Title", "Message");
+        NotificationEntity reaped = NotificationEntity.fromDomain(notification);
+        reaped.setRetryCount(2);
+        when(jpaRepository.findById(reaped.getId())).thenReturn(Optional.of(reaped));
+        when(jpaRepository.save(any(NotificationEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        repository.save(notification.markAsSent());
+
+        // Then
+        ArgumentCaptor<NotificationEntity> saved = ArgumentCaptor.forClass(NotificationEntity.class);
+        verify(jpaRepository).save(saved.capture());
+        assertThat(saved.getValue().getRetryCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStartRetryCountAtZeroForNewNotifications() {
+        // Given
+        Notification notification = Notification.create(NotificationType.PUSH, "user-1", "Title", "Message");
+        when(jpaRepository.findById(any())).thenReturn(Optional.empty());
+        when(jpaRepository.save(any(NotificationEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        repository.save(notification);
+
+        // Then
+        ArgumentCaptor<NotificationEntity> saved = ArgumentCaptor.forClass(NotificationEntity.class);
+        verify(jpaRepository).save(saved.capture());
+        assertThat(saved.getValue().getRetryCount()).isZero();
+    }
+}
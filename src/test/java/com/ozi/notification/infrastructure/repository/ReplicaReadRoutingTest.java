@@ -0,0 +1,117 @@
+package com.ozi.notification.infrastructure.repository;
+
+import com.ozi.notification.domain.Notification;
+import com.ozi.notification.domain.NotificationStatus;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.infrastructure.config.OutboxProperties;
+import com.ozi.notification.infrastructure.config.ProcessingLeaseProperties;
+import com.ozi.notification.infrastructure.config.ReadCacheProperties;
+import com.ozi.notification.infrastructure.config.ReadReplicaDataSourceConfig;
+import com.ozi.notification.infrastructure.config.ReplicaDataSourceProperties;
+import com.ozi.notification.infrastructure.entity.EntityIds;
+import com.ozi.notification.infrastructure.entity.NotificationEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that cache misses of lookups by ID are served by the read replica pool, through
+ * the same lazy routing data source as ReadReplicaDataSourceConfig sets up, and that rows
+ * read from a lagging replica are not kept in the cache.
+ */
+class ReplicaReadRoutingTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private final Notification notification =
+            Notification.create(NotificationType.PUSH, "user-1", "Title", "Message");
+
+    private DataSource dataSource;
+    private NotificationJpaRepository jpaRepository;
+    private NotificationRepositoryImpl repository;
+    private final List<String> servedBy = new ArrayList<>();
+
+    /**
+     * Row as the replica currently has it; the primary always has the sent notification
+     */
+    private Notification replicaRow = notification;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReadReplicaDataSourceConfig().dataSource(
+                new DriverManagerDataSource(PRIMARY_URL), new DriverManagerDataSource(REPLICA_URL));
+        jpaRepository = mock(NotificationJpaRepository.class);
+        ReplicaDataSourceProperties replicaProperties = new ReplicaDataSourceProperties();
+        replicaProperties.setEnabled(true);
+        repository = new NotificationRepositoryImpl(jpaRepository, mock(NotificationJdbcRepository.class),
+                mock(NotificationOutboxJdbcRepository.class), new OutboxProperties(), new ProcessingLeaseProperties(),
+                new ReadCacheProperties(), replicaProperties, new SimpleMeterRegistry(),
+                new DataSourceTransactionManager(dataSource));
+
+        when(jpaRepository.findById(any())).thenAnswer(invocation -> {
+            // The statement the JPA lookup would run, on the connection bound to the lookup's transaction
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            String url = connection.getMetaData().getURL();
+            servedBy.add(url);
+            Notification row = url.startsWith("jdbc:h2:mem:routing-replica") ? replicaRow : notification.markAsSent();
+            return Optional.of(NotificationEntity.fromDomain(row));
+        });
+    }
+
+    @Test
+    void shouldServeCacheMissesFromTheReplica() {
+        // When
+        Optional<Notification> found = repository.findById(notification.getId());
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(servedBy).singleElement().asString().startsWith("jdbc:h2:mem:routing-replica");
+    }
+
+    @Test
+    void shouldNotKeepRowsReadFromALaggingReplica() {
+        // Given the replica has not yet applied the send
+        Optional<Notification> stale = repository.findById(notification.getId());
+
+        // When it catches up
+        replicaRow = notification.markAsSent();
+        Optional<Notification> current = repository.findById(notification.getId());
+
+        // Then
+        assertThat(stale).map(Notification::getStatus).contains(NotificationStatus.PENDING);
+        assertThat(current).map(Notification::getStatus).contains(NotificationStatus.SENT);
+        verify(jpaRepository, times(2)).findById(EntityIds.parse(notification.getId()));
+    }
+
+    @Test
+    void shouldServeOwnWritesFromTheCache() {
+        // Given
+        when(jpaRepository.save(any(NotificationEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        repository.save(notification.markAsSent());
+        servedBy.clear();
+
+        // When
+        Optional<Notification> found = repository.findById(notification.getId());
+
+        // Then
+        assertThat(found).map(Notification::getStatus).contains(NotificationStatus.SENT);
+        assertThat(servedBy).isEmpty();
+    }
+}
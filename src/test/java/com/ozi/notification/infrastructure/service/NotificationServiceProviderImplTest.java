@@ -0,0 +1,100 @@
+package com.ozi.notification.infrastructure.service;
+
+import com.ozi.notification.domain.*;
+import com.ozi.notification.infrastructure.config.CircuitBreakerProperties;
+import com.ozi.notification.infrastructure.config.PipelineMetricsProperties;
+import com.ozi.notification.infrastructure.service.metrics.MicrometerPipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationServiceProviderImplTest {
+
+    @Test
+    void shouldRouteNotificationToHandlingService() throws NotificationException {
+        // Given
+        NotificationServiceProviderImpl provider = new NotificationServiceProviderImpl(List.of(
+                new SendingService(NotificationType.PUSH),
+                new SendingService(NotificationType.WHATSAPP)
+        ), new CircuitBreakerProperties(), PipelineMetrics.noop());
+        Notification notification = Notification.create(NotificationType.WHATSAPP, "+1234567890", "Title", "Message");
+
+        // When
+        Notification result = provider.sendNotification(notification);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(provider.getRoutes()).containsOnlyKeys(NotificationType.PUSH, NotificationType.WHATSAPP);
+        assertThat(provider.getUnroutedTypes()).containsExactlyInAnyOrder(NotificationType.EMAIL, NotificationType.SMS);
+    }
+
+    @Test
+    void shouldFailForUnroutedType() {
+        // Given
+        NotificationServiceProviderImpl provider = new NotificationServiceProviderImpl(List.of(
+                new SendingService(NotificationType.PUSH)
+        ), new CircuitBreakerProperties(), PipelineMetrics.noop());
+        Notification notification = Notification.create(NotificationType.EMAIL, "user@example.com", "Title", "Message");
+
+        // When & Then
+        assertThatThrownBy(() -> provider.sendNotification(notification))
+                .isInstanceOf(NotificationException.class)
+                .hasMessage("No notification service found for type: EMAIL");
+    }
+
+    @Test
+    void shouldRejectDuplicateHandlersAtStartup() {
+        // When & Then
+        assertThatThrownBy(() -> new NotificationServiceProviderImpl(List.of(
+                new SendingService(NotificationType.PUSH),
+                new SendingService(NotificationType.PUSH)
+        ), new CircuitBreakerProperties(), PipelineMetrics.noop()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("PUSH");
+    }
+
+    @Test
+    void shouldTimeRoutingAndProviderCallPerTypeAndProvider() throws NotificationException {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        NotificationServiceProviderImpl provider = new NotificationServiceProviderImpl(List.of(
+                new SendingService(NotificationType.PUSH)
+        ), new CircuitBreakerProperties(), new MicrometerPipelineMetrics(registry, new PipelineMetricsProperties()));
+        Notification notification = Notification.create(NotificationType.PUSH, "user-1", "Title", "Message");
+
+        // When
+        provider.sendNotification(notification);
+
+        // Then
+        assertThat(registry.get("notification.pipeline.stage")
+                .tags("pipeline", "send", "stage", "provider", "type", "PUSH",
+                        "provider", "SendingService", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("notification.pipeline.stage")
+                .tags("stage", "route", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private static class SendingService implements NotificationService {
+
+        private final NotificationType handledType;
+
+        SendingService(NotificationType handledType) {
+            this.handledType = handledType;
+        }
+
+        @Override
+        public Notification sendNotification(Notification notification) {
+            return notification.markAsSent();
+        }
+
+        @Override
+        public boolean canHandle(NotificationType type) {
+            return type == handledType;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ozi.notification.infrastructure.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WTinyLfuCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldKeepPolledEntriesWhileScannedByOneOffKeys() {
+        // Given
+        WTinyLfuCache<String, String> cache = new WTinyLfuCache<>(100, Duration.ofMinutes(1), clock::get);
+        for (int i = 0; i < 50; i++) {
+            cache.put("hot-" + i, "value");
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.get("hot-" + i);
+            }
+        }
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            cache.get("cold-" + i);
+            cache.put("cold-" + i, "value");
+            if (i % 100 == 0) {
+                // Polling of the hot keys continues during the scan
+                for (int j = 0; j < 50; j++) {
+                    cache.get("hot-" + j);
+                }
+            }
+        }
+
+        // Then
+        int hotRetained = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get("hot-" + i) != null) {
+                hotRetained++;
+            }
+        }
+        assertThat(hotRetained).isEqualTo(50);
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.evictionCount()).isPositive();
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        // Given
+        WTinyLfuCache<String, String> cache = new WTinyLfuCache<>(10, Duration.ofSeconds(30), clock::get);
+        cache.put("id-1", "value");
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // Then
+        assertThat(cache.get("id-1")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldCountHitsAndMissesAndHonourInvalidation() {
+        // Given
+        WTinyLfuCache<String, String> cache = new WTinyLfuCache<>(10, Duration.ofMinutes(1), clock::get);
+        cache.put("id-1", "first");
+        cache.put("id-2", "second");
+
+        // When
+        cache.put("id-1", "updated");
+        String hit = cache.get("id-1");
+        cache.invalidate("id-1");
+        cache.invalidateIf("second"::equals);
+        String missAfterInvalidate = cache.get("id-1");
+
+        // Then
+        assertThat(hit).isEqualTo("updated");
+        assertThat(missAfterInvalidate).isNull();
+        assertThat(cache.get("id-2")).isNull();
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStoreNothingWhenDisabled() {
+        // Given
+        WTinyLfuCache<String, String> cache = new WTinyLfuCache<>(0, Duration.ofMinutes(1), clock::get);
+
+        // When
+        cache.put("id-1", "value");
+
+        // Then
+        assertThat(cache.get("id-1")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ozi.notification.infrastructure.service.capping;
+
+import com.ozi.notification.domain.NotificationPriority;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.infrastructure.config.FrequencyCapProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowFrequencyCapTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private final AtomicLong clock = new AtomicLong(1_000 * HOUR);
+    private SlidingWindowFrequencyCap frequencyCap;
+
+    @BeforeEach
+    void setUp() {
+        Map<NotificationPriority, Integer> pushLimits = new EnumMap<>(NotificationPriority.class);
+        pushLimits.put(NotificationPriority.LOW, 1);
+        pushLimits.put(NotificationPriority.NORMAL, 2);
+
+        FrequencyCapProperties properties = new FrequencyCapProperties();
+        properties.setWindow(Duration.ofHours(1));
+        properties.setStripes(1);
+        properties.getLimits().put(NotificationType.PUSH, pushLimits);
+
+        frequencyCap = new SlidingWindowFrequencyCap(properties, clock::get);
+    }
+
+    @Test
+    void shouldSuppressOnceRecipientReachesCap() {
+        // When
+        boolean first = frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.NORMAL);
+        boolean second = frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.NORMAL);
+        boolean third = frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.NORMAL);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(frequencyCap.tryAcquire("user-2", NotificationType.PUSH, NotificationPriority.NORMAL)).isTrue();
+    }
+
+    @Test
+    void shouldApplyLimitOfIncomingPriority() {
+        // Given
+        frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.NORMAL);
+
+        // When / Then
+        assertThat(frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.LOW)).isFalse();
+        assertThat(frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.NORMAL)).isTrue();
+        assertThat(frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.URGENT)).isTrue();
+        assertThat(frequencyCap.tryAcquire("user-1", NotificationType.WHATSAPP, NotificationPriority.LOW)).isTrue();
+    }
+
+    @Test
+    void shouldReleaseCapAsWindowSlides() {
+        // Given
+        frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.NORMAL);
+        frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.NORMAL);
+
+        // When: halfway into the next window half of the previous count still applies
+        clock.addAndGet(HOUR + HOUR / 2);
+        boolean halfway = frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.NORMAL);
+        boolean afterHalfway = frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.NORMAL);
+
+        // Then
+        assertThat(halfway).isTrue();
+        assertThat(afterHalfway).isFalse();
+    }
+
+    @Test
+    void shouldDropIdleCounters() {
+        // Given
+        frequencyCap.tryAcquire("user-1", NotificationType.PUSH, NotificationPriority.NORMAL);
+
+        // When
+        clock.addAndGet(3 * HOUR);
+        frequencyCap.tryAcquire("user-2", NotificationType.PUSH, NotificationPriority.NORMAL);
+
+        // Then
+        assertThat(frequencyCap.trackedCounters()).isEqualTo(1);
+    }
+}
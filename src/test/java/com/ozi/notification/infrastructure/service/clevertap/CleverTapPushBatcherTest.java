@@ -0,0 +1,112 @@
+package com.ozi.notification.infrastructure.service.clevertap;
+
+import com.ozi.notification.domain.Notification;
+import com.ozi.notification.domain.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CleverTapPushBatcherTest {
+
+    private final List<List<Notification>> sentBatches = new CopyOnWriteArrayList<>();
+    private CleverTapPushBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    @Test
+    void shouldCombineSendsWithinLingerIntoOneRequest() throws Exception {
+        // Given
+        batcher = new CleverTapPushBatcher(recordingSender(success()), Duration.ofMillis(200), 10);
+
+        // When
+        CompletableFuture<CleverTapResponse> first = batcher.submit(notification("user-1"));
+        CompletableFuture<CleverTapResponse> second = batcher.submit(notification("user-2"));
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(sentBatches).hasSize(1);
+        assertThat(sentBatches.get(0)).extracting(Notification::getRecipient).containsExactly("user-1", "user-2");
+    }
+
+    @Test
+    void shouldSendFullBatchWithoutWaitingForLinger() throws Exception {
+        // Given
+        batcher = new CleverTapPushBatcher(recordingSender(success()), Duration.ofMinutes(1), 2);
+
+        // When
+        CompletableFuture<CleverTapResponse> first = batcher.submit(notification("user-1"));
+        CompletableFuture<CleverTapResponse> second = batcher.submit(notification("user-2"));
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(sentBatches).hasSize(1);
+    }
+
+    @Test
+    void shouldFailOnlyUnprocessedRecipient() throws Exception {
+        // Given
+        CleverTapResponse partial = new CleverTapResponse("success", null, 1, 1, "{...}",
+                Map.of("user-2", "Identity not found"));
+        batcher = new CleverTapPushBatcher(recordingSender(partial), Duration.ofMillis(200), 10);
+
+        // When
+        CompletableFuture<CleverTapResponse> first = batcher.submit(notification("user-1"));
+        CompletableFuture<CleverTapResponse> second = batcher.submit(notification("user-2"));
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        CleverTapResponse failed = second.get(5, TimeUnit.SECONDS);
+        assertThat(failed.isSuccess()).isFalse();
+        assertThat(failed.getError()).isEqualTo("Identity not found");
+    }
+
+    @Test
+    void shouldPropagateTransportErrorToEveryCaller() {
+        // Given
+        RuntimeException failure = new IllegalStateException("connection reset");
+        batcher = new CleverTapPushBatcher(notifications -> Mono.error(failure), Duration.ofMillis(50), 10);
+
+        // When
+        CompletableFuture<CleverTapResponse> first = batcher.submit(notification("user-1"));
+        CompletableFuture<CleverTapResponse> second = batcher.submit(notification("user-2"));
+
+        // Then
+        assertThat(first).failsWithin(Duration.ofSeconds(5)).withThrowableOfType(Exception.class)
+                .withCause(failure);
+        assertThat(second).failsWithin(Duration.ofSeconds(5)).withThrowableOfType(Exception.class)
+                .withCause(failure);
+    }
+
+    private Function<List<Notification>, Mono<CleverTapResponse>> recordingSender(
+            CleverTapResponse response) {
+        return notifications -> {
+            sentBatches.add(notifications);
+            return Mono.just(response);
+        };
+    }
+
+    private static CleverTapResponse success() {
+        return new CleverTapResponse("success", null, null, 0, null, Map.of());
+    }
+
+    private static Notification notification(String recipient) {
+        return Notification.create(NotificationType.PUSH, recipient, "Title", "Message");
+    }
+}
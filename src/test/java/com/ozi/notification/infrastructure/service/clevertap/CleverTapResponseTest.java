@@ -0,0 +1,83 @@
+package com.ozi.notification.infrastructure.service.clevertap;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.ozi.notification.infrastructure.service.payload.ResponseBodies;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CleverTapResponseTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    void shouldDecodeSuccessResponse() {
+        // When
+        CleverTapResponse response = decode("{\"status\":\"success\",\"processed\":1,\"unprocessed\":[]}");
+
+        // Then
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getProcessed()).isEqualTo(1);
+        assertThat(response.getError()).isNull();
+        assertThat(response.getBodySnippet()).isNull();
+    }
+
+    @Test
+    void shouldDecodeErrorResponse() {
+        // When
+        CleverTapResponse response = decode("{\"status\":\"fail\",\"error\":\"Invalid identity\",\"code\":401}");
+
+        // Then
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getError()).isEqualTo("Invalid identity");
+        assertThat(response.getBodySnippet()).contains("Invalid identity");
+    }
+
+    @Test
+    void shouldAttributeUnprocessedEntriesToRecipients() {
+        // When
+        CleverTapResponse response = decode("{\"status\":\"success\",\"processed\":1,\"unprocessed\":["
+                + "{\"status\":\"fail\",\"code\":512,\"error\":\"Identity not found\","
+                + "\"record\":{\"to\":{\"Identity\":[\"user-2\"]},\"kvs\":{}}}]}");
+
+        // Then
+        assertThat(response.getUnprocessed()).isEqualTo(1);
+        assertThat(response.forRecipient("user-1").isSuccess()).isTrue();
+        assertThat(response.forRecipient("user-2").isSuccess()).isFalse();
+        assertThat(response.forRecipient("user-2").getError()).isEqualTo("Identity not found");
+    }
+
+    @Test
+    void shouldFailAllRecipientsWhenUnprocessedEntriesCannotBeAttributed() {
+        // When
+        CleverTapResponse response = decode("{\"status\":\"success\",\"processed\":1,\"unprocessed\":[{\"code\":500}]}");
+
+        // Then
+        assertThat(response.forRecipient("user-1").isSuccess()).isFalse();
+    }
+
+    @Test
+    void shouldTruncateLargeUnknownResponse() {
+        // Given
+        String body = "<html>" + "x".repeat(10_000) + "</html>";
+
+        // When
+        CleverTapResponse response = decode(body);
+
+        // Then
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getBodySnippet())
+                .startsWith("<html>")
+                .endsWith("...(truncated)")
+                .hasSizeLessThan(ResponseBodies.MAX_SNIPPET_LENGTH + 20);
+    }
+
+    private CleverTapResponse decode(String body) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(body.getBytes(StandardCharsets.UTF_8));
+        return CleverTapResponse.decode(jsonFactory, buffer);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ozi.notification.infrastructure.service.drain;
+
+import com.ozi.notification.domain.ProcessPendingNotificationsUseCase;
+import com.ozi.notification.domain.ProcessPendingNotificationsUseCase.ProcessPendingNotificationsResult;
+import com.ozi.notification.infrastructure.config.DrainProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PendingNotificationDrainSchedulerTest {
+
+    private PendingNotificationDrainScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        DrainProperties properties = new DrainProperties();
+        properties.setMinInterval(Duration.ofMillis(500));
+        properties.setMaxInterval(Duration.ofSeconds(4));
+        scheduler = new PendingNotificationDrainScheduler(mock(ProcessPendingNotificationsUseCase.class), properties);
+    }
+
+    @Test
+    void shouldBackOffWhileNothingIsSentAndPollFastOnceWorkAppears() {
+        // Given
+        ProcessPendingNotificationsResult empty = result(0, 0, 0);
+        ProcessPendingNotificationsResult deferredOnly = result(0, 0, 3);
+        ProcessPendingNotificationsResult busy = result(5, 1, 0);
+
+        // When
+        long first = scheduler.nextDelay(500, empty);
+        long second = scheduler.nextDelay(first, deferredOnly);
+        long third = scheduler.nextDelay(second, empty);
+        long capped = scheduler.nextDelay(third, empty);
+        long afterWork = scheduler.nextDelay(capped, busy);
+
+        // Then
+        assertThat(first).isEqualTo(1000);
+        assertThat(second).isEqualTo(2000);
+        assertThat(third).isEqualTo(4000);
+        assertThat(capped).isEqualTo(4000);
+        assertThat(afterWork).isEqualTo(500);
+    }
+
+    private static ProcessPendingNotificationsResult result(int successful, int failed, int deferred) {
+        ProcessPendingNotificationsResult result = mock(ProcessPendingNotificationsResult.class);
+        when(result.getTotalSuccessful()).thenReturn(successful);
+        when(result.getTotalFailed()).thenReturn(failed);
+        when(result.getTotalDeferred()).thenReturn(deferred);
+        return result;
+    }
+}
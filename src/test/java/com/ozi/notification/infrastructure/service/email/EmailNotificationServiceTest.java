@@ -0,0 +1,93 @@
+package com.ozi.notification.infrastructure.service.email;
+
+import com.ozi.notification.domain.Notification;
+import com.ozi.notification.domain.NotificationException;
+import com.ozi.notification.domain.NotificationStatus;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.infrastructure.config.EmailProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmailNotificationServiceTest {
+
+    private FakeSmtpServer smtpServer;
+    private EmailNotificationService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtpServer = new FakeSmtpServer();
+        EmailProperties properties = new EmailProperties();
+        properties.setHost("localhost");
+        properties.setPort(smtpServer.getPort());
+        properties.setFrom("noreply@example.com");
+        properties.setStartTls(false);
+        properties.setConnections(2);
+        service = new EmailNotificationService(properties);
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        service.stop();
+        smtpServer.close();
+    }
+
+    @Test
+    void shouldReuseConnectionsAcrossEmails() throws Exception {
+        // Given
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<Notification>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 40; i++) {
+            Notification notification = Notification.create(
+                    NotificationType.EMAIL, "user" + i + "@example.com", "Title " + i, "Message " + i);
+            results.add(callers.submit(() -> service.sendNotification(notification)));
+        }
+        for (Future<Notification> result : results) {
+            assertThat(result.get().getStatus()).isEqualTo(NotificationStatus.SENT);
+        }
+        callers.shutdown();
+
+        // Then
+        assertThat(smtpServer.getMessages()).hasSize(40);
+        assertThat(smtpServer.getConnections()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void shouldFailRejectedRecipientAndKeepConnectionUsable() throws Exception {
+        // Given
+        smtpServer.rejectRecipient("unknown@example.com");
+
+        // When & Then
+        assertThatThrownBy(() -> service.sendNotification(
+                Notification.create(NotificationType.EMAIL, "unknown@example.com", "Title", "Message")))
+                .isInstanceOf(NotificationException.class)
+                .hasMessageStartingWith("Failed to send email");
+
+        Notification sent = service.sendNotification(
+                Notification.create(NotificationType.EMAIL, "user@example.com", "Title", "Message"));
+        assertThat(sent.getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(smtpServer.getMessages()).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectInvalidAddressWithoutContactingServer() {
+        // When & Then
+        assertThatThrownBy(() -> service.sendNotification(
+                Notification.create(NotificationType.EMAIL, "not an address", "Title", "Message")))
+                .isInstanceOf(NotificationException.class)
+                .hasMessageStartingWith("Invalid email");
+        assertThat(smtpServer.getConnections()).isZero();
+    }
+}
@@ -0,0 +1,118 @@
+package com.ozi.notification.infrastructure.service.history;
+
+import com.ozi.notification.domain.NotificationHistoryEntry;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.infrastructure.config.NotificationHistoryProperties;
+import com.ozi.notification.infrastructure.repository.NotificationHistoryJdbcRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class WriteBehindNotificationHistoryRecorderTest {
+
+    private final NotificationHistoryJdbcRepository historyRepository = mock(NotificationHistoryJdbcRepository.class);
+    private final List<List<NotificationHistoryEntry>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    void shouldWriteFullBatchesWithoutWaitingForFlushInterval() throws InterruptedException {
+        // Given
+        CountDownLatch written = new CountDownLatch(2);
+        captureBatches(written);
+        WriteBehindNotificationHistoryRecorder recorder = recorder(3, 100, Duration.ofMinutes(1));
+
+        // When
+        for (int i = 0; i < 6; i++) {
+            recorder.record(entry("user-" + i));
+        }
+
+        // Then
+        assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).hasSize(2).allSatisfy(batch -> assertThat(batch).hasSize(3));
+        recorder.stop();
+    }
+
+    @Test
+    void shouldWritePartialBatchAfterFlushInterval() throws InterruptedException {
+        // Given
+        CountDownLatch written = new CountDownLatch(1);
+        captureBatches(written);
+        WriteBehindNotificationHistoryRecorder recorder = recorder(100, 100, Duration.ofMillis(50));
+
+        // When
+        recorder.record(entry("user-1"));
+
+        // Then
+        assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches.get(0)).extracting(NotificationHistoryEntry::getRecipient).containsExactly("user-1");
+        recorder.stop();
+    }
+
+    @Test
+    void shouldDropEntriesWhenBufferIsFullAndFlushRestOnShutdown() throws InterruptedException {
+        // Given
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            batches.add(new ArrayList<>(invocation.getArgument(0)));
+            firstBatchStarted.countDown();
+            releaseWriter.await();
+            return null;
+        }).when(historyRepository).insertAll(anyList());
+        WriteBehindNotificationHistoryRecorder recorder = recorder(1, 2, Duration.ofMinutes(1));
+
+        // When
+        recorder.record(entry("user-0"));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= 4; i++) {
+            recorder.record(entry("user-" + i));
+        }
+        releaseWriter.countDown();
+        recorder.stop();
+
+        // Then
+        assertThat(recorder.getDroppedEntries()).isEqualTo(2);
+        assertThat(batches).flatExtracting(batch -> batch)
+                .extracting(NotificationHistoryEntry::getRecipient)
+                .containsExactly("user-0", "user-1", "user-2");
+        assertThat(recorder.getBufferedEntries()).isZero();
+    }
+
+    private void captureBatches(CountDownLatch written) {
+        doAnswer(invocation -> {
+            batches.add(new ArrayList<>(invocation.getArgument(0)));
+            written.countDown();
+            return null;
+        }).when(historyRepository).insertAll(anyList());
+    }
+
+    private WriteBehindNotificationHistoryRecorder recorder(int batchSize, int bufferCapacity, Duration flushInterval) {
+        NotificationHistoryProperties properties = new NotificationHistoryProperties();
+        properties.setBatchSize(batchSize);
+        properties.setBufferCapacity(bufferCapacity);
+        properties.setFlushInterval(flushInterval);
+        properties.setShutdownTimeout(Duration.ofSeconds(5));
+        WriteBehindNotificationHistoryRecorder recorder =
+                new WriteBehindNotificationHistoryRecorder(historyRepository, properties);
+        recorder.start();
+        return recorder;
+    }
+
+    private static NotificationHistoryEntry entry(String recipient) {
+        return NotificationHistoryEntry.builder()
+                .recipient(recipient)
+                .type(NotificationType.PUSH)
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ozi.notification.infrastructure.service.idempotency;
+
+import com.ozi.notification.domain.NotificationStatus;
+import com.ozi.notification.domain.SendNotificationUseCase;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryIdempotencyCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        // Given
+        InMemoryIdempotencyCache cache = new InMemoryIdempotencyCache(10, Duration.ofSeconds(60), clock::get);
+        cache.put("key-1", result("notification-1"));
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(59).toNanos());
+        boolean presentBeforeExpiry = cache.get("key-1").isPresent();
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // Then
+        assertThat(presentBeforeExpiry).isTrue();
+        assertThat(cache.get("key-1")).isEmpty();
+    }
+
+    @Test
+    void shouldEvictOldestEntriesBeyondCapacity() {
+        // Given
+        InMemoryIdempotencyCache cache = new InMemoryIdempotencyCache(2, Duration.ofMinutes(10), clock::get);
+
+        // When
+        cache.put("key-1", result("notification-1"));
+        cache.put("key-2", result("notification-2"));
+        cache.put("key-3", result("notification-3"));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("key-1")).isEmpty();
+        assertThat(cache.get("key-3")).get()
+                .extracting(SendNotificationUseCase.SendNotificationResult::getNotificationId)
+                .isEqualTo("notification-3");
+    }
+
+    private static SendNotificationUseCase.SendNotificationResult result(String notificationId) {
+        SendNotificationUseCase.SendNotificationResult result = mock(SendNotificationUseCase.SendNotificationResult.class);
+        when(result.getNotificationId()).thenReturn(notificationId);
+        when(result.getStatus()).thenReturn(NotificationStatus.SENT);
+        return result;
+    }
+}
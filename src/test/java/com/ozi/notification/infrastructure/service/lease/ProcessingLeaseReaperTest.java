@@ -0,0 +1,74 @@
+package com.ozi.notification.infrastructure.service.lease;
+
+import com.ozi.notification.domain.NotificationRepository;
+import com.ozi.notification.domain.ScheduledNotificationRepository;
+import com.ozi.notification.domain.StockNotificationEventRepository;
+import com.ozi.notification.infrastructure.config.ProcessingLeaseProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProcessingLeaseReaperTest {
+
+    private NotificationRepository notificationRepository;
+    private StockNotificationEventRepository stockNotificationEventRepository;
+    private ScheduledNotificationRepository scheduledNotificationRepository;
+    private ProcessingLeaseReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        stockNotificationEventRepository = mock(StockNotificationEventRepository.class);
+        scheduledNotificationRepository = mock(ScheduledNotificationRepository.class);
+        ProcessingLeaseProperties properties = new ProcessingLeaseProperties();
+        properties.setReapBatchSize(100);
+        properties.setMaxAttempts(3);
+        reaper = new ProcessingLeaseReaper(notificationRepository, stockNotificationEventRepository,
+                scheduledNotificationRepository, properties);
+    }
+
+    @Test
+    void shouldReleaseBatchesUntilOneComesBackShort() {
+        // Given
+        when(notificationRepository.releaseExpiredClaims(3, 100)).thenReturn(100, 100, 40);
+        when(stockNotificationEventRepository.releaseExpiredClaims(3, 100)).thenReturn(0);
+
+        // When
+        reaper.reap();
+
+        // Then
+        verify(notificationRepository, times(3)).releaseExpiredClaims(3, 100);
+        verify(stockNotificationEventRepository, times(1)).releaseExpiredClaims(3, 100);
+    }
+
+    @Test
+    void shouldStillReleaseStockEventsWhenNothingElseExpired() {
+        // Given
+        when(notificationRepository.releaseExpiredClaims(3, 100)).thenReturn(0);
+        when(stockNotificationEventRepository.releaseExpiredClaims(3, 100)).thenReturn(100, 7);
+
+        // When
+        reaper.reap();
+
+        // Then
+        verify(stockNotificationEventRepository, times(2)).releaseExpiredClaims(3, 100);
+    }
+
+    @Test
+    void shouldReleaseScheduledNotificationsWithExpiredLeases() {
+        // Given
+        when(notificationRepository.releaseExpiredClaims(3, 100)).thenReturn(0);
+        when(stockNotificationEventRepository.releaseExpiredClaims(3, 100)).thenReturn(0);
+        when(scheduledNotificationRepository.releaseExpiredClaims(3, 100)).thenReturn(100, 12);
+
+        // When
+        reaper.reap();
+
+        // Then
+        verify(scheduledNotificationRepository, times(2)).releaseExpiredClaims(3, 100);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ozi.notification.infrastructure.service.metrics;
+
+import com.ozi.notification.domain.NotificationException;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.domain.PipelineMetrics;
+import com.ozi.notification.infrastructure.config.PipelineMetricsProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerPipelineMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private MicrometerPipelineMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        PipelineMetricsProperties properties = new PipelineMetricsProperties();
+        properties.setSlo(List.of(Duration.ofMillis(100), Duration.ofSeconds(1)));
+        metrics = new MicrometerPipelineMetrics(registry, properties);
+    }
+
+    @Test
+    void shouldTagStagesWithAllTagsAndDefaultTheUnsetOnes() {
+        // When
+        metrics.start(PipelineMetrics.SEND, "provider")
+                .type(NotificationType.SMS)
+                .provider("SmsNotificationService")
+                .stop(PipelineMetrics.SUCCESS);
+        metrics.start(PipelineMetrics.SQS, "delete").stop(PipelineMetrics.SUCCESS);
+
+        // Then
+        Timer provider = registry.get(MicrometerPipelineMetrics.STAGE_TIMER)
+                .tags("pipeline", "send", "stage", "provider", "type", "SMS",
+                        "provider", "SmsNotificationService", "outcome", "success", "error.class", "none")
+                .timer();
+        Timer delete = registry.get(MicrometerPipelineMetrics.STAGE_TIMER)
+                .tags("pipeline", "sqs", "stage", "delete", "type", "none", "provider", "none")
+                .timer();
+        assertThat(provider.count()).isEqualTo(1);
+        assertThat(delete.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordFailuresUnderTheRootCauseClass() {
+        // When
+        metrics.start(PipelineMetrics.STOCK, "send")
+                .stop(new NotificationException("send failed", new IOException("connection reset")));
+
+        // Then
+        assertThat(registry.get(MicrometerPipelineMetrics.STAGE_TIMER)
+                .tags("stage", "send", "outcome", "failure", "error.class", "IOException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishSloBuckets() {
+        // Given
+        metrics.start(PipelineMetrics.STOCK, "dedup").stop("unique");
+        Timer timer = registry.get(MicrometerPipelineMetrics.STAGE_TIMER).tags("stage", "dedup").timer();
+
+        // When
+        timer.record(500, TimeUnit.MILLISECONDS);
+        CountAtBucket[] buckets = timer.takeSnapshot().histogramCounts();
+
+        // Then
+        assertThat(buckets).extracting(bucket -> bucket.bucket(TimeUnit.MILLISECONDS))
+                .containsExactly(100.0, 1000.0);
+        assertThat(buckets[1].count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountItems() {
+        // When
+        metrics.count(PipelineMetrics.SQS, "receive", "received", 7);
+        metrics.count(PipelineMetrics.SQS, "receive", "received", 3);
+
+        // Then
+        assertThat(registry.get(MicrometerPipelineMetrics.STAGE_ITEMS)
+                .tags("pipeline", "sqs", "stage", "receive", "outcome", "received")
+                .counter().count()).isEqualTo(10.0);
+    }
+}
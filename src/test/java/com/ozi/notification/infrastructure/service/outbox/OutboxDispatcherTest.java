@@ -0,0 +1,149 @@
+package com.ozi.notification.infrastructure.service.outbox;
+
+import com.ozi.notification.domain.*;
+import com.ozi.notification.infrastructure.config.OutboxProperties;
+import com.ozi.notification.infrastructure.repository.NotificationOutboxJdbcRepository;
+import com.ozi.notification.infrastructure.repository.NotificationOutboxJdbcRepository.ClaimedEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTest {
+
+    private NotificationOutboxJdbcRepository outboxRepository;
+    private NotificationRepository notificationRepository;
+    private NotificationServiceProvider notificationServiceProvider;
+    private NotificationHistoryRecorder notificationHistoryRecorder;
+    private OutboxDispatcher dispatcher;
+
+    private final Notification notification =
+            Notification.create(NotificationType.PUSH, "user-1", "Title", "Message");
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(NotificationOutboxJdbcRepository.class);
+        notificationRepository = mock(NotificationRepository.class);
+        notificationServiceProvider = mock(NotificationServiceProvider.class);
+        notificationHistoryRecorder = mock(NotificationHistoryRecorder.class);
+        OutboxProperties properties = new OutboxProperties();
+        properties.setMaxAttempts(2);
+        dispatcher = new OutboxDispatcher(outboxRepository, notificationRepository, notificationServiceProvider,
+                notificationHistoryRecorder, properties);
+    }
+
+    @Test
+    void shouldSendClaimedNotificationAndSaveResult() throws NotificationException {
+        // Given
+        claim(1);
+        when(notificationRepository.claim(notification.getId())).thenReturn(true);
+        when(notificationRepository.findCurrentById(notification.getId())).thenReturn(Optional.of(notification));
+        Notification sent = notification.markAsSent();
+        when(notificationServiceProvider.sendNotification(notification)).thenReturn(sent);
+
+        // When
+        int dispatched = dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(dispatched).isEqualTo(1);
+        verify(notificationRepository).save(sent);
+        verify(notificationHistoryRecorder).record(any());
+        verify(outboxRepository, never()).release(any(), any(), anyBoolean());
+    }
+
+    @Test
+    void shouldAcknowledgeNotificationThatIsNoLongerPending() throws NotificationException {
+        // Given
+        claim(1);
+        when(notificationRepository.claim(notification.getId())).thenReturn(false);
+        when(notificationRepository.findCurrentById(notification.getId())).thenReturn(Optional.of(notification.markAsSent()));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        verify(outboxRepository).ack(notification.getId());
+        verify(notificationServiceProvider, never()).sendNotification(any());
+    }
+
+    @Test
+    void shouldReleaseWithBackoffWhenClaimedNotificationCannotBeFound() throws NotificationException {
+        // Given
+        claim(1);
+        when(notificationRepository.claim(notification.getId())).thenReturn(true);
+        when(notificationRepository.findCurrentById(notification.getId())).thenReturn(Optional.empty());
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        verify(outboxRepository).release(eq(notification.getId()), any(), eq(true));
+        verify(outboxRepository, never()).ack(any());
+        verify(notificationServiceProvider, never()).sendNotification(any());
+    }
+
+    @Test
+    void shouldReleaseUnclaimedNotificationThatCannotBeFound() {
+        // Given
+        claim(1);
+        when(notificationRepository.claim(notification.getId())).thenReturn(false);
+        when(notificationRepository.findCurrentById(notification.getId())).thenReturn(Optional.empty());
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        verify(outboxRepository).release(eq(notification.getId()), any(), eq(true));
+        verify(outboxRepository, never()).ack(any());
+    }
+
+    @Test
+    void shouldRetryWithoutCountingAttemptWhenProviderUnavailable() throws NotificationException {
+        // Given
+        claim(2);
+        when(notificationRepository.claim(notification.getId())).thenReturn(true);
+        when(notificationRepository.findCurrentById(notification.getId())).thenReturn(Optional.of(notification));
+        when(notificationServiceProvider.sendNotification(notification)).thenThrow(
+                new ProviderUnavailableException("circuit open", notification.getId(), NotificationType.PUSH));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        verify(notificationRepository).updateStatusWithError(notification.getId(), NotificationStatus.PENDING, "circuit open");
+        verify(outboxRepository).release(eq(notification.getId()), any(), eq(false));
+    }
+
+    @Test
+    void shouldFailNotificationOnLastAttempt() throws NotificationException {
+        // Given
+        claim(2);
+        when(notificationRepository.claim(notification.getId())).thenReturn(true);
+        when(notificationRepository.findCurrentById(notification.getId())).thenReturn(Optional.of(notification));
+        when(notificationServiceProvider.sendNotification(notification)).thenThrow(
+                new NotificationException("rejected", notification.getId(), NotificationType.PUSH));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        verify(notificationRepository).updateStatusWithError(notification.getId(), NotificationStatus.FAILED, "rejected");
+        verify(outboxRepository, never()).release(any(), any(), anyBoolean());
+    }
+
+    private void claim(int attempts) {
+        when(outboxRepository.claim(anyInt(), any()))
+                .thenReturn(List.of(new ClaimedEntry(notification.getId(), attempts)));
+    }
+}
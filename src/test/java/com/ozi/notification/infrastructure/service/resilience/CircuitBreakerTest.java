@@ -0,0 +1,98 @@
+package com.ozi.notification.infrastructure.service.resilience;
+
+import com.ozi.notification.infrastructure.config.CircuitBreakerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerProperties.Settings settings = new CircuitBreakerProperties.Settings();
+        settings.setSlidingWindowSize(10);
+        settings.setMinimumNumberOfCalls(4);
+        settings.setFailureRateThreshold(50);
+        settings.setSlowCallRateThreshold(100);
+        settings.setSlowCallDuration(Duration.ofSeconds(1));
+        settings.setWaitDurationInOpenState(Duration.ofSeconds(10));
+        settings.setPermittedCallsInHalfOpenState(2);
+        circuitBreaker = new CircuitBreaker("test", settings, clock::get);
+    }
+
+    @Test
+    void shouldOpenWhenFailureRateReachesThreshold() {
+        // When
+        recordCall(false);
+        recordCall(true);
+        recordCall(false);
+        recordCall(true);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void shouldOpenWhenAllCallsAreSlow() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+            long start = circuitBreaker.now();
+            clock.addAndGet(Duration.ofSeconds(2).toNanos());
+            circuitBreaker.onSuccess(start);
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulTrialCalls() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            recordCall(true);
+        }
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // When
+        recordCall(false);
+        recordCall(false);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldReopenWhenTrialCallFails() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            recordCall(true);
+        }
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // When
+        recordCall(true);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void recordCall(boolean failed) {
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        long start = circuitBreaker.now();
+        if (failed) {
+            circuitBreaker.onFailure(start);
+        } else {
+            circuitBreaker.onSuccess(start);
+        }
+    }
+}
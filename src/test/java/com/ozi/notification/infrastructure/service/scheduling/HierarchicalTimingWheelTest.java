@@ -0,0 +1,69 @@
+package com.ozi.notification.infrastructure.service.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void shouldFireTasksInDeadlineOrderNeverEarly() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        wheel.add(START + 250, "b");
+        wheel.add(START + 120, "a");
+        wheel.add(START + 790, "c");
+        List<String> fired = new ArrayList<>();
+
+        // When
+        wheel.advanceTo(START + 249, fired::add);
+        List<String> firedBeforeB = new ArrayList<>(fired);
+        wheel.advanceTo(START + 800, fired::add);
+
+        // Then
+        assertThat(firedBeforeB).containsExactly("a");
+        assertThat(fired).containsExactly("a", "b", "c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldCascadeDeadlinesBeyondFirstLevel() {
+        // Given: level 0 spans 800ms, level 1 6.4s, level 2 51.2s
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        wheel.add(START + 5_000, "level-1");
+        wheel.add(START + 40_000, "level-2");
+        List<String> fired = new ArrayList<>();
+
+        // When
+        wheel.advanceTo(START + 4_999, fired::add);
+        List<String> firedEarly = new ArrayList<>(fired);
+        wheel.advanceTo(START + 5_100, fired::add);
+        wheel.advanceTo(START + 39_999, fired::add);
+        List<String> firedBeforeLevel2 = new ArrayList<>(fired);
+        wheel.advanceTo(START + 40_100, fired::add);
+
+        // Then
+        assertThat(firedEarly).isEmpty();
+        assertThat(firedBeforeLevel2).containsExactly("level-1");
+        assertThat(fired).containsExactly("level-1", "level-2");
+    }
+
+    @Test
+    void shouldRejectTasksThatAreAlreadyDue() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        wheel.advanceTo(START + 1_000, task -> { });
+
+        // When
+        boolean added = wheel.add(START + 500, "late");
+
+        // Then
+        assertThat(added).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ozi.notification.infrastructure.service.sms;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmsBodyTest {
+
+    @Test
+    void shouldFitGsm7TextUpTo160SeptetsInOneSegment() {
+        // When
+        SmsBody single = SmsBody.of("a".repeat(160));
+        SmsBody concatenated = SmsBody.of("a".repeat(161));
+
+        // Then
+        assertThat(single.getEncoding()).isEqualTo(SmsBody.Encoding.GSM7);
+        assertThat(single.getSegments()).isEqualTo(1);
+        assertThat(concatenated.getSegments()).isEqualTo(2);
+        assertThat(SmsBody.of("a".repeat(307)).getSegments()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCountExtensionCharactersAsTwoSeptets() {
+        // When
+        SmsBody body = SmsBody.of("Pay \u20AC10 {now}");
+
+        // Then
+        assertThat(body.getEncoding()).isEqualTo(SmsBody.Encoding.GSM7);
+        assertThat(body.getUnits()).isEqualTo(16);
+    }
+
+    @Test
+    void shouldUseUcs2ForCharactersOutsideGsmAlphabet() {
+        // When
+        SmsBody single = SmsBody.of("\u0906\u092A\u0915\u093E OTP 123456");
+        SmsBody concatenated = SmsBody.of("\uD83D\uDE00" + "a".repeat(69));
+
+        // Then
+        assertThat(single.getEncoding()).isEqualTo(SmsBody.Encoding.UCS2);
+        assertThat(single.getSegments()).isEqualTo(1);
+        assertThat(concatenated.getUnits()).isEqualTo(71);
+        assertThat(concatenated.getSegments()).isEqualTo(2);
+    }
+}
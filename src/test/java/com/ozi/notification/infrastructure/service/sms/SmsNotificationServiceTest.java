@@ -0,0 +1,168 @@
+package com.ozi.notification.infrastructure.service.sms;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ozi.notification.domain.Notification;
+import com.ozi.notification.domain.NotificationException;
+import com.ozi.notification.domain.NotificationStatus;
+import com.ozi.notification.domain.NotificationType;
+import com.ozi.notification.infrastructure.config.SmsProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SmsNotificationServiceTest {
+
+    private static final String REJECTED_NUMBER = "+910000000000";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+    private HttpServer gateway;
+    private SmsProperties properties;
+    private SmsNotificationService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        gateway = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        gateway.createContext("/messages/bulk", this::handleBulkSubmit);
+        gateway.setExecutor(Executors.newFixedThreadPool(4));
+        gateway.start();
+
+        properties = new SmsProperties();
+        properties.setApiUrl("http://localhost:" + gateway.getAddress().getPort());
+        properties.setApiKey("test-key");
+        properties.setSenderId("OZI");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.stopBatcher();
+        }
+        gateway.stop(0);
+    }
+
+    @Test
+    void shouldSubmitConcurrentSendsAsOneBulkRequest() throws Exception {
+        // Given
+        properties.getBatching().setLinger(Duration.ofMillis(500));
+        startService();
+        ExecutorService callers = Executors.newFixedThreadPool(10);
+        List<Future<Notification>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            Notification notification = sms("+9198765432" + String.format("%02d", i), "Your OTP is " + i);
+            results.add(callers.submit(() -> service.sendNotification(notification)));
+        }
+        for (Future<Notification> result : results) {
+            assertThat(result.get().getStatus()).isEqualTo(NotificationStatus.SENT);
+        }
+        callers.shutdown();
+
+        // Then
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).get("messages")).hasSize(10);
+    }
+
+    @Test
+    void shouldFailOnlyTheMessageTheGatewayRejected() {
+        // Given
+        properties.getBatching().setEnabled(false);
+        startService();
+
+        // When & Then
+        assertThatThrownBy(() -> service.sendNotification(sms(REJECTED_NUMBER, "Your OTP is 1234")))
+                .isInstanceOf(NotificationException.class)
+                .hasMessageContaining("Invalid number");
+    }
+
+    @Test
+    void shouldSplitConcurrentSendsAtMaxBatchSizeAndGroupIdenticalTexts() throws Exception {
+        // Given
+        properties.getBatching().setLinger(Duration.ofMillis(500));
+        properties.getBatching().setMaxBatchSize(4);
+        startService();
+        ExecutorService callers = Executors.newFixedThreadPool(11);
+        List<Future<Notification>> accepted = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            Notification notification = sms("+91987654" + String.format("%04d", i), "Back in stock!");
+            accepted.add(callers.submit(() -> service.sendNotification(notification)));
+        }
+        Future<Notification> rejected = callers.submit(() -> service.sendNotification(sms(REJECTED_NUMBER, "Back in stock!")));
+        for (Future<Notification> result : accepted) {
+            assertThat(result.get().getStatus()).isEqualTo(NotificationStatus.SENT);
+        }
+        assertThatThrownBy(rejected::get)
+                .hasCauseInstanceOf(NotificationException.class)
+                .hasMessageContaining("Invalid number");
+        callers.shutdown();
+
+        // Then
+        // Chunks are posted concurrently, so only their sizes are deterministic, not their order
+        assertThat(requests).allSatisfy(request -> assertThat(request.get("messages")).hasSize(1));
+        assertThat(requests).extracting(request -> request.get("messages").get(0).get("destinations").size())
+                .containsExactlyInAnyOrder(4, 4, 3);
+    }
+
+    private void startService() {
+        service = new SmsNotificationService(WebClient.create(), objectMapper, properties);
+        service.startBatcher();
+    }
+
+    private void handleBulkSubmit(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        requests.add(request);
+
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode results = response.putArray("results");
+        for (JsonNode message : request.get("messages")) {
+            for (JsonNode destination : message.get("destinations")) {
+                ObjectNode result = results.addObject();
+                result.put("reference", destination.get("reference").asText());
+                result.put("to", destination.get("to").asText());
+                if (Set.of(REJECTED_NUMBER).contains(destination.get("to").asText())) {
+                    result.put("status", "REJECTED");
+                    result.put("error", "Invalid number");
+                } else {
+                    result.put("status", "ACCEPTED");
+                    result.put("messageId", "msg-" + destination.get("reference").asText());
+                }
+            }
+        }
+
+        byte[] body = objectMapper.writeValueAsBytes(response);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Notification sms(String recipient, String message) {
+        return Notification.create(NotificationType.SMS, recipient, null, message);
+    }
+}